@@ -0,0 +1,78 @@
+package org.lab.osm.connector.benchmark;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.lab.osm.connector.benchmark.model.OrderLine;
+import org.lab.osm.connector.benchmark.support.BenchmarkFixture;
+import org.lab.osm.connector.benchmark.support.StubOracleTypes;
+import org.lab.osm.connector.mapper.ArrayMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import oracle.sql.ARRAY;
+
+/**
+ * {@link ArrayMapper} conversions of small and large collections. The lazy benchmarks measure the latency to the first
+ * element and the iteration of a lazily decoded list (run with <code>-prof gc</code> to compare allocations).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayMapperBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ArrayMapper<OrderLine> mapper;
+	private List<OrderLine> lines;
+	private ARRAY array;
+
+	@Setup
+	public void setup() {
+		mapper = BenchmarkFixture.createMapperService().arrayMapper(OrderLine.class,
+			"BENCH." + StubOracleTypes.ORDER_LINE_LIST);
+		lines = BenchmarkFixture.orderLines(size);
+		array = BenchmarkFixture.orderLineArray(size);
+	}
+
+	@Benchmark
+	public ARRAY toArray() throws SQLException {
+		return mapper.toArray(lines, null);
+	}
+
+	@Benchmark
+	public List<OrderLine> fromArray() throws SQLException {
+		return mapper.fromArray(array);
+	}
+
+	@Benchmark
+	public OrderLine fromArrayLazyFirstElement() throws SQLException {
+		return mapper.fromArrayLazy(array).get(0);
+	}
+
+	@Benchmark
+	public void fromArrayLazyIterate(Blackhole blackhole) throws SQLException {
+		for (OrderLine line : mapper.fromArrayLazy(array)) {
+			blackhole.consume(line);
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+package org.lab.osm.connector.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.lab.osm.connector.benchmark.executor.CustomerInsertExecutor;
+import org.lab.osm.connector.benchmark.support.BenchmarkFixture;
+import org.lab.osm.connector.benchmark.support.StubJdbc;
+import org.lab.osm.connector.handler.StoredProcedureHandlerParameterProcessor;
+import org.lab.osm.connector.handler.StoredProcedureInvocationPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Calls per second of a procedure with a STRUCT input executed one by one compared with
+ * {@link StoredProcedureInvocationPlan#executeBatch(List)}. The stand-in driver waits <code>roundTripMicros</code> per
+ * statement execution (zero measures only the connector overhead).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(BatchInvocationBenchmark.CALLS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchInvocationBenchmark {
+
+	static final int CALLS = 1000;
+
+	@Param({ "0", "200" })
+	private long roundTripMicros;
+
+	private StoredProcedureInvocationPlan plan;
+	private List<Object[]> batchArgs;
+
+	@Setup
+	public void setup() {
+		StoredProcedureHandlerParameterProcessor parameterProcessor = new StoredProcedureHandlerParameterProcessor(
+			BenchmarkFixture.createMapperService());
+		plan = new StoredProcedureInvocationPlan(CustomerInsertExecutor.class,
+			StubJdbc.dataSource(TimeUnit.MICROSECONDS.toNanos(roundTripMicros)), parameterProcessor);
+		batchArgs = new ArrayList<>(CALLS);
+		for (int i = 0; i < CALLS; i++) {
+			batchArgs.add(new Object[] { BenchmarkFixture.customer(i), "benchmark" });
+		}
+	}
+
+	@Benchmark
+	public void singleCalls(Blackhole blackhole) {
+		for (Object[] args : batchArgs) {
+			blackhole.consume(plan.execute(args));
+		}
+	}
+
+	@Benchmark
+	public int[] batch() {
+		return plan.executeBatch(batchArgs);
+	}
+
+}
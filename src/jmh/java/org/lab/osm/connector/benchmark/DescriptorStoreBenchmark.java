@@ -0,0 +1,183 @@
+package org.lab.osm.connector.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Entry;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Kind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Startup cost of reading every stored descriptor: one serialized file per type (SERIALIZED format) compared with a
+ * single {@link BinaryDescriptorStore} file (BINARY format).
+ *
+ * Both formats still deserialize each descriptor with Java serialization, so payloads are object graphs shaped like a
+ * serialized <code>StructDescriptor</code> (type name, type OID, attribute descriptors and nested attribute types):
+ * a real descriptor can not be created without a database connection. The measured times include the
+ * deserialization cost, not only the file I/O.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescriptorStoreBenchmark {
+
+	private static final String DRIVER_VERSION = "benchmark";
+	private static final int ATTRIBUTE_COUNT = 12;
+
+	@Param({ "100", "1000" })
+	private int typeCount;
+
+	private File folder;
+	private File storeFile;
+
+	@Setup
+	public void setup() throws IOException {
+		folder = Files.createTempDirectory("osm-descriptors").toFile();
+		storeFile = new File(folder, "osm-descriptors.bin");
+		BinaryDescriptorStore store = new BinaryDescriptorStore(storeFile, DRIVER_VERSION);
+		Random random = new Random(1);
+		for (int i = 0; i < typeCount; i++) {
+			byte[] payload = serialize(DescriptorGraph.create(typeName(i), ATTRIBUTE_COUNT, random));
+			store.put(new Entry(Kind.STRUCT, typeName(i), Collections.emptyList(), payload));
+			Files.write(new File(folder, typeName(i) + ".ser").toPath(), payload);
+		}
+		store.flush();
+	}
+
+	@TearDown
+	public void tearDown() {
+		FileSystemUtils.deleteRecursively(folder);
+	}
+
+	@Benchmark
+	public int serializedFiles() throws Exception {
+		int total = 0;
+		for (int i = 0; i < typeCount; i++) {
+			try (ObjectInputStream in = new ObjectInputStream(
+				new FileInputStream(new File(folder, typeName(i) + ".ser")))) {
+				total += ((DescriptorGraph) in.readObject()).attributes.size();
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public int binaryStore() throws Exception {
+		BinaryDescriptorStore store = new BinaryDescriptorStore(storeFile, DRIVER_VERSION);
+		int total = 0;
+		for (int i = 0; i < typeCount; i++) {
+			byte[] payload = store.get(Kind.STRUCT, typeName(i)).getPayload();
+			try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+				total += ((DescriptorGraph) in.readObject()).attributes.size();
+			}
+		}
+		return total;
+	}
+
+	private static String typeName(int index) {
+		return "BENCH_TYPE_" + index;
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Serialized state of a <code>StructDescriptor</code>: SQL name, type OID, version, attribute descriptors and the
+	 * descriptors of the user defined attribute types.
+	 */
+	static class DescriptorGraph implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String schema;
+		private final String name;
+		private final byte[] toid;
+		private final int typeVersion;
+		private final List<AttributeDescriptor> attributes;
+
+		DescriptorGraph(String schema, String name, byte[] toid, int typeVersion,
+			List<AttributeDescriptor> attributes) {
+			this.schema = schema;
+			this.name = name;
+			this.toid = toid;
+			this.typeVersion = typeVersion;
+			this.attributes = attributes;
+		}
+
+		static DescriptorGraph create(String name, int attributeCount, Random random) {
+			List<AttributeDescriptor> attributes = new ArrayList<>(attributeCount);
+			for (int i = 0; i < attributeCount; i++) {
+				// One of every four attributes is a nested object type
+				DescriptorGraph nested = i % 4 == 3 ? create(name + "_" + i, 0, random) : null;
+				attributes.add(new AttributeDescriptor("ATTRIBUTE_" + i, nested != null ? nested.name : "VARCHAR2",
+					nested != null ? Types.STRUCT : Types.VARCHAR, random.nextInt(4000), random.nextInt(10), nested));
+			}
+			byte[] toid = new byte[16];
+			random.nextBytes(toid);
+			return new DescriptorGraph("BENCHMARK", name, toid, 1, attributes);
+		}
+	}
+
+	/**
+	 * Serialized state of a STRUCT attribute.
+	 */
+	static class AttributeDescriptor implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String name;
+		private final String typeName;
+		private final int typeCode;
+		private final int precision;
+		private final int scale;
+		private final DescriptorGraph attributeType;
+
+		AttributeDescriptor(String name, String typeName, int typeCode, int precision, int scale,
+			DescriptorGraph attributeType) {
+			this.name = name;
+			this.typeName = typeName;
+			this.typeCode = typeCode;
+			this.precision = precision;
+			this.scale = scale;
+			this.attributeType = attributeType;
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+package org.lab.osm.connector.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.lab.osm.connector.benchmark.model.Customer;
+import org.lab.osm.connector.benchmark.support.BenchmarkFixture;
+import org.lab.osm.connector.mapper.impl.EntityAccessor;
+import org.lab.osm.connector.mapper.impl.EntityPropertyAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+/**
+ * Property access through the generated {@link EntityAccessor} tables compared with a <code>BeanWrapper</code> per
+ * entity (the previous mapper implementation) and with direct calls.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityAccessorBenchmark {
+
+	private EntityAccessor<Customer> accessor;
+	private EntityPropertyAccessor nameProperty;
+	private EntityPropertyAccessor emailProperty;
+	private Customer customer;
+
+	@Setup
+	public void setup() {
+		accessor = EntityAccessor.forClass(Customer.class);
+		nameProperty = accessor.property("name");
+		emailProperty = accessor.property("email");
+		customer = BenchmarkFixture.customer(1);
+	}
+
+	@Benchmark
+	public Customer direct() {
+		Customer target = new Customer();
+		target.setName(customer.getName());
+		target.setEmail(customer.getEmail());
+		return target;
+	}
+
+	@Benchmark
+	public Customer entityAccessor() {
+		Customer target = accessor.newInstance();
+		nameProperty.set(target, nameProperty.get(customer));
+		emailProperty.set(target, emailProperty.get(customer));
+		return target;
+	}
+
+	@Benchmark
+	public Customer beanWrapper() {
+		Customer target = new Customer();
+		BeanWrapper source = new BeanWrapperImpl(customer);
+		BeanWrapper wrapper = new BeanWrapperImpl(target);
+		wrapper.setPropertyValue("name", source.getPropertyValue("name"));
+		wrapper.setPropertyValue("email", source.getPropertyValue("email"));
+		return target;
+	}
+
+}
@@ -0,0 +1,78 @@
+package org.lab.osm.connector.benchmark;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.lab.osm.connector.benchmark.model.OrderLine;
+import org.lab.osm.connector.benchmark.support.BenchmarkFixture;
+import org.lab.osm.connector.benchmark.support.StubOracleTypes;
+import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.impl.ParallelArrayDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import oracle.sql.ARRAY;
+
+/**
+ * Sequential versus parallel decoding of OUT collections of increasing size. The size where both benchmarks cross is
+ * the value to use as <code>parallelDecodeThreshold</code> (it depends on the number of processors and the size of
+ * the decoded structs).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelDecodeBenchmark {
+
+	@Param({ "100", "500", "1000", "5000", "20000", "100000" })
+	private int size;
+
+	@Param({ "0" })
+	private int parallelism;
+
+	private ParallelArrayDecoder decoder;
+	private ArrayMapper<OrderLine> sequentialMapper;
+	private ArrayMapper<OrderLine> parallelMapper;
+	private ARRAY array;
+
+	@Setup
+	public void setup() {
+		String collectionName = "BENCH." + StubOracleTypes.ORDER_LINE_LIST;
+		decoder = new ParallelArrayDecoder(1, parallelism);
+		sequentialMapper = BenchmarkFixture.createMapperService().arrayMapper(OrderLine.class, collectionName);
+		parallelMapper = BenchmarkFixture.createMapperService(decoder).arrayMapper(OrderLine.class, collectionName);
+		array = BenchmarkFixture.orderLineArray(size);
+	}
+
+	@TearDown
+	public void tearDown() {
+		decoder.destroy();
+	}
+
+	@Benchmark
+	public List<OrderLine> sequential() throws SQLException {
+		return sequentialMapper.fromArray(array);
+	}
+
+	@Benchmark
+	public List<OrderLine> parallel() throws SQLException {
+		return parallelMapper.fromArray(array);
+	}
+
+}
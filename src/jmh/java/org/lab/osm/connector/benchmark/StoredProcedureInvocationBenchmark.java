@@ -0,0 +1,64 @@
+package org.lab.osm.connector.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.lab.osm.connector.benchmark.executor.CustomerUpdateExecutor;
+import org.lab.osm.connector.benchmark.support.BenchmarkFixture;
+import org.lab.osm.connector.benchmark.support.StubJdbc;
+import org.lab.osm.connector.handler.StoredProcedureHandlerParameterProcessor;
+import org.lab.osm.connector.handler.StoredProcedureInvocationPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Connector overhead of a stored procedure invocation using a cached {@link StoredProcedureInvocationPlan} compared with
+ * building the procedure on every call (the previous invocation handler behaviour). JDBC calls do nothing.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoredProcedureInvocationBenchmark {
+
+	private DataSource dataSource;
+	private StoredProcedureHandlerParameterProcessor parameterProcessor;
+	private StoredProcedureInvocationPlan plan;
+	private Object[] args;
+
+	@Setup
+	public void setup() {
+		dataSource = StubJdbc.dataSource();
+		parameterProcessor = new StoredProcedureHandlerParameterProcessor(BenchmarkFixture.createMapperService());
+		plan = new StoredProcedureInvocationPlan(CustomerUpdateExecutor.class, dataSource, parameterProcessor);
+		args = new Object[] { BigDecimal.ONE, "Customer 1", "customer1@example.org" };
+	}
+
+	@Benchmark
+	public Map<String, Object> cachedPlan() {
+		return plan.execute(args);
+	}
+
+	@Benchmark
+	public Map<String, Object> planPerInvocation() {
+		return new StoredProcedureInvocationPlan(CustomerUpdateExecutor.class, dataSource, parameterProcessor)
+			.execute(args);
+	}
+
+}
@@ -0,0 +1,81 @@
+package org.lab.osm.connector.benchmark;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.lab.osm.connector.benchmark.model.Customer;
+import org.lab.osm.connector.benchmark.model.Order;
+import org.lab.osm.connector.benchmark.support.BenchmarkFixture;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import oracle.sql.STRUCT;
+
+/**
+ * {@link StructMapper} conversions of a flat entity and of a nested entity (two nested STRUCTs and a collection).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StructMapperBenchmark {
+
+	@Param({ "10", "100" })
+	private int lineCount;
+
+	private StructMapper<Customer> customerMapper;
+	private StructMapper<Order> orderMapper;
+
+	private Customer customer;
+	private Order order;
+	private STRUCT customerStruct;
+	private STRUCT orderStruct;
+
+	@Setup
+	public void setup() {
+		StructMapperService mapperService = BenchmarkFixture.createMapperService();
+		customerMapper = mapperService.mapper(Customer.class);
+		orderMapper = mapperService.mapper(Order.class);
+		customer = BenchmarkFixture.customer(1);
+		order = BenchmarkFixture.order(1, lineCount);
+		customerStruct = BenchmarkFixture.customerStruct(1);
+		orderStruct = BenchmarkFixture.orderStruct(1, lineCount);
+	}
+
+	@Benchmark
+	public STRUCT toStructFlat() throws SQLException {
+		return customerMapper.toStruct(customer, null);
+	}
+
+	@Benchmark
+	public Customer fromStructFlat() throws SQLException {
+		return customerMapper.fromStruct(customerStruct);
+	}
+
+	@Benchmark
+	public STRUCT toStructNested() throws SQLException {
+		return orderMapper.toStruct(order, null);
+	}
+
+	@Benchmark
+	public Order fromStructNested() throws SQLException {
+		return orderMapper.fromStruct(orderStruct);
+	}
+
+}
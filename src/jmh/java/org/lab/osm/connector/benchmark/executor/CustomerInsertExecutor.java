@@ -0,0 +1,15 @@
+package org.lab.osm.connector.benchmark.executor;
+
+import java.sql.Types;
+
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.handler.StoredProcedureExecutor;
+
+@OracleStoredProcedure(name = "SP_CUSTOMER_INSERT", oraclePackage = "BENCH_PACKAGE", owner = "BENCH", parameters = {
+	@OracleParameter(name = "P_CUSTOMER", typeName = "BENCH_CUSTOMER", type = Types.STRUCT, mode = ParameterType.IN),
+	@OracleParameter(name = "P_SOURCE", type = Types.VARCHAR, mode = ParameterType.IN) })
+public interface CustomerInsertExecutor extends StoredProcedureExecutor {
+
+}
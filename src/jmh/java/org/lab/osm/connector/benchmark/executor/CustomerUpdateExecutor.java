@@ -0,0 +1,17 @@
+package org.lab.osm.connector.benchmark.executor;
+
+import java.sql.Types;
+
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.handler.StoredProcedureExecutor;
+
+@OracleStoredProcedure(name = "SP_CUSTOMER_UPDATE", oraclePackage = "BENCH_PACKAGE", owner = "BENCH", parameters = {
+	@OracleParameter(name = "P_ID", type = Types.NUMERIC, mode = ParameterType.IN),
+	@OracleParameter(name = "P_NAME", type = Types.VARCHAR, mode = ParameterType.IN),
+	@OracleParameter(name = "P_EMAIL", type = Types.VARCHAR, mode = ParameterType.IN),
+	@OracleParameter(name = "P_RESULT", type = Types.NVARCHAR, mode = ParameterType.OUT) })
+public interface CustomerUpdateExecutor extends StoredProcedureExecutor {
+
+}
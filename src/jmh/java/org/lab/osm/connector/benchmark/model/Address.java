@@ -0,0 +1,20 @@
+package org.lab.osm.connector.benchmark.model;
+
+import org.lab.osm.connector.annotation.OracleField;
+import org.lab.osm.connector.annotation.OracleStruct;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@OracleStruct("BENCH_ADDRESS")
+@Getter
+@Setter
+public class Address {
+
+	private String street;
+	private String city;
+
+	@OracleField("ZIP_CODE")
+	private String zip;
+
+}
@@ -0,0 +1,22 @@
+package org.lab.osm.connector.benchmark.model;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.lab.osm.connector.annotation.OracleStruct;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@OracleStruct("BENCH_CUSTOMER")
+@Getter
+@Setter
+public class Customer {
+
+	private Long id;
+	private String name;
+	private String email;
+	private Date created;
+	private BigDecimal balance;
+
+}
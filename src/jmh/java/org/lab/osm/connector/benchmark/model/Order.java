@@ -0,0 +1,23 @@
+package org.lab.osm.connector.benchmark.model;
+
+import java.util.List;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.annotation.OracleStruct;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@OracleStruct("BENCH_ORDER")
+@Getter
+@Setter
+public class Order {
+
+	private Long id;
+	private Customer customer;
+	private Address address;
+
+	@OracleCollection("BENCH.BENCH_ORDER_LINE_LIST")
+	private List<OrderLine> lines;
+
+}
@@ -0,0 +1,19 @@
+package org.lab.osm.connector.benchmark.model;
+
+import java.math.BigDecimal;
+
+import org.lab.osm.connector.annotation.OracleStruct;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@OracleStruct("BENCH_ORDER_LINE")
+@Getter
+@Setter
+public class OrderLine {
+
+	private String product;
+	private Integer quantity;
+	private BigDecimal price;
+
+}
@@ -0,0 +1,109 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.lab.osm.connector.benchmark.model.Address;
+import org.lab.osm.connector.benchmark.model.Customer;
+import org.lab.osm.connector.benchmark.model.Order;
+import org.lab.osm.connector.benchmark.model.OrderLine;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.impl.MetadataStructMapperService;
+import org.lab.osm.connector.mapper.impl.ParallelArrayDecoder;
+
+import oracle.sql.ARRAY;
+import oracle.sql.STRUCT;
+
+/**
+ * Builds the mapper service and the sample entities / Oracle values used by the benchmarks.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public final class BenchmarkFixture {
+
+	public static final String MODEL_PACKAGE = "org.lab.osm.connector.benchmark.model";
+
+	private BenchmarkFixture() {
+	}
+
+	public static StructMapperService createMapperService() {
+		return createMapperService(null);
+	}
+
+	public static StructMapperService createMapperService(ParallelArrayDecoder parallelDecoder) {
+		return new MetadataStructMapperService(new StubStructDefinitionService(), new StubMetadataCollector(),
+			new String[] { MODEL_PACKAGE }, new StubOracleTypeFactory(), parallelDecoder);
+	}
+
+	public static Customer customer(long id) {
+		Customer customer = new Customer();
+		customer.setId(id);
+		customer.setName("Customer " + id);
+		customer.setEmail("customer" + id + "@example.org");
+		customer.setCreated(new Date(1_500_000_000_000L + id));
+		customer.setBalance(BigDecimal.valueOf(id * 100, 2));
+		return customer;
+	}
+
+	public static Order order(long id, int lineCount) {
+		Address address = new Address();
+		address.setStreet("Street " + id);
+		address.setCity("City");
+		address.setZip("28001");
+		Order order = new Order();
+		order.setId(id);
+		order.setCustomer(customer(id));
+		order.setAddress(address);
+		order.setLines(orderLines(lineCount));
+		return order;
+	}
+
+	public static List<OrderLine> orderLines(int count) {
+		List<OrderLine> lines = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			OrderLine line = new OrderLine();
+			line.setProduct("Product " + i);
+			line.setQuantity(i % 10 + 1);
+			line.setPrice(BigDecimal.valueOf(i, 2));
+			lines.add(line);
+		}
+		return lines;
+	}
+
+	/**
+	 * Customer STRUCT with the attribute types returned by the Oracle driver.
+	 */
+	public static STRUCT customerStruct(long id) {
+		return StubStruct.of(StubOracleTypes.CUSTOMER, new Object[] { //@formatter:off
+			BigDecimal.valueOf(id),
+			"Customer " + id,
+			"customer" + id + "@example.org",
+			new Timestamp(1_500_000_000_000L + id),
+			BigDecimal.valueOf(id * 100, 2) }); //@formatter:on
+	}
+
+	public static STRUCT orderStruct(long id, int lineCount) {
+		STRUCT address = StubStruct.of(StubOracleTypes.ADDRESS, new Object[] { "Street " + id, "City", "28001" });
+		return StubStruct.of(StubOracleTypes.ORDER, new Object[] { //@formatter:off
+			BigDecimal.valueOf(id),
+			customerStruct(id),
+			address,
+			orderLineArray(lineCount) }); //@formatter:on
+	}
+
+	public static ARRAY orderLineArray(int count) {
+		Object[] elements = new Object[count];
+		for (int i = 0; i < count; i++) {
+			elements[i] = StubStruct.of(StubOracleTypes.ORDER_LINE, new Object[] { //@formatter:off
+				"Product " + i,
+				BigDecimal.valueOf(i % 10 + 1),
+				BigDecimal.valueOf(i, 2) }); //@formatter:on
+		}
+		return StubArray.of(StubOracleTypes.ORDER_LINE_LIST, elements);
+	}
+
+}
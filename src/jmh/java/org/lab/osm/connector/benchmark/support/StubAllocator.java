@@ -0,0 +1,23 @@
+package org.lab.osm.connector.benchmark.support;
+
+import org.springframework.objenesis.SpringObjenesis;
+
+/**
+ * Creates instances without invoking their constructors. Used to build the Oracle driver stand-ins, whose constructors
+ * require a live database connection.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+final class StubAllocator {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	private StubAllocator() {
+	}
+
+	static <T> T allocate(Class<T> type) {
+		return OBJENESIS.newInstance(type);
+	}
+
+}
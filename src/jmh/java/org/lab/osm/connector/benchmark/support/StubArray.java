@@ -0,0 +1,56 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+
+/**
+ * In-memory <code>ARRAY</code> holding its type name and element values.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubArray extends ARRAY {
+
+	private static final long serialVersionUID = 1L;
+
+	private String typeName;
+	private Object[] elements;
+
+	private StubArray() throws SQLException {
+		// Never invoked: instances are created by StubAllocator
+		super((ArrayDescriptor) null, (Connection) null, (Object) null);
+	}
+
+	public static StubArray of(String typeName, Object[] elements) {
+		StubArray array = StubAllocator.allocate(StubArray.class);
+		array.typeName = typeName;
+		array.elements = elements;
+		return array;
+	}
+
+	@Override
+	public String getSQLTypeName() {
+		return typeName;
+	}
+
+	@Override
+	public Object getArray() {
+		return elements;
+	}
+
+	@Override
+	public Object getArray(long index, int count) {
+		int from = (int) index - 1;
+		return Arrays.copyOfRange(elements, from, from + count);
+	}
+
+	@Override
+	public int length() {
+		return elements.length;
+	}
+
+}
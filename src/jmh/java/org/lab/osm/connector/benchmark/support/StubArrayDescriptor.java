@@ -0,0 +1,35 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import oracle.sql.ArrayDescriptor;
+
+/**
+ * In-memory <code>ArrayDescriptor</code> of a {@link StubOracleTypes} collection type.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubArrayDescriptor extends ArrayDescriptor {
+
+	private static final long serialVersionUID = 1L;
+
+	private String typeName;
+
+	private StubArrayDescriptor() throws SQLException {
+		// Never invoked: instances are created by StubAllocator
+		super((String) null, (Connection) null);
+	}
+
+	static StubArrayDescriptor of(String typeName) {
+		StubArrayDescriptor descriptor = StubAllocator.allocate(StubArrayDescriptor.class);
+		descriptor.typeName = typeName;
+		return descriptor;
+	}
+
+	String typeName() {
+		return typeName;
+	}
+
+}
@@ -0,0 +1,89 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC stand-in: a <code>DataSource</code> whose statements execute nothing and return no results, used to measure
+ * the connector overhead of an invocation. Optionally every statement execution (a single call or a whole batch)
+ * waits a fixed time simulating the network round trip.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public final class StubJdbc {
+
+	private StubJdbc() {
+	}
+
+	public static DataSource dataSource() {
+		return dataSource(0L);
+	}
+
+	/**
+	 * @param roundTripNanos Time spent by each statement execution.
+	 */
+	public static DataSource dataSource(long roundTripNanos) {
+		Connection connection = proxy(Connection.class, null, roundTripNanos);
+		return proxy(DataSource.class, connection, roundTripNanos);
+	}
+
+	/**
+	 * Proxy returning the given value for methods of a compatible return type, JDBC "no more results" values and
+	 * defaults otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Object result, long roundTripNanos) {
+		int[] batchCount = new int[1];
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			Class<?> returnType = method.getReturnType();
+			switch (method.getName()) {
+			case "prepareCall":
+				return proxy(CallableStatement.class, null, roundTripNanos);
+			case "getUpdateCount":
+				return -1;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "execute":
+				roundTrip(roundTripNanos);
+				return false;
+			case "addBatch":
+				batchCount[0]++;
+				return null;
+			case "executeBatch":
+				roundTrip(roundTripNanos);
+				int[] counts = new int[batchCount[0]];
+				batchCount[0] = 0;
+				return counts;
+			default:
+				break;
+			}
+			if (returnType.isInstance(result)) {
+				return result;
+			}
+			else if (returnType == boolean.class) {
+				return false;
+			}
+			else if (returnType == int.class) {
+				return 0;
+			}
+			else if (returnType == long.class) {
+				return 0L;
+			}
+			return null;
+		});
+	}
+
+	private static void roundTrip(long nanos) {
+		if (nanos > 0L) {
+			LockSupport.parkNanos(nanos);
+		}
+	}
+
+}
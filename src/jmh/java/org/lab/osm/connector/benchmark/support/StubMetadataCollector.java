@@ -0,0 +1,32 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.impl.AbstractMetadataCollector;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+
+/**
+ * {@link MetadataCollector} reading the Oracle attributes from {@link StubOracleTypes}.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubMetadataCollector extends AbstractMetadataCollector {
+
+	@Override
+	public void readMetadata(MappingMetadata metadata, String packageName) {
+		metadata.registerPackageName(packageName);
+		for (Class<?> structClass : findStructClasses(packageName)) {
+			String typeName = structClass.getAnnotation(OracleStruct.class).value();
+			List<FieldMetadata> fields = StubOracleTypes.attributes(typeName).stream() //@formatter:off
+				.map(x -> createOracleField(x.getName(), x.getTypeName(), x.getClassName(), ""))
+				.collect(Collectors.toList()); //@formatter:on
+			metadata.register(createStructMetadata(structClass, fields));
+		}
+	}
+
+}
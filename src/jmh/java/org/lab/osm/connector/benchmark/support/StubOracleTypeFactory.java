@@ -0,0 +1,30 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.sql.Connection;
+
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
+
+/**
+ * {@link OracleTypeFactory} creating {@link StubStruct} and {@link StubArray} instances.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubOracleTypeFactory implements OracleTypeFactory {
+
+	@Override
+	public STRUCT createStruct(StructDescriptor descriptor, Connection connection, Object[] attributes) {
+		return StubStruct.of(((StubStructDescriptor) descriptor).typeName(), attributes);
+	}
+
+	@Override
+	public ARRAY createArray(ArrayDescriptor descriptor, Connection connection, Object[] elements) {
+		return StubArray.of(((StubArrayDescriptor) descriptor).typeName(), elements);
+	}
+
+}
@@ -0,0 +1,91 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Oracle type model of the benchmarks (the stand-in of the Oracle data dictionary).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public final class StubOracleTypes {
+
+	public static final String CUSTOMER = "BENCH_CUSTOMER";
+	public static final String ADDRESS = "BENCH_ADDRESS";
+	public static final String ORDER = "BENCH_ORDER";
+	public static final String ORDER_LINE = "BENCH_ORDER_LINE";
+	public static final String ORDER_LINE_LIST = "BENCH_ORDER_LINE_LIST";
+
+	private static final String NUMBER = "java.math.BigDecimal";
+	private static final String VARCHAR = "java.lang.String";
+	private static final String DATE = "java.sql.Timestamp";
+	private static final String STRUCT = "oracle.jdbc.OracleStruct";
+	private static final String ARRAY = "oracle.jdbc.OracleArray";
+
+	private static final Map<String, List<Attribute>> STRUCT_TYPES;
+
+	static {
+		Map<String, List<Attribute>> map = new HashMap<>();
+		map.put(CUSTOMER, Arrays.asList( //@formatter:off
+			new Attribute("ID", "NUMBER", NUMBER),
+			new Attribute("NAME", "VARCHAR2", VARCHAR),
+			new Attribute("EMAIL", "VARCHAR2", VARCHAR),
+			new Attribute("CREATED", "DATE", DATE),
+			new Attribute("BALANCE", "NUMBER", NUMBER))); //@formatter:on
+		map.put(ADDRESS, Arrays.asList( //@formatter:off
+			new Attribute("STREET", "VARCHAR2", VARCHAR),
+			new Attribute("CITY", "VARCHAR2", VARCHAR),
+			new Attribute("ZIP_CODE", "VARCHAR2", VARCHAR))); //@formatter:on
+		map.put(ORDER, Arrays.asList( //@formatter:off
+			new Attribute("ID", "NUMBER", NUMBER),
+			new Attribute("CUSTOMER", "BENCH." + CUSTOMER, STRUCT),
+			new Attribute("ADDRESS", "BENCH." + ADDRESS, STRUCT),
+			new Attribute("LINES", "BENCH." + ORDER_LINE_LIST, ARRAY))); //@formatter:on
+		map.put(ORDER_LINE, Arrays.asList( //@formatter:off
+			new Attribute("PRODUCT", "VARCHAR2", VARCHAR),
+			new Attribute("QUANTITY", "NUMBER", NUMBER),
+			new Attribute("PRICE", "NUMBER", NUMBER))); //@formatter:on
+		STRUCT_TYPES = Collections.unmodifiableMap(map);
+	}
+
+	private StubOracleTypes() {
+	}
+
+	/**
+	 * Attributes of a given STRUCT type.
+	 *
+	 * @param typeName
+	 * @return
+	 */
+	public static List<Attribute> attributes(String typeName) {
+		List<Attribute> attributes = STRUCT_TYPES.get(unqualified(typeName));
+		if (attributes == null) {
+			throw new IllegalArgumentException("Undefined stub type " + typeName);
+		}
+		return attributes;
+	}
+
+	static String unqualified(String typeName) {
+		int index = typeName.lastIndexOf('.');
+		return index < 0 ? typeName : typeName.substring(index + 1);
+	}
+
+	/**
+	 * Attribute of a stub type.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Attribute {
+		private final String name;
+		private final String typeName;
+		private final String className;
+	}
+
+}
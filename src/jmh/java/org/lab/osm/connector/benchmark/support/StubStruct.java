@@ -0,0 +1,50 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import oracle.jdbc.internal.OracleConnection;
+import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
+
+/**
+ * In-memory <code>STRUCT</code> holding its type name and attribute values.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubStruct extends STRUCT {
+
+	private static final long serialVersionUID = 1L;
+
+	private String typeName;
+	private Object[] attributes;
+
+	private StubStruct() throws SQLException {
+		// Never invoked: instances are created by StubAllocator
+		super((StructDescriptor) null, (Connection) null, (Object[]) null);
+	}
+
+	public static StubStruct of(String typeName, Object[] attributes) {
+		StubStruct struct = StubAllocator.allocate(StubStruct.class);
+		struct.typeName = typeName;
+		struct.attributes = attributes;
+		return struct;
+	}
+
+	@Override
+	public String getSQLTypeName() {
+		return typeName;
+	}
+
+	@Override
+	public Object[] getAttributes() {
+		return attributes;
+	}
+
+	@Override
+	public OracleConnection getInternalConnection() {
+		return null;
+	}
+
+}
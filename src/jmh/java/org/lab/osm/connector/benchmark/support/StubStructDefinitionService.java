@@ -0,0 +1,30 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.sql.Connection;
+
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.impl.AbstractStructDefinitionService;
+
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.StructDescriptor;
+
+/**
+ * {@link StructDefinitionService} resolving the {@link StubOracleTypes} descriptors (cached as the database backed
+ * implementations).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubStructDefinitionService extends AbstractStructDefinitionService {
+
+	@Override
+	protected StructDescriptor loadStructDescriptor(String typeName, Connection connection) {
+		return StubStructDescriptor.of(StubOracleTypes.unqualified(typeName), StubOracleTypes.attributes(typeName));
+	}
+
+	@Override
+	protected ArrayDescriptor loadArrayDescriptor(String typeName, Connection connection) {
+		return StubArrayDescriptor.of(StubOracleTypes.unqualified(typeName));
+	}
+
+}
@@ -0,0 +1,60 @@
+package org.lab.osm.connector.benchmark.support;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import oracle.sql.StructDescriptor;
+
+/**
+ * In-memory <code>StructDescriptor</code> exposing the attribute names of a {@link StubOracleTypes} type.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class StubStructDescriptor extends StructDescriptor {
+
+	private static final long serialVersionUID = 1L;
+
+	private String typeName;
+	private ResultSetMetaData metaData;
+
+	private StubStructDescriptor() throws SQLException {
+		// Never invoked: instances are created by StubAllocator
+		super((String) null, (Connection) null);
+	}
+
+	static StubStructDescriptor of(String typeName, List<StubOracleTypes.Attribute> attributes) {
+		StubStructDescriptor descriptor = StubAllocator.allocate(StubStructDescriptor.class);
+		descriptor.typeName = typeName;
+		descriptor.metaData = (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+			new Class<?>[] { ResultSetMetaData.class }, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getColumnCount":
+					return attributes.size();
+				case "getColumnLabel":
+				case "getColumnName":
+					return attributes.get((Integer) args[0] - 1).getName();
+				case "getColumnTypeName":
+					return attributes.get((Integer) args[0] - 1).getTypeName();
+				case "getColumnClassName":
+					return attributes.get((Integer) args[0] - 1).getClassName();
+				default:
+					throw new UnsupportedOperationException(method.getName());
+				}
+			});
+		return descriptor;
+	}
+
+	String typeName() {
+		return typeName;
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() {
+		return metaData;
+	}
+
+}
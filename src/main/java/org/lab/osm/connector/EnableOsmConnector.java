@@ -6,6 +6,9 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.mapper.converter.AttributeConverter;
+import org.lab.osm.connector.metadata.NamingStrategy;
+import org.lab.osm.connector.metadata.impl.DefaultNamingStrategy;
 import org.springframework.context.annotation.Import;
 
 /**
@@ -45,10 +48,128 @@ public @interface EnableOsmConnector {
 	 */
 	String serializationPrefix() default StringUtils.EMPTY;
 
+	/**
+	 * Storage format of the Oracle descriptors when <code>serializationFolder</code> is defined (<code>BINARY</code>
+	 * requires it).
+	 * @return
+	 */
+	DescriptorFormat descriptorFormat() default DescriptorFormat.SERIALIZED;
+
+	/**
+	 * Strategy used to read the Oracle metadata of the model when <code>serializationFolder</code> is not defined
+	 * (<code>DICTIONARY</code> can not be combined with it).
+	 * @return
+	 */
+	MetadataLoader metadataLoader() default MetadataLoader.DESCRIPTOR;
+
+	/**
+	 * Strategy used to bind the Oracle attributes with the entity fields (by default ignoring case and underscores).
+	 * @return
+	 */
+	Class<? extends NamingStrategy> namingStrategy() default DefaultNamingStrategy.class;
+
+	/**
+	 * Custom attribute converters (checked before the built-in converters). Converters are created with their no-arg
+	 * constructor.
+	 * @return
+	 */
+	Class<? extends AttributeConverter<?>>[] converters() default {};
+
+	/**
+	 * Maximum number of threads (each one using its own connection) used to read the Oracle metadata at startup
+	 * using <code>StructDescriptor</code> instances.
+	 * @return
+	 */
+	int metadataParallelism() default 1;
+
+	/**
+	 * Publishes execution metrics to the Micrometer <code>MeterRegistry</code> (when present in the classpath and
+	 * defined as a bean).
+	 * @return
+	 */
+	boolean metricsEnabled() default true;
+
+	/**
+	 * Number of threads used by async executor methods. By default the maximum size of the connection pool.
+	 * @return
+	 */
+	int asyncPoolSize() default 0;
+
+	/**
+	 * Number of async invocations waiting for a thread before blocking the callers.
+	 * @return
+	 */
+	int asyncQueueCapacity() default 100;
+
+	/**
+	 * Minimum number of elements of an OUT collection to decode its structs concurrently. By default (<code>0</code>)
+	 * collections are decoded on the calling thread.
+	 * @return
+	 */
+	int parallelDecodeThreshold() default 0;
+
+	/**
+	 * Number of threads used to decode large collections. By default the number of processors.
+	 * @return
+	 */
+	int parallelDecodeParallelism() default 0;
+
+	/**
+	 * Loads the Oracle descriptors and creates the mappers of every model entity and executor parameter when the
+	 * context is refreshed (see <code>OsmWarmup</code>).
+	 * @return
+	 */
+	boolean warmup() default false;
+
+	/**
+	 * Reads the Oracle metadata of each entity (and its nested entities) the first time it is mapped instead of reading
+	 * every model package at startup. Useful for short-lived applications using a small part of the model.
+	 * @return
+	 */
+	boolean lazyMetadata() default false;
+
+	/**
+	 * Maximum number of threads (and connections) used to load the Oracle descriptors during the warm-up.
+	 * @return
+	 */
+	int warmupParallelism() default 4;
+
 	/**
 	 * Optional database name (when using multiple DataSource beans).
 	 * @return
 	 */
 	String dataBaseName() default StringUtils.EMPTY;
 
+	/**
+	 * Storage format of serialized Oracle descriptors.
+	 */
+	public enum DescriptorFormat {
+
+		/**
+		 * One java serialization file per Oracle type.
+		 */
+		SERIALIZED,
+
+		/**
+		 * Single binary file with every Oracle type.
+		 */
+		BINARY
+	}
+
+	/**
+	 * Oracle metadata loading strategy.
+	 */
+	public enum MetadataLoader {
+
+		/**
+		 * One <code>StructDescriptor</code> per Oracle type.
+		 */
+		DESCRIPTOR,
+
+		/**
+		 * Set-based queries against the Oracle data dictionary.
+		 */
+		DICTIONARY
+	}
+
 }
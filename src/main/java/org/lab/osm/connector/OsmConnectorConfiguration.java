@@ -7,23 +7,38 @@ import java.util.List;
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.EnableOsmConnector.DescriptorFormat;
+import org.lab.osm.connector.EnableOsmConnector.MetadataLoader;
+import org.lab.osm.connector.cache.OsmResultCacheManager;
 import org.lab.osm.connector.exception.OsmConnectorException;
 import org.lab.osm.connector.handler.OracleStoredProcedureAnnotationProcessor;
+import org.lab.osm.connector.handler.StoredProcedureAsyncExecutor;
 import org.lab.osm.connector.handler.StoredProcedureHandlerParameterProcessor;
 import org.lab.osm.connector.mapper.StructDefinitionService;
 import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.converter.AttributeConverterRegistry;
+import org.lab.osm.connector.mapper.impl.BinaryStructDefinitionService;
+import org.lab.osm.connector.mapper.impl.DefaultOracleTypeFactory;
 import org.lab.osm.connector.mapper.impl.DefaultStructDefinitionService;
 import org.lab.osm.connector.mapper.impl.MetadataStructMapperService;
+import org.lab.osm.connector.mapper.impl.ParallelArrayDecoder;
 import org.lab.osm.connector.mapper.impl.SerializedStructDefinitionService;
+import org.lab.osm.connector.metadata.LazyMetadataCollector;
 import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.NamingStrategy;
 import org.lab.osm.connector.metadata.impl.DefaultMetadataCollector;
+import org.lab.osm.connector.metadata.impl.DictionaryMetadataCollector;
 import org.lab.osm.connector.metadata.impl.JsonMetadataCollector;
+import org.lab.osm.connector.metrics.OsmMetrics;
+import org.lab.osm.connector.metrics.OsmMetricsFactoryBean;
 import org.lab.osm.connector.validator.PackageNameValidator;
 import org.lab.osm.connector.validator.SerializationPrefixValidator;
+import org.lab.osm.connector.warmup.OsmWarmup;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.ManagedList;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.ResolvableType;
@@ -40,11 +55,18 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * Registers the following beans (provided they have not been defined):
  * <ul>
+ * <li>{@link NamingStrategy}</li>
+ * <li>{@link AttributeConverterRegistry}</li>
  * <li>{@link MetadataCollector}</li>
  * <li>{@link StructDefinitionService}</li>
  * <li>{@link StructMapperService}</li>
  * <li>{@link OracleStoredProcedureAnnotationProcessor}</li>
  * <li>{@link StoredProcedureHandlerParameterProcessor}</li>
+ * <li>{@link OsmMetrics}</li>
+ * <li>{@link StoredProcedureAsyncExecutor} (lazy, created by the first executor declaring async methods)</li>
+ * <li>{@link OsmResultCacheManager} (lazy, created by the first cacheable executor)</li>
+ * <li>{@link ParallelArrayDecoder} (when <code>parallelDecodeThreshold</code> is defined)</li>
+ * <li>{@link OsmWarmup} (when <code>warmup</code> is enabled)</li>
  * </ul>
  * 
  * @author lab.cabrera@gmail.com
@@ -71,18 +93,46 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 		String dataBaseName = attributes.getString("dataBaseName");
 		String serializationFolder = attributes.getString("serializationFolder");
 		String serializationPrefix = attributes.getString("serializationPrefix");
+		DescriptorFormat descriptorFormat = attributes.getEnum("descriptorFormat");
+		MetadataLoader metadataLoader = attributes.getEnum("metadataLoader");
+		Class<? extends NamingStrategy> namingStrategy = attributes.getClass("namingStrategy");
+		Class<?>[] converters = attributes.getClassArray("converters");
+		int metadataParallelism = attributes.<Integer> getNumber("metadataParallelism");
+		boolean metricsEnabled = attributes.getBoolean("metricsEnabled");
+		int asyncPoolSize = attributes.<Integer> getNumber("asyncPoolSize");
+		int asyncQueueCapacity = attributes.<Integer> getNumber("asyncQueueCapacity");
+		int parallelDecodeThreshold = attributes.<Integer> getNumber("parallelDecodeThreshold");
+		int parallelDecodeParallelism = attributes.<Integer> getNumber("parallelDecodeParallelism");
+		boolean warmup = attributes.getBoolean("warmup");
+		int warmupParallelism = attributes.<Integer> getNumber("warmupParallelism");
+		boolean lazyMetadata = attributes.getBoolean("lazyMetadata");
 
-		validateConfiguration(modelPackages, executorPackages, serializationFolder, serializationPrefix);
+		validateConfiguration(modelPackages, executorPackages, serializationFolder, serializationPrefix,
+			descriptorFormat, metadataLoader, metadataParallelism, asyncPoolSize, asyncQueueCapacity,
+			parallelDecodeThreshold, parallelDecodeParallelism, warmupParallelism);
 
 		log.info("Configuring OSM connector. Model packages {}, procedure packages: {}", modelPackages,
 			executorPackages);
 
 		DefaultListableBeanFactory beanFactory = (DefaultListableBeanFactory) registry;
 		processOracleRepositoryAnnotationProcessor(beanFactory, executorPackages);
-		processMetadataCollector(beanFactory, dataBaseName, serializationFolder, serializationPrefix);
-		processStructDefinitionService(beanFactory, serializationFolder, serializationPrefix);
-		processMetadataStructMapperService(beanFactory, modelPackages);
+		processNamingStrategy(beanFactory, namingStrategy);
+		processAttributeConverterRegistry(beanFactory, converters);
+		processMetadataCollector(beanFactory, dataBaseName, serializationFolder, serializationPrefix, metadataLoader,
+			metadataParallelism);
+		if (lazyMetadata) {
+			validateLazyMetadataCollector(beanFactory);
+		}
+		processStructDefinitionService(beanFactory, serializationFolder, serializationPrefix, descriptorFormat);
+		processMetadataStructMapperService(beanFactory, modelPackages, parallelDecodeThreshold,
+			parallelDecodeParallelism, lazyMetadata);
 		processStoredProcedureHandlerParameterProcessor(beanFactory);
+		processOsmMetrics(beanFactory, metricsEnabled);
+		processStoredProcedureAsyncExecutor(beanFactory, dataBaseName, asyncPoolSize, asyncQueueCapacity);
+		processOsmResultCacheManager(beanFactory);
+		if (warmup) {
+			processOsmWarmup(beanFactory, dataBaseName, executorPackages, warmupParallelism);
+		}
 	}
 
 	private void processOracleRepositoryAnnotationProcessor(DefaultListableBeanFactory beanFactory,
@@ -100,20 +150,63 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 		beanFactory.registerBeanDefinition(beanName, beanDefinition);
 	}
 
+	private void processNamingStrategy(DefaultListableBeanFactory beanFactory,
+		Class<? extends NamingStrategy> namingStrategy) {
+		String[] names = beanFactory.getBeanNamesForType(NamingStrategy.class);
+		if (names.length > 0) {
+			return;
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, NamingStrategy.class.getSimpleName());
+		String beanName = getBeanName(NamingStrategy.class);
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(namingStrategy)
+			.getBeanDefinition(); //@formatter:on
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	private void processAttributeConverterRegistry(DefaultListableBeanFactory beanFactory, Class<?>[] converters) {
+		String[] names = beanFactory.getBeanNamesForType(AttributeConverterRegistry.class);
+		if (names.length > 0) {
+			return;
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, AttributeConverterRegistry.class.getSimpleName());
+		String beanName = getBeanName(AttributeConverterRegistry.class);
+		ManagedList<BeanDefinition> converterDefinitions = new ManagedList<>();
+		for (Class<?> converter : converters) {
+			converterDefinitions.add(BeanDefinitionBuilder.genericBeanDefinition(converter).getBeanDefinition());
+		}
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(AttributeConverterRegistry.class)
+			.addConstructorArgValue(converterDefinitions)
+			.getBeanDefinition(); //@formatter:on
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
 	private void processMetadataCollector(DefaultListableBeanFactory beanFactory, String customDataSourceBeanName,
-		String serializationFolder, String serializationPrefix) {
+		String serializationFolder, String serializationPrefix, MetadataLoader metadataLoader,
+		int metadataParallelism) {
 		String[] names = beanFactory.getBeanNamesForType(MetadataCollector.class);
 		if (names.length > 0) {
 			return;
 		}
 		log.debug(MSG_NEW_BEAN_DEFINITION, MetadataCollector.class.getSimpleName());
 		String dataSourceName = resolveDataSourceName(beanFactory, customDataSourceBeanName);
+		String namingStrategyBeanName = getBeanName(beanFactory, NamingStrategy.class);
 		BeanDefinition beanDefinition;
 		String beanName = getBeanName(MetadataCollector.class);
-		if (StringUtils.isBlank(serializationFolder)) {
+		if (StringUtils.isBlank(serializationFolder) && metadataLoader == MetadataLoader.DICTIONARY) {
+			beanDefinition = BeanDefinitionBuilder // @formatter:off
+				.genericBeanDefinition(DictionaryMetadataCollector.class)
+				.addConstructorArgReference(dataSourceName)
+				.addPropertyReference("namingStrategy", namingStrategyBeanName)
+				.getBeanDefinition(); //@formatter:on
+		}
+		else if (StringUtils.isBlank(serializationFolder)) {
 			beanDefinition = BeanDefinitionBuilder // @formatter:off
 				.genericBeanDefinition(DefaultMetadataCollector.class)
 				.addConstructorArgReference(dataSourceName)
+				.addConstructorArgValue(metadataParallelism)
+				.addPropertyReference("namingStrategy", namingStrategyBeanName)
 				.getBeanDefinition(); //@formatter:on
 		}
 		else {
@@ -124,12 +217,15 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 				.addConstructorArgReference(objectMapperBeanName)
 				.addConstructorArgValue(serializationFolder)
 				.addConstructorArgValue(serializationPrefix)
+				.addConstructorArgValue(metadataParallelism)
+				.addPropertyReference("namingStrategy", namingStrategyBeanName)
 				.getBeanDefinition(); //@formatter:on
 		}
 		beanFactory.registerBeanDefinition(beanName, beanDefinition);
 	}
 
-	private void processMetadataStructMapperService(DefaultListableBeanFactory beanFactory, String[] modelPackages) {
+	private void processMetadataStructMapperService(DefaultListableBeanFactory beanFactory, String[] modelPackages,
+		int parallelDecodeThreshold, int parallelDecodeParallelism, boolean lazyMetadata) {
 		String[] names = beanFactory.getBeanNamesForType(StructMapperService.class);
 		if (names.length > 0) {
 			return;
@@ -138,17 +234,43 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 		String definitionServiceBeanName = getBeanName(beanFactory, StructDefinitionService.class);
 		String metadataCollectorBeanName = getBeanName(beanFactory, MetadataCollector.class);
 		String beanName = getBeanName(MetadataStructMapperService.class);
-		BeanDefinition beanDef = BeanDefinitionBuilder // @formatter:off
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder // @formatter:off
 			.genericBeanDefinition(MetadataStructMapperService.class)
 			.addConstructorArgReference(definitionServiceBeanName)
 			.addConstructorArgReference(metadataCollectorBeanName)
 			.addConstructorArgValue(modelPackages)
+			.addConstructorArgValue(new DefaultOracleTypeFactory()); //@formatter:on
+		if (parallelDecodeThreshold > 0) {
+			builder.addConstructorArgReference(
+				processParallelArrayDecoder(beanFactory, parallelDecodeThreshold, parallelDecodeParallelism));
+		}
+		else {
+			builder.addConstructorArgValue(null);
+		}
+		builder.addConstructorArgValue(lazyMetadata);
+		builder.addConstructorArgReference(getBeanName(beanFactory, AttributeConverterRegistry.class));
+		beanFactory.registerBeanDefinition(beanName, builder.getBeanDefinition());
+	}
+
+	private String processParallelArrayDecoder(DefaultListableBeanFactory beanFactory, int parallelDecodeThreshold,
+		int parallelDecodeParallelism) {
+		String[] names = beanFactory.getBeanNamesForType(ParallelArrayDecoder.class);
+		if (names.length > 0) {
+			return names[0];
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, ParallelArrayDecoder.class.getSimpleName());
+		String beanName = getBeanName(ParallelArrayDecoder.class);
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(ParallelArrayDecoder.class)
+			.addConstructorArgValue(parallelDecodeThreshold)
+			.addConstructorArgValue(parallelDecodeParallelism)
 			.getBeanDefinition(); //@formatter:on
-		beanFactory.registerBeanDefinition(beanName, beanDef);
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+		return beanName;
 	}
 
 	private void processStructDefinitionService(DefaultListableBeanFactory beanFactory, String serializationFolder,
-		String serializationPrefix) {
+		String serializationPrefix, DescriptorFormat descriptorFormat) {
 		String[] names = beanFactory.getBeanNamesForType(StructDefinitionService.class);
 		if (names.length > 0) {
 			return;
@@ -161,6 +283,13 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 				.genericBeanDefinition(DefaultStructDefinitionService.class)
 				.getBeanDefinition(); //@formatter:on
 		}
+		else if (descriptorFormat == DescriptorFormat.BINARY) {
+			beanDefinition = BeanDefinitionBuilder // @formatter:off
+				.genericBeanDefinition(BinaryStructDefinitionService.class)
+				.addConstructorArgValue(serializationFolder)
+				.addConstructorArgValue(serializationPrefix)
+				.getBeanDefinition(); //@formatter:on
+		}
 		else {
 			beanDefinition = BeanDefinitionBuilder // @formatter:off
 				.genericBeanDefinition(SerializedStructDefinitionService.class)
@@ -186,6 +315,73 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 		beanFactory.registerBeanDefinition(beanName, beanDefinition);
 	}
 
+	private void processOsmMetrics(DefaultListableBeanFactory beanFactory, boolean metricsEnabled) {
+		String[] names = beanFactory.getBeanNamesForType(OsmMetrics.class);
+		if (names.length > 0) {
+			return;
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, OsmMetrics.class.getSimpleName());
+		String beanName = getBeanName(OsmMetrics.class);
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(OsmMetricsFactoryBean.class)
+			.addPropertyValue("enabled", metricsEnabled)
+			.getBeanDefinition(); //@formatter:on
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	private void processStoredProcedureAsyncExecutor(DefaultListableBeanFactory beanFactory,
+		String customDataSourceBeanName, int asyncPoolSize, int asyncQueueCapacity) {
+		String[] names = beanFactory.getBeanNamesForType(StoredProcedureAsyncExecutor.class);
+		if (names.length > 0) {
+			return;
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, StoredProcedureAsyncExecutor.class.getSimpleName());
+		String beanName = getBeanName(StoredProcedureAsyncExecutor.class);
+		String dataSourceName = resolveDataSourceName(beanFactory, customDataSourceBeanName);
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(StoredProcedureAsyncExecutor.class)
+			.addConstructorArgReference(dataSourceName)
+			.addConstructorArgValue(asyncPoolSize)
+			.addConstructorArgValue(asyncQueueCapacity)
+			.setLazyInit(true)
+			.getBeanDefinition(); //@formatter:on
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	private void processOsmResultCacheManager(DefaultListableBeanFactory beanFactory) {
+		String[] names = beanFactory.getBeanNamesForType(OsmResultCacheManager.class);
+		if (names.length > 0) {
+			return;
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, OsmResultCacheManager.class.getSimpleName());
+		String beanName = getBeanName(OsmResultCacheManager.class);
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(OsmResultCacheManager.class)
+			.setLazyInit(true)
+			.getBeanDefinition(); //@formatter:on
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
+	private void processOsmWarmup(DefaultListableBeanFactory beanFactory, String customDataSourceBeanName,
+		String[] executorPackages, int warmupParallelism) {
+		String[] names = beanFactory.getBeanNamesForType(OsmWarmup.class);
+		if (names.length > 0) {
+			return;
+		}
+		log.debug(MSG_NEW_BEAN_DEFINITION, OsmWarmup.class.getSimpleName());
+		String beanName = getBeanName(OsmWarmup.class);
+		String dataSourceName = resolveDataSourceName(beanFactory, customDataSourceBeanName);
+		BeanDefinition beanDefinition = BeanDefinitionBuilder // @formatter:off
+			.genericBeanDefinition(OsmWarmup.class)
+			.addConstructorArgReference(dataSourceName)
+			.addConstructorArgReference(getBeanName(beanFactory, StructDefinitionService.class))
+			.addConstructorArgReference(getBeanName(beanFactory, StructMapperService.class))
+			.addConstructorArgValue(executorPackages)
+			.addConstructorArgValue(warmupParallelism)
+			.getBeanDefinition(); //@formatter:on
+		beanFactory.registerBeanDefinition(beanName, beanDefinition);
+	}
+
 	private String resolveDataSourceName(DefaultListableBeanFactory beanFactory, String customDataSourceBeanName) {
 		return StringUtils.isBlank(customDataSourceBeanName) ? getBeanName(beanFactory, DataSource.class)
 			: customDataSourceBeanName;
@@ -207,8 +403,24 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 		return names[0];
 	}
 
+	/**
+	 * Custom collectors must implement {@link LazyMetadataCollector} to load the metadata lazily. Collectors whose
+	 * class can not be resolved yet are checked when the struct mapper service is created.
+	 */
+	private void validateLazyMetadataCollector(DefaultListableBeanFactory beanFactory) {
+		for (String name : beanFactory.getBeanNamesForType(MetadataCollector.class)) {
+			Class<?> type = beanFactory.getType(name);
+			if (type != null && !type.isInterface() && !LazyMetadataCollector.class.isAssignableFrom(type)) {
+				throw new OsmConnectorException("Lazy metadata loading is not supported by collector " + name + " ("
+					+ type.getName() + "): it must implement " + LazyMetadataCollector.class.getSimpleName());
+			}
+		}
+	}
+
 	private void validateConfiguration(String[] modelPackages, String[] executorPackages, String serializationFolder,
-		String serializationPrefix) {
+		String serializationPrefix, DescriptorFormat descriptorFormat, MetadataLoader metadataLoader,
+		int metadataParallelism, int asyncPoolSize, int asyncQueueCapacity, int parallelDecodeThreshold,
+		int parallelDecodeParallelism, int warmupParallelism) {
 		if (modelPackages == null || modelPackages.length < 1) {
 			throw new OsmConnectorException("No modelPackages defined in @EnableOsmConnector annotation");
 		}
@@ -218,6 +430,31 @@ public class OsmConnectorConfiguration implements ImportBeanDefinitionRegistrar
 		else if (StringUtils.isBlank(serializationFolder) && StringUtils.isNotBlank(serializationPrefix)) {
 			throw new OsmConnectorException("Serialization prefix requires a valid serializationFolder");
 		}
+		else if (StringUtils.isBlank(serializationFolder) && descriptorFormat == DescriptorFormat.BINARY) {
+			throw new OsmConnectorException("Binary descriptorFormat requires a valid serializationFolder");
+		}
+		else if (StringUtils.isNotBlank(serializationFolder) && metadataLoader == MetadataLoader.DICTIONARY) {
+			throw new OsmConnectorException(
+				"Dictionary metadataLoader can not be used with serializationFolder (metadata is read from files)");
+		}
+		else if (metadataParallelism < 1) {
+			throw new OsmConnectorException("Invalid metadataParallelism in @EnableOsmConnector annotation: "
+				+ metadataParallelism);
+		}
+		else if (asyncPoolSize < 0 || asyncQueueCapacity < 0) {
+			throw new OsmConnectorException(String.format(
+				"Invalid async configuration in @EnableOsmConnector annotation: pool size %s, queue capacity %s",
+				asyncPoolSize, asyncQueueCapacity));
+		}
+		else if (parallelDecodeThreshold < 0 || parallelDecodeParallelism < 0) {
+			throw new OsmConnectorException(String.format("Invalid parallel decode configuration in "
+				+ "@EnableOsmConnector annotation: threshold %s, parallelism %s", parallelDecodeThreshold,
+				parallelDecodeParallelism));
+		}
+		else if (warmupParallelism < 1) {
+			throw new OsmConnectorException("Invalid warmupParallelism in @EnableOsmConnector annotation: "
+				+ warmupParallelism);
+		}
 		PackageNameValidator packageValidator = new PackageNameValidator();
 		List<String> packages = new ArrayList<>();
 		packages.addAll(Arrays.asList(modelPackages));
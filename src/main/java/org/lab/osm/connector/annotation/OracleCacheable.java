@@ -0,0 +1,56 @@
+package org.lab.osm.connector.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of a read-only stored procedure / function.
+ * 
+ * This notation applies to an interface annotated with {@link OracleStoredProcedure}. Results are cached in memory
+ * using a copy of the input arguments (compared with <code>equals</code>) as key, so arguments must be value types
+ * (strings, numbers, dates, enums and arrays of them) and <code>STRUCT</code> or <code>ARRAY</code> input parameters
+ * are not supported:
+ * 
+ * <pre>
+ * &#64;OracleStoredProcedure(name = "FIND_TARIFF", parameters = { ... })
+ * &#64;OracleCacheable(ttl = 1, timeUnit = TimeUnit.HOURS, maxSize = 500)
+ * public interface TariffExecutor extends StoredProcedureExecutor {
+ * }
+ * </pre>
+ * 
+ * Cached results (as well as coalesced results, see {@link OracleStoredProcedure#coalesce()}) are shared by every
+ * caller so they must not be modified: output parameter maps and their lists are read-only, but typed results,
+ * entities and java arrays are the same instances for every caller. The cache is bounded by number of results (not by
+ * their size). Caches can be invalidated using the {@link org.lab.osm.connector.cache.OsmResultCacheManager} bean.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @see org.lab.osm.connector.cache.ProcedureResultCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface OracleCacheable {
+
+	/**
+	 * Time to live of the cached results.
+	 * @return
+	 */
+	long ttl() default 300;
+
+	/**
+	 * Time unit of the <code>ttl</code>.
+	 * @return
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * Maximum number of cached results. The least recently used results are evicted first.
+	 * @return
+	 */
+	int maxSize() default 1000;
+
+}
@@ -43,11 +43,22 @@ public @interface OracleParameter {
 	ParameterType mode();
 
 	/**
-	 * Entity class to map execution results.
+	 * Entity class to map execution results. Output ARRAY parameters of scalar values (<code>TABLE OF NUMBER</code>,
+	 * <code>TABLE OF VARCHAR2</code>...) may use <code>long[]</code>, <code>int[]</code>, <code>double[]</code> or
+	 * <code>String[]</code>.
 	 * @return
 	 */
 	Class<?> returnStructClass() default UnmappedClass.class;
 
+	/**
+	 * Returns output ARRAY parameters as a list that decodes its elements on access instead of converting the whole
+	 * collection (see <code>LazyStructList</code>). The list reads its elements through the connection of the
+	 * invocation, so the procedure must be invoked inside a transaction and executors with lazy parameters can not be
+	 * cacheable, coalesced nor declare async methods.
+	 * @return
+	 */
+	boolean lazy() default false;
+
 	/**
 	 * Default <code>OracleParameter.returnStructClass</code>.
 	 * 
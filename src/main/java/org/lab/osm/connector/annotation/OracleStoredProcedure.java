@@ -68,4 +68,12 @@ public @interface OracleStoredProcedure {
 	 */
 	OracleParameter[] parameters() default {};
 
+	/**
+	 * Coalesces concurrent invocations with equal input arguments in a single execution whose result is shared by
+	 * every caller (see {@link org.lab.osm.connector.cache.InFlightInvocations}). As with
+	 * {@link OracleCacheable}, input arguments must be value types.
+	 * @return
+	 */
+	boolean coalesce() default false;
+
 }
@@ -0,0 +1,113 @@
+package org.lab.osm.connector.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces concurrent invocations with equal input arguments (single flight): the first caller executes the procedure
+ * and the callers arriving while it is running wait for and receive the same result (or exception).
+ * 
+ * Results are shared by every coalesced caller so they must not be modified (see
+ * {@link org.lab.osm.connector.annotation.OracleCacheable}). Once the execution finishes the next invocation executes
+ * the procedure again. Invocations are keyed by a copy of their arguments, which must be value types.
+ * 
+ * Instances are thread-safe.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class InFlightInvocations {
+
+	@Getter
+	private final String name;
+
+	private final ConcurrentMap<InvocationKey, CompletableFuture<Object>> calls;
+	private final LongAdder coalescedCount;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param name Name used in log traces (usually the executor interface name).
+	 */
+	public InFlightInvocations(@NonNull String name) {
+		this.name = name;
+		this.calls = new ConcurrentHashMap<>();
+		this.coalescedCount = new LongAdder();
+	}
+
+	/**
+	 * Executes the given invocation or waits for an equal invocation already in progress.
+	 * 
+	 * @param discriminator Invocation discriminator (for example the executor method).
+	 * @param args Input arguments.
+	 * @param execution Procedure execution.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R execute(Object discriminator, Object[] args, Supplier<R> execution) {
+		InvocationKey key = InvocationKey.of(discriminator, args);
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = calls.putIfAbsent(key, future);
+		if (inFlight != null) {
+			coalescedCount.increment();
+			log.trace("Joining in-flight invocation of {}", name);
+			return (R) await(inFlight);
+		}
+		try {
+			R result = execution.get();
+			future.complete(result);
+			return result;
+		}
+		catch (RuntimeException | Error ex) {
+			future.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			calls.remove(key, future);
+		}
+	}
+
+	/**
+	 * Number of invocations in progress.
+	 * 
+	 * @return
+	 */
+	public int getInFlightCount() {
+		return calls.size();
+	}
+
+	/**
+	 * Number of invocations that have received the result of another in-flight invocation.
+	 * 
+	 * @return
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.sum();
+	}
+
+	private Object await(CompletableFuture<Object> inFlight) {
+		try {
+			return inFlight.join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+	}
+
+}
@@ -0,0 +1,107 @@
+package org.lab.osm.connector.cache;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+
+import lombok.Getter;
+
+/**
+ * Key of a stored procedure invocation: discriminator (usually the executor method) and input arguments compared with
+ * <code>Arrays.deepEquals</code>.
+ *
+ * Keys hold a snapshot of the arguments, so changes made by the caller after the invocation do not alter stored keys.
+ * Only value types are supported: strings, numbers, booleans, characters, enums, <code>java.time</code> values and
+ * dates and arrays of them (copied).
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Getter
+class InvocationKey {
+
+	private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+		Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+		BigDecimal.class, BigInteger.class, UUID.class));
+
+	private final Object discriminator;
+	private final Object[] args;
+	private final int hash;
+
+	private InvocationKey(Object discriminator, Object[] args) {
+		this.discriminator = discriminator;
+		this.args = args;
+		this.hash = 31 * discriminator.hashCode() + Arrays.deepHashCode(args);
+	}
+
+	/**
+	 * Creates the key of an invocation from a snapshot of its arguments.
+	 *
+	 * @param discriminator
+	 * @param args
+	 * @return
+	 * @throws OsmConnectorException if an argument is not a value type.
+	 */
+	static InvocationKey of(Object discriminator, Object[] args) {
+		return new InvocationKey(discriminator, args != null ? (Object[]) snapshot(args) : new Object[0]);
+	}
+
+	private static Object snapshot(Object value) {
+		if (value == null) {
+			return null;
+		}
+		Class<?> type = value.getClass();
+		if (VALUE_TYPES.contains(type) || value instanceof Enum || type.getName().startsWith("java.time.")) {
+			return value;
+		}
+		else if (value instanceof Date) {
+			return ((Date) value).clone();
+		}
+		else if (type.isArray()) {
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(type.getComponentType(), length);
+			if (type.getComponentType().isPrimitive()) {
+				System.arraycopy(value, 0, copy, 0, length);
+			}
+			else {
+				for (int i = 0; i < length; i++) {
+					Array.set(copy, i, snapshot(Array.get(value, i)));
+				}
+			}
+			return copy;
+		}
+		throw new OsmConnectorException("Cant use an argument of type " + type.getName()
+			+ " as cached or coalesced invocation key: only value types are supported");
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof InvocationKey)) {
+			return false;
+		}
+		InvocationKey other = (InvocationKey) obj;
+		return hash == other.hash && discriminator.equals(other.discriminator) && Arrays.deepEquals(args, other.args);
+	}
+
+}
@@ -0,0 +1,99 @@
+package org.lab.osm.connector.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.lab.osm.connector.annotation.OracleCacheable;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of the result caches of the executors annotated with {@link OracleCacheable}. Provides the invalidation
+ * hooks and the statistics of every cache.
+ * 
+ * <pre>
+ * &#64;Autowired
+ * private OsmResultCacheManager cacheManager;
+ * 
+ * public void onTariffsUpdated(String productCode) {
+ * 	cacheManager.invalidate(TariffExecutor.class, productCode);
+ * }
+ * </pre>
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class OsmResultCacheManager {
+
+	private final ConcurrentMap<Class<?>, ProcedureResultCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets (or creates) the cache of a given executor.
+	 * 
+	 * @param executorClass Executor interface.
+	 * @param cacheable Cache definition.
+	 * @return
+	 */
+	public ProcedureResultCache registerCache(@NonNull Class<?> executorClass, @NonNull OracleCacheable cacheable) {
+		return caches.computeIfAbsent(executorClass, x -> {
+			log.debug("Creating result cache for executor {}", x.getName());
+			return new ProcedureResultCache(x.getName(), cacheable.ttl(), cacheable.timeUnit(), cacheable.maxSize());
+		});
+	}
+
+	/**
+	 * Gets the cache of a given executor.
+	 * 
+	 * @param executorClass
+	 * @return Executor cache or <code>null</code> if the executor is not cacheable.
+	 */
+	public ProcedureResultCache getCache(@NonNull Class<?> executorClass) {
+		return caches.get(executorClass);
+	}
+
+	/**
+	 * Gets every registered cache.
+	 * 
+	 * @return
+	 */
+	public Collection<ProcedureResultCache> getCaches() {
+		return Collections.unmodifiableCollection(caches.values());
+	}
+
+	/**
+	 * Removes the cached results of an executor invoked with the given arguments.
+	 * 
+	 * @param executorClass
+	 * @param args
+	 */
+	public void invalidate(@NonNull Class<?> executorClass, Object... args) {
+		ProcedureResultCache cache = caches.get(executorClass);
+		if (cache != null) {
+			cache.invalidate(args);
+		}
+	}
+
+	/**
+	 * Removes every cached result of an executor.
+	 * 
+	 * @param executorClass
+	 */
+	public void invalidateAll(@NonNull Class<?> executorClass) {
+		ProcedureResultCache cache = caches.get(executorClass);
+		if (cache != null) {
+			cache.invalidateAll();
+		}
+	}
+
+	/**
+	 * Removes every cached result.
+	 */
+	public void invalidateAll() {
+		caches.values().forEach(ProcedureResultCache::invalidateAll);
+	}
+
+}
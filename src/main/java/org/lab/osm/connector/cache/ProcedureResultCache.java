@@ -0,0 +1,241 @@
+package org.lab.osm.connector.cache;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory cache of the results of a stored procedure executor.
+ * 
+ * Results are stored by method and input arguments (see {@link org.lab.osm.connector.annotation.OracleCacheable} for
+ * the supported arguments) and expire after the configured time to live. When the cache exceeds its maximum number of
+ * results the least recently used ones are evicted.
+ * 
+ * Hits do not lock: results are kept in a concurrent map and each hit just records its access time, so the eviction
+ * order is approximate (accesses at the same time are not ordered). Evictions are serialized, as they only happen when
+ * a result is loaded. Concurrent misses of the same key are not coalesced: every caller executes the procedure and the
+ * last result is stored. Results loaded while the cache is invalidated are returned to their caller but not stored.
+ * 
+ * Instances are thread-safe.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ * 
+ * @see org.lab.osm.connector.annotation.OracleCacheable
+ */
+@Slf4j
+public class ProcedureResultCache {
+
+	@Getter
+	private final String name;
+
+	@Getter
+	private final int maxSize;
+
+	private final long ttlNanos;
+	private final LongSupplier ticker;
+	private final ConcurrentMap<InvocationKey, CacheEntry> entries;
+
+	/**
+	 * Incremented by every invalidation, so loads started before it are not stored.
+	 */
+	private final AtomicLong generation;
+
+	private final LongAdder hitCount;
+	private final LongAdder missCount;
+	private final LongAdder evictionCount;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param name Cache name (usually the executor interface name).
+	 * @param ttl Time to live of the results.
+	 * @param timeUnit Time unit of the <code>ttl</code>.
+	 * @param maxSize Maximum number of results.
+	 */
+	public ProcedureResultCache(@NonNull String name, long ttl, @NonNull TimeUnit timeUnit, int maxSize) {
+		this(name, ttl, timeUnit, maxSize, System::nanoTime);
+	}
+
+	ProcedureResultCache(String name, long ttl, TimeUnit timeUnit, int maxSize, LongSupplier ticker) {
+		if (ttl <= 0 || maxSize <= 0) {
+			throw new OsmConnectorException(
+				String.format("Invalid cache configuration for %s: ttl %s, max size %s", name, ttl, maxSize));
+		}
+		this.name = name;
+		this.maxSize = maxSize;
+		this.ttlNanos = timeUnit.toNanos(ttl);
+		this.ticker = ticker;
+		this.entries = new ConcurrentHashMap<>();
+		this.generation = new AtomicLong();
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.evictionCount = new LongAdder();
+	}
+
+	/**
+	 * Gets the cached result of a given invocation, executing the supplier on misses.
+	 * 
+	 * @param discriminator Invocation discriminator (for example the executor method).
+	 * @param args Input arguments.
+	 * @param loader Procedure execution.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R get(Object discriminator, Object[] args, Supplier<R> loader) {
+		InvocationKey key = InvocationKey.of(discriminator, args);
+		CacheEntry entry = entries.get(key);
+		long now = ticker.getAsLong();
+		if (entry != null && entry.getExpiration() - now > 0) {
+			entry.setLastAccess(now);
+			hitCount.increment();
+			return (R) entry.getValue();
+		}
+		if (entry != null && entries.remove(key, entry)) {
+			evictionCount.increment();
+		}
+		missCount.increment();
+		long loadGeneration = generation.get();
+		R result = loader.get();
+		if (result != null) {
+			put(key, result, loadGeneration);
+		}
+		return result;
+	}
+
+	/**
+	 * Removes every cached result invoked with the given arguments (whatever method was used). Loads in progress are
+	 * not stored.
+	 * 
+	 * @param args
+	 */
+	public void invalidate(Object... args) {
+		Object[] values = args != null ? args : new Object[0];
+		generation.incrementAndGet();
+		entries.keySet().removeIf(x -> Arrays.deepEquals(x.getArgs(), values));
+	}
+
+	/**
+	 * Removes every cached result. Loads in progress are not stored.
+	 */
+	public void invalidateAll() {
+		log.debug("Invalidating cache {}", name);
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * Number of cached results (including expired results not yet evicted).
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Gets a snapshot of the cache statistics.
+	 * 
+	 * @return
+	 */
+	public CacheStats getStats() {
+		return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+	}
+
+	private void put(InvocationKey key, Object value, long loadGeneration) {
+		long now = ticker.getAsLong();
+		CacheEntry entry = new CacheEntry(value, now + ttlNanos, now);
+		entries.put(key, entry);
+		// Checked after storing the entry: an invalidation either has already changed the generation or will remove it
+		if (generation.get() != loadGeneration) {
+			entries.remove(key, entry);
+			return;
+		}
+		if (entries.size() > maxSize) {
+			evict(now);
+		}
+	}
+
+	private synchronized void evict(long now) {
+		Iterator<CacheEntry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getExpiration() - now <= 0) {
+				iterator.remove();
+				evictionCount.increment();
+			}
+		}
+		while (entries.size() > maxSize) {
+			Map.Entry<InvocationKey, CacheEntry> eldest = null;
+			for (Map.Entry<InvocationKey, CacheEntry> i : entries.entrySet()) {
+				if (eldest == null || i.getValue().getLastAccess() - eldest.getValue().getLastAccess() < 0) {
+					eldest = i;
+				}
+			}
+			if (eldest != null && entries.remove(eldest.getKey(), eldest.getValue())) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Cache statistics.
+	 */
+	@Value
+	public static class CacheStats {
+
+		private final long hitCount;
+		private final long missCount;
+		private final long evictionCount;
+		private final int size;
+
+		/**
+		 * Ratio of requests returning a cached result.
+		 * 
+		 * @return
+		 */
+		public double getHitRate() {
+			long requests = hitCount + missCount;
+			return requests == 0 ? 1D : (double) hitCount / requests;
+		}
+	}
+
+	private static class CacheEntry {
+
+		@Getter
+		private final Object value;
+
+		@Getter
+		private final long expiration;
+
+		private volatile long lastAccess;
+
+		CacheEntry(Object value, long expiration, long lastAccess) {
+			this.value = value;
+			this.expiration = expiration;
+			this.lastAccess = lastAccess;
+		}
+
+		long getLastAccess() {
+			return lastAccess;
+		}
+
+		void setLastAccess(long lastAccess) {
+			this.lastAccess = lastAccess;
+		}
+	}
+
+}
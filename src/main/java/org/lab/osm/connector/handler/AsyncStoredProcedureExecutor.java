@@ -0,0 +1,27 @@
+package org.lab.osm.connector.handler;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link StoredProcedureExecutor} that can also be invoked asynchronously.
+ *
+ * Any method of an executor interface returning a <code>CompletableFuture</code> is executed on the
+ * {@link StoredProcedureAsyncExecutor}, so interfaces may also declare their own async methods.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @see org.lab.osm.connector.annotation.OracleStoredProcedure
+ */
+public interface AsyncStoredProcedureExecutor extends StoredProcedureExecutor {
+
+	/**
+	 * Execute a given Oracle stored procedure / function in a pooled thread. Blocks the caller while the pool and its
+	 * queue are saturated (up to the submit timeout). Invocations from a pooled thread run in that thread.
+	 * @param args
+	 * @return Future completed with the output parameters map.
+	 */
+	CompletableFuture<Map<String, Object>> executeAsync(Object... args);
+
+}
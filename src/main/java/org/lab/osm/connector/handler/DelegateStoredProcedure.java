@@ -1,7 +1,12 @@
 package org.lab.osm.connector.handler;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.sql.DataSource;
 
+import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.SqlParameter;
 import org.springframework.jdbc.object.StoredProcedure;
 
 /**
@@ -22,4 +27,22 @@ public class DelegateStoredProcedure extends StoredProcedure {
 		super(ds, name);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.jdbc.object.RdbmsOperation#getDeclaredParameters()
+	 */
+	@Override
+	public List<SqlParameter> getDeclaredParameters() {
+		return super.getDeclaredParameters();
+	}
+
+	/**
+	 * Creates the statement creator of a call binding the given input values.
+	 * 
+	 * @param inParams
+	 * @return
+	 */
+	public CallableStatementCreator callableStatementCreator(Map<String, ?> inParams) {
+		return newCallableStatementCreator(inParams);
+	}
+
 }
@@ -1,9 +1,9 @@
 package org.lab.osm.connector.handler;
 
-import java.util.Set;
+import java.util.List;
 
 import org.lab.osm.connector.annotation.OracleStoredProcedure;
-import org.reflections.Reflections;
+import org.lab.osm.connector.index.ClassIndex;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
@@ -43,7 +43,7 @@ public class OracleStoredProcedureAnnotationProcessor implements BeanFactoryPost
 	}
 
 	private void postProcessPackage(String basePackage, DefaultListableBeanFactory registry) {
-		Set<Class<?>> repositories = new Reflections(basePackage).getTypesAnnotatedWith(OracleStoredProcedure.class);
+		List<Class<?>> repositories = ClassIndex.getAnnotatedTypes(basePackage, OracleStoredProcedure.class);
 		for (Class<?> clazz : repositories) {
 			String beanName = clazz.getSimpleName() + "OsmInvocationHandler";
 			log.debug("Adding OSM handler '{}' as '{}'", clazz.getSimpleName(), beanName);
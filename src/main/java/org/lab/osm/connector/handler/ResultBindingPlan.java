@@ -0,0 +1,140 @@
+package org.lab.osm.connector.handler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.annotation.OracleField;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.impl.EntityAccessor;
+import org.lab.osm.connector.mapper.impl.EntityPropertyAccessor;
+import org.springframework.jdbc.core.SqlOutParameter;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binding of the output parameters of a stored procedure to the fields of a result class.
+ *
+ * Each field is bound to the output parameter with the name given by its {@link OracleField} annotation or, when not
+ * annotated, with the same name as the field (ignoring case). The plan is resolved once, so reading a result just
+ * writes each decoded output value into a new result instance without an intermediate map.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <R> Result class.
+ */
+@Slf4j
+public class ResultBindingPlan<R> {
+
+	@Getter
+	private final Class<R> resultClass;
+
+	private final EntityAccessor<R> accessor;
+	private final Binding[] bindings;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param resultClass
+	 * @param declaredParameters Declared parameters of the procedure (in call order).
+	 */
+	public ResultBindingPlan(@NonNull Class<R> resultClass, @NonNull List<SqlParameter> declaredParameters) {
+		this.resultClass = resultClass;
+		this.accessor = EntityAccessor.forClass(resultClass);
+		List<Binding> list = new ArrayList<>();
+		ReflectionUtils.doWithFields(resultClass, field -> {
+			Binding binding = resolveBinding(field, declaredParameters);
+			if (binding != null) {
+				list.add(binding);
+			}
+		}, field -> !Modifier.isStatic(field.getModifiers()));
+		if (list.isEmpty()) {
+			throw new OsmMappingException("No output parameters bound to result class " + resultClass.getName());
+		}
+		this.bindings = list.toArray(new Binding[list.size()]);
+	}
+
+	/**
+	 * Reads the output parameters of an executed statement.
+	 *
+	 * @param cs
+	 * @return
+	 * @throws SQLException
+	 */
+	public R read(CallableStatement cs) throws SQLException {
+		R result = accessor.newInstance();
+		for (Binding binding : bindings) {
+			binding.property.set(result, binding.converter.apply(binding.read(cs)));
+		}
+		return result;
+	}
+
+	private Binding resolveBinding(Field field, List<SqlParameter> declaredParameters) {
+		OracleField annotation = field.getAnnotation(OracleField.class);
+		String parameterName = annotation != null && StringUtils.isNotBlank(annotation.value()) ? annotation.value()
+			: field.getName();
+		for (int i = 0; i < declaredParameters.size(); i++) {
+			SqlParameter parameter = declaredParameters.get(i);
+			if (parameter instanceof SqlOutParameter && parameterName.equalsIgnoreCase(parameter.getName())) {
+				log.trace("Binding output parameter {} to {}.{}", parameter.getName(), resultClass.getSimpleName(),
+					field.getName());
+				EntityPropertyAccessor property = accessor.property(field.getName());
+				return new Binding(i + 1, (SqlOutParameter) parameter, property, converter(property.getType()));
+			}
+		}
+		if (annotation != null) {
+			throw new OsmMappingException(String.format("Undefined output parameter %s bound to %s.%s", parameterName,
+				resultClass.getName(), field.getName()));
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> converter(Class<?> type) {
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		if (Number.class.isAssignableFrom(targetType)) {
+			Class<? extends Number> numberType = (Class<? extends Number>) targetType;
+			return value -> value instanceof Number && !numberType.isInstance(value)
+				? NumberUtils.convertNumberToTargetClass((Number) value, numberType)
+				: value;
+		}
+		return Function.identity();
+	}
+
+	private static class Binding {
+
+		private final int index;
+		private final SqlOutParameter parameter;
+		private final EntityPropertyAccessor property;
+		private final Function<Object, Object> converter;
+
+		Binding(int index, SqlOutParameter parameter, EntityPropertyAccessor property,
+			Function<Object, Object> converter) {
+			this.index = index;
+			this.parameter = parameter;
+			this.property = property;
+			this.converter = converter;
+		}
+
+		Object read(CallableStatement cs) throws SQLException {
+			if (parameter.isReturnTypeSupported()) {
+				return parameter.getSqlReturnType().getTypeValue(cs, index, parameter.getSqlType(),
+					parameter.getTypeName());
+			}
+			return cs.getObject(index);
+		}
+	}
+
+}
@@ -0,0 +1,230 @@
+package org.lab.osm.connector.handler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded <code>Executor</code> used to run the asynchronous stored procedure invocations.
+ *
+ * At most <code>poolSize</code> invocations run concurrently (each one holding a connection) and at most
+ * <code>queueCapacity</code> wait for a thread. When both are exhausted the submitting thread blocks until an
+ * invocation finishes instead of queueing without limit, failing after <code>submitTimeout</code> milliseconds.
+ * Invocations submitted from a pooled thread (nested async invocations) run in that thread, as they would never get a
+ * slot while their caller holds one.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class StoredProcedureAsyncExecutor implements Executor, DisposableBean {
+
+	/**
+	 * Maximum pool size properties of the common connection pools (HikariCP, DBCP2, Tomcat JDBC and Oracle UCP).
+	 */
+	private static final String[] POOL_SIZE_PROPERTIES = { "maximumPoolSize", "maxTotal", "maxActive",
+		"maxPoolSize" };
+
+	private static final String TARGET_DATA_SOURCE_PROPERTY = "targetDataSource";
+
+	/**
+	 * Default maximum time (in milliseconds) a caller waits for an execution slot.
+	 */
+	public static final long DEFAULT_SUBMIT_TIMEOUT = 60000L;
+
+	@Getter
+	private final int poolSize;
+
+	@Getter
+	private final int queueCapacity;
+
+	@Getter
+	private final long submitTimeout;
+
+	private final ThreadPoolExecutor executor;
+	private final Semaphore permits;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param poolSize Number of threads.
+	 * @param queueCapacity Number of invocations waiting for a thread before blocking the callers.
+	 */
+	public StoredProcedureAsyncExecutor(int poolSize, int queueCapacity) {
+		this(poolSize, queueCapacity, DEFAULT_SUBMIT_TIMEOUT);
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param poolSize Number of threads.
+	 * @param queueCapacity Number of invocations waiting for a thread before blocking the callers.
+	 * @param submitTimeout Maximum time (in milliseconds) a blocked caller waits for an execution slot.
+	 */
+	public StoredProcedureAsyncExecutor(int poolSize, int queueCapacity, long submitTimeout) {
+		if (poolSize < 1) {
+			throw new OsmConnectorException("Invalid async pool size: " + poolSize);
+		}
+		if (queueCapacity < 0) {
+			throw new OsmConnectorException("Invalid async queue capacity: " + queueCapacity);
+		}
+		if (submitTimeout < 0) {
+			throw new OsmConnectorException("Invalid async submit timeout: " + submitTimeout);
+		}
+		this.poolSize = poolSize;
+		this.queueCapacity = queueCapacity;
+		this.submitTimeout = submitTimeout;
+		// The queue is bounded by the permits (a worker may release its permit before taking the next task)
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			new AsyncThreadFactory(this));
+		this.executor.allowCoreThreadTimeOut(true);
+		this.permits = new Semaphore(poolSize + queueCapacity);
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param dataSource Data source used to resolve the pool size when <code>poolSize</code> is <code>0</code>.
+	 * @param poolSize Number of threads or <code>0</code> to use the connection pool size.
+	 * @param queueCapacity Number of invocations waiting for a thread before blocking the callers.
+	 */
+	public StoredProcedureAsyncExecutor(DataSource dataSource, int poolSize, int queueCapacity) {
+		this(poolSize > 0 ? poolSize : resolvePoolSize(dataSource), queueCapacity);
+	}
+
+	/**
+	 * Runs the given supplier in a pooled thread.
+	 *
+	 * @param supplier
+	 * @return
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, this);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void execute(Runnable task) {
+		if (isPooledThread()) {
+			// Waiting for a slot while holding one may deadlock the pool
+			task.run();
+			return;
+		}
+		try {
+			if (!permits.tryAcquire(submitTimeout, TimeUnit.MILLISECONDS)) {
+				throw new OsmConnectorException(
+					"Cant submit async execution: no execution slot available after " + submitTimeout + " ms");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OsmConnectorException("Interrupted while waiting for an async execution slot", ex);
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					permits.release();
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			permits.release();
+			throw new OsmConnectorException("Cant submit async execution", ex);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private boolean isPooledThread() {
+		Thread current = Thread.currentThread();
+		return current instanceof AsyncThread && ((AsyncThread) current).owner == this;
+	}
+
+	/**
+	 * Resolves the maximum size of the connection pool or the number of processors if it is unknown.
+	 *
+	 * @param dataSource
+	 * @return
+	 */
+	static int resolvePoolSize(DataSource dataSource) {
+		Object current = dataSource;
+		while (current != null) {
+			BeanWrapper wrapper = new BeanWrapperImpl(current);
+			for (String property : POOL_SIZE_PROPERTIES) {
+				if (wrapper.isReadableProperty(property)) {
+					Object value = wrapper.getPropertyValue(property);
+					if (value instanceof Number && ((Number) value).intValue() > 0) {
+						log.debug("Using connection pool size {} as async pool size", value);
+						return ((Number) value).intValue();
+					}
+				}
+			}
+			current = wrapper.isReadableProperty(TARGET_DATA_SOURCE_PROPERTY)
+				? wrapper.getPropertyValue(TARGET_DATA_SOURCE_PROPERTY)
+				: null;
+		}
+		int processors = Runtime.getRuntime().availableProcessors();
+		log.debug("Unknown connection pool size. Using {} async threads", processors);
+		return processors;
+	}
+
+	private static class AsyncThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+		private final int poolNumber = POOL_COUNTER.incrementAndGet();
+		private final AtomicInteger threadCounter = new AtomicInteger();
+		private final StoredProcedureAsyncExecutor owner;
+
+		AsyncThreadFactory(StoredProcedureAsyncExecutor owner) {
+			this.owner = owner;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new AsyncThread(owner, runnable,
+				"osm-async-" + poolNumber + "-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	private static class AsyncThread extends Thread {
+
+		private final StoredProcedureAsyncExecutor owner;
+
+		AsyncThread(StoredProcedureAsyncExecutor owner, Runnable runnable, String name) {
+			super(runnable, name);
+			this.owner = owner;
+		}
+	}
+
+}
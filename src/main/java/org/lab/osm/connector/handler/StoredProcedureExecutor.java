@@ -1,5 +1,6 @@
 package org.lab.osm.connector.handler;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,4 +20,19 @@ public interface StoredProcedureExecutor {
 	 */
 	Map<String, Object> execute(Object... args);
 
+	/**
+	 * Executes a given Oracle stored procedure once per arguments array using JDBC batching: every call shares the same
+	 * connection and <code>CallableStatement</code>. Only procedures without output parameters are supported.
+	 * 
+	 * Executors created by {@link StoredProcedureInvocationHandler} implement this method. Other implementations of
+	 * this interface do not support batching unless they override it.
+	 * @param batchArgs
+	 * @return Update counts reported by the driver for each call.
+	 * @throws UnsupportedOperationException if the implementation does not support batching.
+	 * @since 1.1.0
+	 */
+	default int[] executeBatch(List<Object[]> batchArgs) {
+		throw new UnsupportedOperationException("Cant execute batch: not supported by " + getClass().getName());
+	}
+
 }
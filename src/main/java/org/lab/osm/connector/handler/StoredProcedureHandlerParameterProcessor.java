@@ -11,11 +11,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.lab.osm.connector.annotation.OracleParameter;
 import org.lab.osm.connector.handler.args.SqlArrayValue;
 import org.lab.osm.connector.handler.args.SqlListStructArray;
+import org.lab.osm.connector.handler.args.SqlPrimitiveArrayValue;
+import org.lab.osm.connector.handler.args.SqlReturnPrimitiveArray;
 import org.lab.osm.connector.handler.args.SqlReturnStruct;
 import org.lab.osm.connector.handler.args.SqlStructValue;
 import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.PrimitiveArrayMapper;
 import org.lab.osm.connector.mapper.StructMapper;
 import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
 import org.springframework.jdbc.core.SqlInOutParameter;
 import org.springframework.jdbc.core.SqlOutParameter;
 import org.springframework.jdbc.core.SqlParameter;
@@ -47,7 +52,7 @@ public class StoredProcedureHandlerParameterProcessor {
 	}
 
 	/**
-	 * Declares an input parameter in the given procedure.
+	 * Declares an input parameter in the given procedure and binds its value in the input map.
 	 * 
 	 * @param storedProcedure
 	 * @param parameter
@@ -56,13 +61,47 @@ public class StoredProcedureHandlerParameterProcessor {
 	 */
 	public void registerInputParameter(StoredProcedure storedProcedure, OracleParameter parameter,
 		Map<String, Object> inputMap, Object value) {
+		declareInputParameter(storedProcedure, parameter);
+		bindInputValue(parameter, inputMap, value);
+	}
+
+	/**
+	 * Declares an output parameter in the given procedure.
+	 * 
+	 * @param storedProcedure
+	 * @param parameter
+	 */
+	public void registerOutputParameter(StoredProcedure storedProcedure, OracleParameter parameter) {
+		declareOutputParameter(storedProcedure, parameter);
+	}
+
+	/**
+	 * Declares an in-out parameter in the given procedure and binds its value in the input map.
+	 * 
+	 * @param storedProcedure
+	 * @param parameter
+	 * @param inputMap
+	 * @param value
+	 */
+	public void registerInOutParameter(StoredProcedure storedProcedure, OracleParameter parameter,
+		Map<String, Object> inputMap, Object value) {
+		declareInOutParameter(storedProcedure, parameter);
+		bindInputValue(parameter, inputMap, value);
+	}
+
+	/**
+	 * Declares an input parameter in the given procedure.
+	 * 
+	 * @param storedProcedure
+	 * @param parameter
+	 */
+	public void declareInputParameter(StoredProcedure storedProcedure, OracleParameter parameter) {
 		int type = parameter.type();
 		String name = parameter.name();
 		String typeName = StringUtils.isNotBlank(parameter.typeName()) ? parameter.typeName() : valueOfType(type);
-		log.trace("Register input parameter '{}' ({}/{}): '{}'", name, typeName, type, value);
+		log.trace("Declare input parameter '{}' ({}/{})", name, typeName, type);
 		SqlParameter sqlParam = new SqlParameter(name, type, parameter.typeName());
 		storedProcedure.declareParameter(sqlParam);
-		addToInputMap(parameter, inputMap, value);
 	}
 
 	/**
@@ -71,32 +110,45 @@ public class StoredProcedureHandlerParameterProcessor {
 	 * @param storedProcedure
 	 * @param parameter
 	 */
+	public void declareOutputParameter(StoredProcedure storedProcedure, OracleParameter parameter) {
+		declareOutputParameter(storedProcedure, parameter, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Declares an output parameter in the given procedure recording its decoding metrics.
+	 * 
+	 * @param storedProcedure
+	 * @param parameter
+	 * @param metrics
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void registerOutputParameter(StoredProcedure storedProcedure, OracleParameter parameter) {
+	public void declareOutputParameter(StoredProcedure storedProcedure, OracleParameter parameter,
+		ProcedureMetrics metrics) {
 		String name = parameter.name();
 		String typeName = parameter.typeName();
 		int type = parameter.type();
 		Class<?> returnClass = parameter.returnStructClass();
-		// StructMapper<?> structMapper;
 		SqlReturnType sqlReturn;
 
 		switch (parameter.type()) {
 		case Types.STRUCT:
 			log.trace("Register output struct parameter '{}' using type '{}'", name, typeName);
 			StructMapper<?> structMapper = mapperService.mapper(returnClass);
-			sqlReturn = new SqlReturnStruct(structMapper);
+			sqlReturn = new SqlReturnStruct(structMapper, metrics);
 			storedProcedure.declareParameter(new SqlOutParameter(name, type, typeName, sqlReturn));
 			break;
 		case Types.ARRAY:
-			if (returnClass != null) {
-				log.trace("Register output array parameter '{}' using type '{}'", name, typeName);
-				ArrayMapper<?> arrayMapper = mapperService.arrayMapper(returnClass, typeName);
-				sqlReturn = new SqlListStructArray(arrayMapper);
+			if (returnClass.isArray()) {
+				log.trace("Register output primitive array parameter '{}' using type '{}'", name, typeName);
+				PrimitiveArrayMapper<?> primitiveMapper = mapperService.primitiveArrayMapper(returnClass, typeName);
+				sqlReturn = new SqlReturnPrimitiveArray(primitiveMapper, metrics);
 				storedProcedure.declareParameter(new SqlOutParameter(name, Types.ARRAY, typeName, sqlReturn));
 			}
 			else {
-				// TODO
-				throw new NotImplementedException("Not implemented primitive array return type");
+				log.trace("Register output array parameter '{}' using type '{}'", name, typeName);
+				ArrayMapper<?> arrayMapper = mapperService.arrayMapper(returnClass, typeName);
+				sqlReturn = new SqlListStructArray(arrayMapper, metrics, parameter.lazy());
+				storedProcedure.declareParameter(new SqlOutParameter(name, Types.ARRAY, typeName, sqlReturn));
 			}
 			break;
 		case Types.NVARCHAR:
@@ -116,12 +168,21 @@ public class StoredProcedureHandlerParameterProcessor {
 	 * 
 	 * @param storedProcedure
 	 * @param parameter
-	 * @param inputMap
-	 * @param value
+	 */
+	public void declareInOutParameter(StoredProcedure storedProcedure, OracleParameter parameter) {
+		declareInOutParameter(storedProcedure, parameter, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Declares an in-out parameter in the given procedure recording its decoding metrics.
+	 * 
+	 * @param storedProcedure
+	 * @param parameter
+	 * @param metrics
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void registerInOutParameter(StoredProcedure storedProcedure, OracleParameter parameter,
-		Map<String, Object> inputMap, Object value) {
+	public void declareInOutParameter(StoredProcedure storedProcedure, OracleParameter parameter,
+		ProcedureMetrics metrics) {
 		String name = parameter.name();
 		String typeName = parameter.typeName();
 		int type = parameter.type();
@@ -131,19 +192,21 @@ public class StoredProcedureHandlerParameterProcessor {
 		case Types.STRUCT:
 			log.trace("Register in-out struct parameter '{}' using type '{}'", name, typeName);
 			StructMapper<?> structMapper = mapperService.mapper(returnClass);
-			sqlReturn = new SqlReturnStruct(structMapper);
+			sqlReturn = new SqlReturnStruct(structMapper, metrics);
 			storedProcedure.declareParameter(new SqlInOutParameter(name, type, typeName, sqlReturn));
 			break;
 		case Types.ARRAY:
-			if (returnClass != null) {
-				log.trace("Register in-out array parameter '{}' using type '{}'", name, typeName);
-				ArrayMapper<?> arrayMapper = mapperService.arrayMapper(returnClass, typeName);
-				sqlReturn = new SqlListStructArray(arrayMapper);
+			if (returnClass.isArray()) {
+				log.trace("Register in-out primitive array parameter '{}' using type '{}'", name, typeName);
+				PrimitiveArrayMapper<?> primitiveMapper = mapperService.primitiveArrayMapper(returnClass, typeName);
+				sqlReturn = new SqlReturnPrimitiveArray(primitiveMapper, metrics);
 				storedProcedure.declareParameter(new SqlInOutParameter(name, Types.ARRAY, typeName, sqlReturn));
 			}
 			else {
-				// TODO
-				throw new NotImplementedException("Not implemented primitive array return type");
+				log.trace("Register in-out array parameter '{}' using type '{}'", name, typeName);
+				ArrayMapper<?> arrayMapper = mapperService.arrayMapper(returnClass, typeName);
+				sqlReturn = new SqlListStructArray(arrayMapper, metrics, parameter.lazy());
+				storedProcedure.declareParameter(new SqlInOutParameter(name, Types.ARRAY, typeName, sqlReturn));
 			}
 			break;
 		case Types.NVARCHAR:
@@ -156,11 +219,31 @@ public class StoredProcedureHandlerParameterProcessor {
 			// TODO
 			throw new NotImplementedException("Unsupported output type " + parameter.type());
 		}
-		addToInputMap(parameter, inputMap, value);
 	}
 
+	/**
+	 * Converts a given argument value and puts it in the procedure input map. Unlike the <code>declare*</code>
+	 * methods this is the only step that depends on the invocation arguments.
+	 * 
+	 * @param parameter
+	 * @param inputMap
+	 * @param value
+	 */
+	public void bindInputValue(OracleParameter parameter, Map<String, Object> inputMap, Object value) {
+		bindInputValue(parameter, inputMap, value, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Converts a given argument value and puts it in the procedure input map recording its binding metrics.
+	 * 
+	 * @param parameter
+	 * @param inputMap
+	 * @param value
+	 * @param metrics
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private void addToInputMap(OracleParameter parameter, Map<String, Object> inputMap, Object value) {
+	public void bindInputValue(OracleParameter parameter, Map<String, Object> inputMap, Object value,
+		ProcedureMetrics metrics) {
 		if (value == null) {
 			inputMap.put(parameter.name(), null);
 			return;
@@ -169,17 +252,24 @@ public class StoredProcedureHandlerParameterProcessor {
 		case Types.STRUCT:
 			// Struct conversion
 			StructMapper<?> structMapper = mapperService.mapper(value.getClass());
-			inputMap.put(parameter.name(), new SqlStructValue(value, structMapper));
+			inputMap.put(parameter.name(), new SqlStructValue(value, structMapper, metrics));
 			break;
 		case Types.ARRAY:
+			String oracleCollectionName = parameter.typeName();
+			if (value.getClass().isArray()) {
+				// Primitive array conversion
+				PrimitiveArrayMapper primitiveMapper = mapperService.primitiveArrayMapper(value.getClass(),
+					oracleCollectionName);
+				inputMap.put(parameter.name(), new SqlPrimitiveArrayValue<>(value, primitiveMapper, metrics));
+				break;
+			}
 			// Array conversion
 			Assert.isInstanceOf(List.class, value);
-			String oracleCollectionName = parameter.typeName();
 			List<?> list = (List) value;
 			Object firstNotNull = list.stream().filter(x -> x != null).findFirst().orElse(null);
 			Class<?> mappedClass = firstNotNull.getClass();
 			ArrayMapper arrayMapper = mapperService.arrayMapper(mappedClass, oracleCollectionName);
-			inputMap.put(parameter.name(), new SqlArrayValue<>(list, arrayMapper));
+			inputMap.put(parameter.name(), new SqlArrayValue<>(list, arrayMapper, metrics));
 			break;
 		case Types.VARCHAR:
 		case Types.NVARCHAR:
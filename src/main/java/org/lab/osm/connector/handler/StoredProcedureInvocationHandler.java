@@ -2,34 +2,59 @@ package org.lab.osm.connector.handler;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
-import java.util.LinkedHashMap;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.sql.DataSource;
 
-import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.annotation.OracleCacheable;
 import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
 import org.lab.osm.connector.annotation.OracleStoredProcedure;
-import org.lab.osm.connector.exception.OsmMissingAnnotationException;
+import org.lab.osm.connector.cache.InFlightInvocations;
+import org.lab.osm.connector.cache.OsmResultCacheManager;
+import org.lab.osm.connector.cache.ProcedureResultCache;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.OsmMetrics;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.object.StoredProcedure;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
 
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * <code>InvocationHandler</code> to invoke <code>StoredProcedure</code> based on {@link OracleStoredProcedure}
  * annotation.
  * 
+ * The annotation is resolved once when the bean is created into a {@link StoredProcedureInvocationPlan} that is
+ * reused by every invocation. Methods returning a <code>CompletableFuture</code> are executed on the
+ * {@link StoredProcedureAsyncExecutor}. Methods returning any other class than a <code>Map</code> bind the output
+ * parameters to an instance of that class (see {@link ResultBindingPlan}). Results of interfaces annotated with
+ * {@link OracleCacheable} are cached by method and input arguments. When {@link OracleStoredProcedure#coalesce()} is
+ * enabled concurrent invocations with equal arguments share a single execution. Shared results must not be modified
+ * (see {@link OracleCacheable}).
+ * 
  * @author lab.cabrera@gmail.com
  * @since 1.0.0
  * 
  * @param <T> Interface class.
  */
 @Slf4j
-public class StoredProcedureInvocationHandler<T> implements FactoryBean<T>, InvocationHandler {
+public class StoredProcedureInvocationHandler<T> implements FactoryBean<T>, InvocationHandler, InitializingBean {
+
+	private static final Method BATCH_METHOD = ReflectionUtils.findMethod(StoredProcedureExecutor.class,
+		"executeBatch", List.class);
 
 	@Autowired
 	private DataSource dataSource;
@@ -37,9 +62,24 @@ public class StoredProcedureInvocationHandler<T> implements FactoryBean<T>, Invo
 	@Autowired
 	private StoredProcedureHandlerParameterProcessor parameterProcessor;
 
+	@Autowired(required = false)
+	private OsmMetrics osmMetrics;
+
+	@Autowired(required = false)
+	private ObjectProvider<StoredProcedureAsyncExecutor> asyncExecutorProvider;
+
+	@Autowired(required = false)
+	private ObjectProvider<OsmResultCacheManager> cacheManagerProvider;
+
 	private final Class<T> interfaceClass;
 	private final ClassLoader classLoader;
 
+	private StoredProcedureInvocationPlan invocationPlan;
+	private Map<Method, Class<?>> resultClasses;
+	private ProcedureResultCache resultCache;
+	private InFlightInvocations inFlightInvocations;
+	private StoredProcedureAsyncExecutor asyncExecutor;
+
 	/**
 	 * Public constructor from service interface class.
 	 * 
@@ -50,51 +90,190 @@ public class StoredProcedureInvocationHandler<T> implements FactoryBean<T>, Invo
 		this.classLoader = Thread.currentThread().getContextClassLoader();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		validateLazyParameters();
+		validateSharedInvocationParameters();
+		OsmMetrics metrics = osmMetrics != null ? osmMetrics : NoOpOsmMetrics.INSTANCE;
+		invocationPlan = new StoredProcedureInvocationPlan(interfaceClass, dataSource, parameterProcessor, metrics);
+		resultClasses = new HashMap<>();
+		boolean async = false;
+		for (Method method : interfaceClass.getMethods()) {
+			Class<?> resultClass = resolveResultClass(method);
+			if (resultClass != null) {
+				// Fails on startup if the result class can not be bound
+				invocationPlan.resultPlan(resultClass);
+				resultClasses.put(method, resultClass);
+			}
+			async |= !method.isDefault() && CompletableFuture.class.equals(method.getReturnType());
+		}
+		// The (lazy) async executor and cache manager are only created for the executors using them
+		if (async) {
+			asyncExecutor = asyncExecutorProvider != null ? asyncExecutorProvider.getIfAvailable() : null;
+		}
+		OracleCacheable cacheable = interfaceClass.getAnnotation(OracleCacheable.class);
+		if (cacheable != null) {
+			OsmResultCacheManager cacheManager = cacheManagerProvider != null ? cacheManagerProvider.getIfAvailable()
+				: null;
+			if (cacheManager == null) {
+				throw new OsmConnectorException(
+					"Undefined result cache manager for executor " + interfaceClass.getName());
+			}
+			resultCache = cacheManager.registerCache(interfaceClass, cacheable);
+		}
+		if (interfaceClass.getAnnotation(OracleStoredProcedure.class).coalesce()) {
+			inFlightInvocations = new InFlightInvocations(interfaceClass.getName());
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
+	@SuppressWarnings("unchecked")
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (isBatchMethod(method)) {
+			log.debug("Invoking stored procedure batch handler using interface {}", interfaceClass.getName());
+			return invocationPlan.executeBatch((List<Object[]>) args[0]);
+		}
+		Object[] inputArgs = resolveInputArgs(method, args);
+		if (CompletableFuture.class.equals(method.getReturnType())) {
+			if (asyncExecutor == null) {
+				throw new OsmConnectorException("Undefined async executor for method " + method);
+			}
+			log.debug("Invoking async stored procedure handler using interface {}", interfaceClass.getName());
+			return asyncExecutor.submit(() -> execute(method, inputArgs));
+		}
 		log.debug("Invoking stored procedure handler using interface {}", interfaceClass.getName());
+		return execute(method, inputArgs);
+	}
+
+	private Object execute(Method method, Object[] inputArgs) {
+		if (resultCache != null) {
+			return resultCache.get(method, inputArgs, () -> executeCoalesced(method, inputArgs));
+		}
+		return executeCoalesced(method, inputArgs);
+	}
+
+	private Object executeCoalesced(Method method, Object[] inputArgs) {
+		if (inFlightInvocations != null) {
+			return inFlightInvocations.execute(method, inputArgs, () -> executeProcedure(method, inputArgs));
+		}
+		return executeProcedure(method, inputArgs);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object executeProcedure(Method method, Object[] inputArgs) {
+		Class<?> resultClass = resultClasses.get(method);
+		Object result = resultClass != null ? invocationPlan.execute(inputArgs, resultClass)
+			: invocationPlan.execute(inputArgs);
+		log.trace("Execution result: {}", result);
+		if ((resultCache != null || inFlightInvocations != null) && result instanceof Map) {
+			// Cached or coalesced output parameters are shared by every caller
+			return unmodifiableResult((Map<String, Object>) result);
+		}
+		return result;
+	}
+
+	/**
+	 * Read-only view of the output parameters map and its entity lists. Entities, java arrays and typed results can not
+	 * be wrapped, so they are shared as they are.
+	 */
+	private static Map<String, Object> unmodifiableResult(Map<String, Object> result) {
+		// The map has just been created by this execution, so it is not shared yet
+		result.replaceAll((name, value) -> value instanceof List //@formatter:off
+			? Collections.unmodifiableList((List<?>) value)
+			: value); //@formatter:on
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Lazy output lists read their elements through the connection of the invoking transaction, so they can not be
+	 * shared by other callers (cached or coalesced results) nor returned from another thread (async methods).
+	 */
+	private void validateLazyParameters() {
+		OracleStoredProcedure annotation = interfaceClass.getAnnotation(OracleStoredProcedure.class);
+		if (annotation == null || Arrays.stream(annotation.parameters()).noneMatch(x -> x.lazy())) {
+			return;
+		}
+		String reason = null;
+		if (interfaceClass.isAnnotationPresent(OracleCacheable.class)) {
+			reason = "cacheable";
+		}
+		else if (annotation.coalesce()) {
+			reason = "coalesced";
+		}
+		else if (Arrays.stream(interfaceClass.getMethods())
+			.anyMatch(x -> !x.isDefault() && CompletableFuture.class.equals(x.getReturnType()))) {
+			reason = "async";
+		}
+		if (reason != null) {
+			throw new OsmConnectorException(
+				"Cant use lazy output parameters in " + reason + " executor " + interfaceClass.getName());
+		}
+	}
 
+	/**
+	 * Cached and coalesced invocations are keyed by their input arguments, which must be value types (see
+	 * {@link OracleCacheable}). Entities bound to STRUCT parameters and lists or arrays bound to ARRAY parameters are
+	 * mutable.
+	 */
+	private void validateSharedInvocationParameters() {
 		OracleStoredProcedure annotation = interfaceClass.getAnnotation(OracleStoredProcedure.class);
-		if (annotation == null) {
-			throw new OsmMissingAnnotationException(interfaceClass, OracleStoredProcedure.class);
-		}
-
-		String storedProcedureName = resolveStoredProcedureName(annotation);
-		log.trace("Using stored procedure {}", storedProcedureName);
-
-		StoredProcedure storedProcedure = new DelegateStoredProcedure(dataSource, storedProcedureName);
-		storedProcedure.setFunction(annotation.isFunction());
-
-		Map inputMap = new LinkedHashMap();
-		if (args != null && args.length > 0 && ((Object[]) args[0]).length > 0) {
-			Object[] inputArgs = (Object[]) args[0];
-			Object value = null;
-			for (OracleParameter parameter : annotation.parameters()) {
-				switch (parameter.mode()) {
-				case IN:
-					value = inputArgs[inputMap.size()];
-					parameterProcessor.registerInputParameter(storedProcedure, parameter, inputMap, value);
-					break;
-				case OUT:
-					parameterProcessor.registerOutputParameter(storedProcedure, parameter);
-					break;
-				default:
-					value = inputArgs[inputMap.size()];
-					parameterProcessor.registerInOutParameter(storedProcedure, parameter, inputMap, value);
-					break;
-				}
+		if (annotation == null
+			|| !interfaceClass.isAnnotationPresent(OracleCacheable.class) && !annotation.coalesce()) {
+			return;
+		}
+		for (OracleParameter parameter : annotation.parameters()) {
+			if (parameter.mode() == ParameterType.OUT) {
+				continue;
+			}
+			if (parameter.type() == Types.STRUCT || parameter.type() == Types.ARRAY) {
+				throw new OsmConnectorException(String.format("Cant use %s input parameter %s in cacheable or "
+					+ "coalesced executor %s", parameter.type() == Types.STRUCT ? "STRUCT" : "ARRAY",
+					parameter.name(), interfaceClass.getName()));
 			}
 		}
-		storedProcedure.compile();
-		long t0 = System.currentTimeMillis();
-		Map<String, Object> result = storedProcedure.execute(inputMap);
-		long t = System.currentTimeMillis() - t0;
-		log.trace("Execution result ({} ms): {}", t, result);
-		return result;
+	}
+
+	/**
+	 * Resolves the result class of methods (or async methods) not returning the output parameters map.
+	 */
+	private Class<?> resolveResultClass(Method method) {
+		if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || isBatchMethod(method)) {
+			return null;
+		}
+		Class<?> returnType = method.getReturnType();
+		if (CompletableFuture.class.equals(returnType)) {
+			returnType = ResolvableType.forMethodReturnType(method, interfaceClass).getGeneric(0).resolve(Map.class);
+		}
+		if (Map.class.isAssignableFrom(returnType) || returnType == Object.class || returnType == void.class
+			|| returnType == Void.class) {
+			return null;
+		}
+		return returnType;
+	}
+
+	/**
+	 * Checks if a method is {@link StoredProcedureExecutor#executeBatch(List)} (or a redeclaration of it). Other
+	 * methods named <code>executeBatch</code> are regular procedure invocations.
+	 */
+	private static boolean isBatchMethod(Method method) {
+		return BATCH_METHOD.getName().equals(method.getName())
+			&& Arrays.equals(BATCH_METHOD.getParameterTypes(), method.getParameterTypes());
+	}
+
+	/**
+	 * Input arguments of varargs methods are received as a single array.
+	 */
+	private Object[] resolveInputArgs(Method method, Object[] args) {
+		if (args == null || args.length == 0) {
+			return null;
+		}
+		return method.isVarArgs() && args.length == 1 ? (Object[]) args[0] : args;
 	}
 
 	/* (non-Javadoc)
@@ -114,19 +293,4 @@ public class StoredProcedureInvocationHandler<T> implements FactoryBean<T>, Invo
 		return interfaceClass;
 	}
 
-	private String resolveStoredProcedureName(@NonNull OracleStoredProcedure annotation) {
-		String owner = annotation.owner();
-		String oraclePackage = annotation.oraclePackage();
-		String name = annotation.name();
-		StringBuilder sb = new StringBuilder();
-		if (StringUtils.isNotBlank(owner)) {
-			sb.append(owner).append(".");
-		}
-		if (StringUtils.isNotBlank(oraclePackage)) {
-			sb.append(oraclePackage).append(".");
-		}
-		sb.append(name);
-		return sb.toString();
-	}
-
 }
@@ -0,0 +1,269 @@
+package org.lab.osm.connector.handler;
+
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.exception.OsmMissingAnnotationException;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.OsmMetrics;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable invocation plan of a {@link OracleStoredProcedure} annotated interface.
+ *
+ * The plan resolves the annotation, declares every parameter and compiles the Spring <code>StoredProcedure</code>
+ * only once, so each invocation just binds its input arguments. A compiled <code>StoredProcedure</code> is
+ * thread-safe, so the same plan is shared by all the callers of the executor.
+ *
+ * Procedures without output parameters can also be executed in batch, sending the calls to the database in blocks of
+ * {@value #BATCH_SIZE} using a single <code>CallableStatement</code>.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @see StoredProcedureInvocationHandler
+ */
+@Slf4j
+public class StoredProcedureInvocationPlan {
+
+	/**
+	 * Maximum number of calls sent to the database in a single JDBC batch.
+	 */
+	static final int BATCH_SIZE = 500;
+
+	@Getter
+	private final String storedProcedureName;
+
+	private final DelegateStoredProcedure storedProcedure;
+	private final OracleParameter[] inputParameters;
+	private final StoredProcedureHandlerParameterProcessor parameterProcessor;
+	private final ProcedureMetrics metrics;
+	private final boolean batchSupported;
+	private final ConcurrentMap<Class<?>, ResultBindingPlan<?>> resultPlans;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param interfaceClass
+	 * @param dataSource
+	 * @param parameterProcessor
+	 */
+	public StoredProcedureInvocationPlan( //@formatter:off
+			@NonNull Class<?> interfaceClass,
+			@NonNull DataSource dataSource,
+			@NonNull StoredProcedureHandlerParameterProcessor parameterProcessor) { //@formatter:on
+		this(interfaceClass, dataSource, parameterProcessor, NoOpOsmMetrics.INSTANCE);
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param interfaceClass
+	 * @param dataSource
+	 * @param parameterProcessor
+	 * @param osmMetrics
+	 */
+	public StoredProcedureInvocationPlan( //@formatter:off
+			@NonNull Class<?> interfaceClass,
+			@NonNull DataSource dataSource,
+			@NonNull StoredProcedureHandlerParameterProcessor parameterProcessor,
+			@NonNull OsmMetrics osmMetrics) { //@formatter:on
+		OracleStoredProcedure annotation = interfaceClass.getAnnotation(OracleStoredProcedure.class);
+		if (annotation == null) {
+			throw new OsmMissingAnnotationException(interfaceClass, OracleStoredProcedure.class);
+		}
+		this.storedProcedureName = resolveStoredProcedureName(annotation);
+		this.parameterProcessor = parameterProcessor;
+		this.metrics = osmMetrics.procedureMetrics(annotation.owner(), annotation.oraclePackage(), annotation.name());
+		log.debug("Building invocation plan of {} using stored procedure {}", interfaceClass.getName(),
+			storedProcedureName);
+
+		List<OracleParameter> inputList = new ArrayList<>();
+		boolean outputDeclared = annotation.isFunction();
+		storedProcedure = new DelegateStoredProcedure(dataSource, storedProcedureName);
+		storedProcedure.setFunction(annotation.isFunction());
+		for (OracleParameter parameter : annotation.parameters()) {
+			switch (parameter.mode()) {
+			case IN:
+				parameterProcessor.declareInputParameter(storedProcedure, parameter);
+				inputList.add(parameter);
+				break;
+			case OUT:
+				parameterProcessor.declareOutputParameter(storedProcedure, parameter, metrics);
+				outputDeclared = true;
+				break;
+			default:
+				parameterProcessor.declareInOutParameter(storedProcedure, parameter, metrics);
+				inputList.add(parameter);
+				outputDeclared = true;
+				break;
+			}
+		}
+		storedProcedure.compile();
+		inputParameters = inputList.toArray(new OracleParameter[inputList.size()]);
+		batchSupported = !outputDeclared;
+		resultPlans = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Executes the stored procedure binding the given input arguments (in declaration order of {@link ParameterType#IN}
+	 * and {@link ParameterType#IN_OUT} parameters).
+	 *
+	 * @param args
+	 * @return Output parameters map.
+	 */
+	public Map<String, Object> execute(Object[] args) {
+		return measure(() -> storedProcedure.execute(bindInputValues(args)));
+	}
+
+	/**
+	 * Executes the stored procedure binding its output parameters to a new instance of the given result class (see
+	 * {@link ResultBindingPlan}).
+	 *
+	 * @param args
+	 * @param resultClass
+	 * @return
+	 */
+	public <R> R execute(Object[] args, @NonNull Class<R> resultClass) {
+		ResultBindingPlan<R> resultPlan = resultPlan(resultClass);
+		return measure(() -> {
+			Map<String, Object> inputMap = bindInputValues(args);
+			return storedProcedure.getJdbcTemplate().execute(storedProcedure.callableStatementCreator(inputMap),
+				(CallableStatementCallback<R>) cs -> {
+					cs.execute();
+					return resultPlan.read(cs);
+				});
+		});
+	}
+
+	/**
+	 * Gets the binding plan of a given result class. Plans are resolved once per result class.
+	 *
+	 * @param resultClass
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> ResultBindingPlan<R> resultPlan(@NonNull Class<R> resultClass) {
+		return (ResultBindingPlan<R>) resultPlans.computeIfAbsent(resultClass,
+			x -> new ResultBindingPlan<>(x, storedProcedure.getDeclaredParameters()));
+	}
+
+	/**
+	 * Executes the stored procedure once per arguments array using JDBC batching. Every call shares the same connection
+	 * and <code>CallableStatement</code>.
+	 *
+	 * @param batchArgs Input arguments of each call (see {@link #execute(Object[])}).
+	 * @return Update counts reported by the driver for each call.
+	 */
+	public int[] executeBatch(@NonNull List<Object[]> batchArgs) {
+		if (!batchSupported) {
+			throw new OsmConnectorException(String.format(
+				"Stored procedure %s can not be executed in batch: output parameters are not supported",
+				storedProcedureName));
+		}
+		if (batchArgs.isEmpty()) {
+			return new int[0];
+		}
+		return measure(() -> doExecuteBatch(batchArgs));
+	}
+
+	private <X> X measure(Supplier<X> execution) {
+		if (!metrics.isEnabled()) {
+			return execution.get();
+		}
+		metrics.start();
+		boolean success = false;
+		try {
+			X result = execution.get();
+			success = true;
+			return result;
+		}
+		finally {
+			metrics.stop(success);
+		}
+	}
+
+	private int[] doExecuteBatch(List<Object[]> batchArgs) {
+		log.debug("Executing {} calls of {} in batch", batchArgs.size(), storedProcedureName);
+		List<SqlParameter> sqlParameters = storedProcedure.getDeclaredParameters();
+		CallableStatementCallback<int[]> callback = cs -> {
+			int[] result = new int[batchArgs.size()];
+			int offset = 0;
+			int pending = 0;
+			for (Object[] args : batchArgs) {
+				Map<String, Object> inputMap = bindInputValues(args);
+				for (int i = 0; i < inputParameters.length; i++) {
+					Object value = inputMap.get(inputParameters[i].name());
+					StatementCreatorUtils.setParameterValue(cs, i + 1, sqlParameters.get(i), value);
+				}
+				cs.addBatch();
+				StatementCreatorUtils.cleanupParameters(inputMap.values());
+				if (++pending == BATCH_SIZE) {
+					offset = flushBatch(cs, result, offset);
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				flushBatch(cs, result, offset);
+			}
+			return result;
+		};
+		return storedProcedure.getJdbcTemplate().execute(storedProcedure.getCallString(), callback);
+	}
+
+	private int flushBatch(CallableStatement cs, int[] result, int offset) throws SQLException {
+		int[] counts = cs.executeBatch();
+		System.arraycopy(counts, 0, result, offset, Math.min(counts.length, result.length - offset));
+		return offset + counts.length;
+	}
+
+	private Map<String, Object> bindInputValues(Object[] args) {
+		int argCount = args != null ? args.length : 0;
+		if (argCount < inputParameters.length) {
+			throw new OsmConnectorException(String.format("Stored procedure %s expects %s input arguments, found %s",
+				storedProcedureName, inputParameters.length, argCount));
+		}
+		Map<String, Object> inputMap = new LinkedHashMap<>(inputParameters.length * 2);
+		for (int i = 0; i < inputParameters.length; i++) {
+			parameterProcessor.bindInputValue(inputParameters[i], inputMap, args[i], metrics);
+		}
+		return inputMap;
+	}
+
+	private String resolveStoredProcedureName(OracleStoredProcedure annotation) {
+		String owner = annotation.owner();
+		String oraclePackage = annotation.oraclePackage();
+		String name = annotation.name();
+		StringBuilder sb = new StringBuilder();
+		if (StringUtils.isNotBlank(owner)) {
+			sb.append(owner).append(".");
+		}
+		if (StringUtils.isNotBlank(oraclePackage)) {
+			sb.append(oraclePackage).append(".");
+		}
+		sb.append(name);
+		return sb.toString();
+	}
+
+}
@@ -5,10 +5,10 @@ import java.sql.SQLException;
 import java.util.List;
 
 import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
 import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
 
-import lombok.AllArgsConstructor;
-
 /**
  * 
  * <code>AbstractSqlTypeValue</code> for Oracle ARRAY objects.
@@ -18,18 +18,52 @@ import lombok.AllArgsConstructor;
  *
  * @param <T>
  */
-@AllArgsConstructor
 public class SqlArrayValue<T> extends AbstractSqlTypeValue {
 
 	private final List<T> source;
 
 	private final ArrayMapper<T> mapper;
 
+	private final ProcedureMetrics metrics;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param source
+	 * @param mapper
+	 */
+	public SqlArrayValue(List<T> source, ArrayMapper<T> mapper) {
+		this(source, mapper, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param source
+	 * @param mapper
+	 * @param metrics Recorder of the binding time and collection sizes.
+	 */
+	public SqlArrayValue(List<T> source, ArrayMapper<T> mapper, ProcedureMetrics metrics) {
+		this.source = source;
+		this.mapper = mapper;
+		this.metrics = metrics;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.jdbc.core.support.AbstractSqlTypeValue#createTypeValue(java.sql.Connection, int, java.lang.String)
 	 */
 	protected Object createTypeValue(Connection conn, int sqlType, String typeName) throws SQLException {
-		return mapper.toArray(this.source, conn);
+		if (!metrics.isEnabled()) {
+			return mapper.toArray(this.source, conn);
+		}
+		long t0 = System.nanoTime();
+		try {
+			return mapper.toArray(this.source, conn);
+		}
+		finally {
+			metrics.recordBinding(System.nanoTime() - t0);
+			metrics.recordCollectionSize(typeName, source.size());
+		}
 	}
 
 }
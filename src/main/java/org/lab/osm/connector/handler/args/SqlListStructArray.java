@@ -2,11 +2,13 @@ package org.lab.osm.connector.handler.args;
 
 import java.sql.CallableStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
 import org.springframework.jdbc.core.SqlReturnType;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import oracle.sql.ARRAY;
 
@@ -18,12 +20,47 @@ import oracle.sql.ARRAY;
  * 
  * @param <T> Domain entity type
  */
-@AllArgsConstructor
 @Slf4j
 public class SqlListStructArray<T> implements SqlReturnType {
 
 	private final ArrayMapper<T> mapper;
 
+	private final ProcedureMetrics metrics;
+
+	private final boolean lazy;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mapper
+	 */
+	public SqlListStructArray(ArrayMapper<T> mapper) {
+		this(mapper, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mapper
+	 * @param metrics Recorder of the decoding time and collection sizes.
+	 */
+	public SqlListStructArray(ArrayMapper<T> mapper, ProcedureMetrics metrics) {
+		this(mapper, metrics, false);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mapper
+	 * @param metrics Recorder of the decoding time and collection sizes.
+	 * @param lazy Returns a list decoding its elements on access.
+	 */
+	public SqlListStructArray(ArrayMapper<T> mapper, ProcedureMetrics metrics, boolean lazy) {
+		this.mapper = mapper;
+		this.metrics = metrics;
+		this.lazy = lazy;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.jdbc.core.SqlReturnType#getTypeValue(java.sql.CallableStatement, int, int, java.lang.String)
 	 */
@@ -34,7 +71,25 @@ public class SqlListStructArray<T> implements SqlReturnType {
 		if (array == null) {
 			return null;
 		}
-		return mapper.fromArray(array);
+		if (!metrics.isEnabled()) {
+			return convert(array);
+		}
+		long t0 = System.nanoTime();
+		List<T> result = null;
+		try {
+			result = convert(array);
+			return result;
+		}
+		finally {
+			metrics.recordDecoding(System.nanoTime() - t0);
+			if (result != null) {
+				metrics.recordCollectionSize(typeName, result.size());
+			}
+		}
+	}
+
+	private List<T> convert(ARRAY array) throws SQLException {
+		return lazy ? mapper.fromArrayLazy(array) : mapper.fromArray(array);
 	}
 
 }
\ No newline at end of file
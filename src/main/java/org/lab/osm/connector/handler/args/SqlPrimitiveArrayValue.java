@@ -0,0 +1,58 @@
+package org.lab.osm.connector.handler.args;
+
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.lab.osm.connector.mapper.PrimitiveArrayMapper;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+
+/**
+ * 
+ * <code>AbstractSqlTypeValue</code> for Oracle ARRAY objects of scalar values.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <A> Java array class
+ */
+public class SqlPrimitiveArrayValue<A> extends AbstractSqlTypeValue {
+
+	private final A source;
+
+	private final PrimitiveArrayMapper<A> mapper;
+
+	private final ProcedureMetrics metrics;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param source
+	 * @param mapper
+	 * @param metrics Recorder of the binding time and collection sizes.
+	 */
+	public SqlPrimitiveArrayValue(A source, PrimitiveArrayMapper<A> mapper, ProcedureMetrics metrics) {
+		this.source = source;
+		this.mapper = mapper;
+		this.metrics = metrics;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.jdbc.core.support.AbstractSqlTypeValue#createTypeValue(java.sql.Connection, int, java.lang.String)
+	 */
+	protected Object createTypeValue(Connection conn, int sqlType, String typeName) throws SQLException {
+		if (!metrics.isEnabled()) {
+			return mapper.toArray(this.source, conn);
+		}
+		long t0 = System.nanoTime();
+		try {
+			return mapper.toArray(this.source, conn);
+		}
+		finally {
+			metrics.recordBinding(System.nanoTime() - t0);
+			metrics.recordCollectionSize(typeName, Array.getLength(source));
+		}
+	}
+
+}
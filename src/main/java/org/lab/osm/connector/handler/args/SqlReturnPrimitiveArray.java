@@ -0,0 +1,68 @@
+package org.lab.osm.connector.handler.args;
+
+import java.lang.reflect.Array;
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+
+import org.lab.osm.connector.mapper.PrimitiveArrayMapper;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
+import org.springframework.jdbc.core.SqlReturnType;
+
+import lombok.extern.slf4j.Slf4j;
+import oracle.sql.ARRAY;
+
+/**
+ * <code>SqlReturnType</code> implementation that returns a java array of a primitive type (or <code>String[]</code>)
+ * from an Oracle ARRAY of scalar values.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <A> Java array class
+ */
+@Slf4j
+public class SqlReturnPrimitiveArray<A> implements SqlReturnType {
+
+	private final PrimitiveArrayMapper<A> mapper;
+
+	private final ProcedureMetrics metrics;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mapper
+	 * @param metrics Recorder of the decoding time and collection sizes.
+	 */
+	public SqlReturnPrimitiveArray(PrimitiveArrayMapper<A> mapper, ProcedureMetrics metrics) {
+		this.mapper = mapper;
+		this.metrics = metrics;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.jdbc.core.SqlReturnType#getTypeValue(java.sql.CallableStatement, int, int, java.lang.String)
+	 */
+	@Override
+	public Object getTypeValue(CallableStatement cs, int i, int sqlType, String typeName) throws SQLException {
+		log.trace("Binding Oracle ARRAY {} as a java array", typeName);
+		ARRAY array = (ARRAY) cs.getObject(i);
+		if (array == null) {
+			return null;
+		}
+		if (!metrics.isEnabled()) {
+			return mapper.fromArray(array);
+		}
+		long t0 = System.nanoTime();
+		A result = null;
+		try {
+			result = mapper.fromArray(array);
+			return result;
+		}
+		finally {
+			metrics.recordDecoding(System.nanoTime() - t0);
+			if (result != null) {
+				metrics.recordCollectionSize(typeName, Array.getLength(result));
+			}
+		}
+	}
+
+}
@@ -4,9 +4,10 @@ import java.sql.CallableStatement;
 import java.sql.SQLException;
 
 import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
 import org.springframework.jdbc.core.SqlReturnType;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import oracle.sql.STRUCT;
 
@@ -19,11 +20,32 @@ import oracle.sql.STRUCT;
  * @param <T> Domain entity type
  */
 @Slf4j
-@AllArgsConstructor
 public class SqlReturnStruct implements SqlReturnType {
 
 	private final StructMapper<?> mapper;
 
+	private final ProcedureMetrics metrics;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mapper
+	 */
+	public SqlReturnStruct(StructMapper<?> mapper) {
+		this(mapper, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mapper
+	 * @param metrics Recorder of the decoding time.
+	 */
+	public SqlReturnStruct(StructMapper<?> mapper, ProcedureMetrics metrics) {
+		this.mapper = mapper;
+		this.metrics = metrics;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.jdbc.core.SqlReturnType#getTypeValue(java.sql.CallableStatement, int, int, java.lang.String)
 	 */
@@ -34,7 +56,16 @@ public class SqlReturnStruct implements SqlReturnType {
 		if (struct == null) {
 			return null;
 		}
-		return mapper.fromStruct(struct);
+		if (!metrics.isEnabled()) {
+			return mapper.fromStruct(struct);
+		}
+		long t0 = System.nanoTime();
+		try {
+			return mapper.fromStruct(struct);
+		}
+		finally {
+			metrics.recordDecoding(System.nanoTime() - t0);
+		}
 	}
 
 }
@@ -4,10 +4,10 @@ import java.sql.Connection;
 import java.sql.SQLException;
 
 import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.metrics.NoOpOsmMetrics;
+import org.lab.osm.connector.metrics.ProcedureMetrics;
 import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
 
-import lombok.AllArgsConstructor;
-
 /**
  * 
  * <code>AbstractSqlTypeValue</code> for Oracle STRUCT objects.
@@ -17,18 +17,51 @@ import lombok.AllArgsConstructor;
  *
  * @param <T>
  */
-@AllArgsConstructor
 public class SqlStructValue<T> extends AbstractSqlTypeValue {
 
 	private final T source;
 
 	private final StructMapper<T> mapper;
 
+	private final ProcedureMetrics metrics;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param source
+	 * @param mapper
+	 */
+	public SqlStructValue(T source, StructMapper<T> mapper) {
+		this(source, mapper, NoOpOsmMetrics.PROCEDURE);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param source
+	 * @param mapper
+	 * @param metrics Recorder of the binding time.
+	 */
+	public SqlStructValue(T source, StructMapper<T> mapper, ProcedureMetrics metrics) {
+		this.source = source;
+		this.mapper = mapper;
+		this.metrics = metrics;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.jdbc.core.support.AbstractSqlTypeValue#createTypeValue(java.sql.Connection, int, java.lang.String)
 	 */
 	protected Object createTypeValue(Connection conn, int sqlType, String typeName) throws SQLException {
-		return mapper.toStruct(this.source, conn);
+		if (!metrics.isEnabled()) {
+			return mapper.toStruct(this.source, conn);
+		}
+		long t0 = System.nanoTime();
+		try {
+			return mapper.toStruct(this.source, conn);
+		}
+		finally {
+			metrics.recordBinding(System.nanoTime() - t0);
+		}
 	}
 
 }
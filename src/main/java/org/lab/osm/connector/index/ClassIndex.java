@@ -0,0 +1,172 @@
+package org.lab.osm.connector.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.reflections.Reflections;
+import org.springframework.util.ClassUtils;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the types of a package annotated with a given annotation.
+ *
+ * Uses the index generated at compile time by {@link OsmIndexProcessor} when every classpath location of the package
+ * has been indexed, and scans the package using {@link Reflections} otherwise (for example when the package is split
+ * between an indexed module and a module compiled without the processor). Stale entries are skipped with a warning.
+ * The index can be ignored defining the system property {@value #IGNORE_INDEX_PROPERTY}.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class ClassIndex {
+
+	/**
+	 * System property used to ignore the index and always scan the classpath.
+	 */
+	public static final String IGNORE_INDEX_PROPERTY = "osm.index.ignore";
+
+	private ClassIndex() {
+	}
+
+	/**
+	 * Finds the types annotated with a given annotation in a package (and its subpackages).
+	 *
+	 * @param packageName
+	 * @param annotation
+	 * @return
+	 */
+	public static List<Class<?>> getAnnotatedTypes(@NonNull String packageName,
+		@NonNull Class<? extends Annotation> annotation) {
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		Set<String> indexed = Boolean.getBoolean(IGNORE_INDEX_PROPERTY) ? null : readIndex(annotation, classLoader);
+		if (indexed == null) {
+			log.debug("No {} index found. Scanning package {}", annotation.getSimpleName(), packageName);
+			return new ArrayList<>(new Reflections(packageName).getTypesAnnotatedWith(annotation));
+		}
+		if (!isIndexed(packageName, annotation, classLoader)) {
+			log.debug("Package {} has locations without {} index. Scanning package", packageName,
+				annotation.getSimpleName());
+			return new ArrayList<>(new Reflections(packageName).getTypesAnnotatedWith(annotation));
+		}
+		List<Class<?>> result = resolveIndexed(packageName, annotation, indexed, classLoader);
+		if (result.isEmpty()) {
+			log.debug("No {} types of package {} in index. Scanning package", annotation.getSimpleName(),
+				packageName);
+			return new ArrayList<>(new Reflections(packageName).getTypesAnnotatedWith(annotation));
+		}
+		log.debug("Resolved {} {} types of package {} from index", result.size(), annotation.getSimpleName(),
+			packageName);
+		return result;
+	}
+
+	/**
+	 * Resolves the indexed types of a given package, skipping the entries that can not be loaded or are no longer
+	 * annotated.
+	 *
+	 * @param packageName
+	 * @param annotation
+	 * @param indexed Indexed class names.
+	 * @param classLoader
+	 * @return
+	 */
+	static List<Class<?>> resolveIndexed(String packageName, Class<? extends Annotation> annotation,
+		Set<String> indexed, ClassLoader classLoader) {
+		String prefix = packageName + ".";
+		List<Class<?>> result = new ArrayList<>();
+		for (String className : indexed) {
+			if (className.startsWith(prefix)) {
+				Class<?> type;
+				try {
+					type = ClassUtils.forName(className, classLoader);
+				}
+				catch (ClassNotFoundException | LinkageError ex) {
+					log.warn("Ignoring stale {} index entry {}: {}", annotation.getSimpleName(), className,
+						ex.toString());
+					continue;
+				}
+				if (type.isAnnotationPresent(annotation)) {
+					result.add(type);
+				}
+				else {
+					log.warn("Ignoring stale {} index entry {}: not annotated", annotation.getSimpleName(),
+						className);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if every classpath location (directory or jar) containing a package has an index of the given annotation.
+	 *
+	 * @param packageName
+	 * @param annotation
+	 * @param classLoader
+	 * @return
+	 */
+	static boolean isIndexed(String packageName, Class<? extends Annotation> annotation, ClassLoader classLoader) {
+		String indexName = IndexResources.resourceName(annotation);
+		String packagePath = packageName.replace('.', '/');
+		try {
+			Set<String> indexedRoots = new HashSet<>();
+			for (URL url : Collections.list(classLoader.getResources(indexName))) {
+				indexedRoots.add(resourceRoot(url, indexName));
+			}
+			for (URL url : Collections.list(classLoader.getResources(packagePath))) {
+				if (!indexedRoots.contains(resourceRoot(url, packagePath))) {
+					log.debug("Location {} of package {} is not indexed", url, packageName);
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (IOException ex) {
+			throw new OsmConnectorException("Cant read locations of package " + packageName, ex);
+		}
+	}
+
+	private static String resourceRoot(URL url, String resourceName) {
+		String location = url.toExternalForm();
+		if (location.endsWith("/")) {
+			location = location.substring(0, location.length() - 1);
+		}
+		return location.endsWith(resourceName) ? location.substring(0, location.length() - resourceName.length())
+			: location;
+	}
+
+	private static Set<String> readIndex(Class<? extends Annotation> annotation, ClassLoader classLoader) {
+		try {
+			Enumeration<URL> resources = classLoader.getResources(IndexResources.resourceName(annotation));
+			if (!resources.hasMoreElements()) {
+				return null;
+			}
+			Set<String> result = new LinkedHashSet<>();
+			for (URL url : Collections.list(resources)) {
+				try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					reader.lines().map(String::trim).filter(x -> !x.isEmpty()).forEach(result::add);
+				}
+			}
+			return result;
+		}
+		catch (IOException ex) {
+			throw new OsmConnectorException("Cant read " + annotation.getSimpleName() + " index", ex);
+		}
+	}
+
+}
@@ -0,0 +1,31 @@
+package org.lab.osm.connector.index;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Location of the index resources shared by {@link OsmIndexProcessor} and {@link ClassIndex}.
+ *
+ * The annotation processor runs in the compiler, whose processor path may not contain the runtime dependencies of the
+ * library, so this class must not depend on anything but the JDK.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+final class IndexResources {
+
+	static final String INDEX_LOCATION = "META-INF/osm/";
+
+	private IndexResources() {
+	}
+
+	/**
+	 * Index resource name of a given annotation.
+	 *
+	 * @param annotation
+	 * @return
+	 */
+	static String resourceName(Class<? extends Annotation> annotation) {
+		return INDEX_LOCATION + annotation.getSimpleName() + ".index";
+	}
+
+}
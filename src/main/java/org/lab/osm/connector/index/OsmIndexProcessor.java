@@ -0,0 +1,126 @@
+package org.lab.osm.connector.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.annotation.OracleStruct;
+
+/**
+ * Annotation processor writing the index of the types annotated with {@link OracleStruct} and
+ * {@link OracleStoredProcedure} read by {@link ClassIndex}.
+ *
+ * Entries of a previous compilation (incremental builds) are kept while their types still exist and are annotated.
+ * Indexes without entries are not written, so modules without annotated types do not disable the scanning of other
+ * modules.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class OsmIndexProcessor extends AbstractProcessor {
+
+	private static final Set<Class<? extends Annotation>> INDEXED_ANNOTATIONS = Collections
+		.unmodifiableSet(new HashSet<>(Arrays.asList(OracleStruct.class, OracleStoredProcedure.class)));
+
+	private final Map<Class<? extends Annotation>, Set<String>> entries = new LinkedHashMap<>();
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return INDEXED_ANNOTATIONS.stream().map(Class::getName).collect(Collectors.toSet());
+	}
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Class<? extends Annotation> annotation : INDEXED_ANNOTATIONS) {
+			Set<String> names = entries.computeIfAbsent(annotation, x -> readExisting(x));
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element instanceof TypeElement) {
+					names.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+				}
+			}
+		}
+		if (roundEnv.processingOver()) {
+			entries.forEach(this::write);
+		}
+		return false;
+	}
+
+	private Set<String> readExisting(Class<? extends Annotation> annotation) {
+		Set<String> result = new TreeSet<>();
+		try {
+			FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+				IndexResources.resourceName(annotation));
+			try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+				reader.lines().map(String::trim).filter(x -> !x.isEmpty() && isAnnotated(x, annotation))
+					.forEach(result::add);
+			}
+		}
+		catch (IOException ex) {
+			// No previous index
+		}
+		return result;
+	}
+
+	private boolean isAnnotated(String className, Class<? extends Annotation> annotation) {
+		TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+		return type != null && type.getAnnotation(annotation) != null;
+	}
+
+	private void write(Class<? extends Annotation> annotation, Set<String> names) {
+		if (names.isEmpty()) {
+			return;
+		}
+		String resourceName = IndexResources.resourceName(annotation);
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				resourceName);
+			try (Writer writer = resource.openWriter()) {
+				for (String name : names) {
+					writer.write(name);
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+				"Cant write OSM index " + resourceName + ": " + ex.getMessage());
+		}
+	}
+
+}
@@ -35,4 +35,17 @@ public interface ArrayMapper<T> {
 	 * @throws SQLException
 	 */
 	List<T> fromArray(ARRAY array) throws SQLException;
+
+	/**
+	 * Converts an Oracle ARRAY object to a list of model entities decoded on access. By default the array is decoded
+	 * eagerly.
+	 * @param array
+	 * @return
+	 * @throws SQLException
+	 * @since 1.1.0
+	 */
+	default List<T> fromArrayLazy(ARRAY array) throws SQLException {
+		return fromArray(array);
+	}
+
 }
@@ -0,0 +1,264 @@
+package org.lab.osm.connector.mapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.converter.AttributeConverter;
+import org.springframework.util.Assert;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import oracle.sql.ARRAY;
+import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
+
+/**
+ * Base class of the {@link StructMapper} implementations generated at compile time by
+ * <code>org.lab.osm.connector.mapper.processor.OsmMapperProcessor</code>.
+ *
+ * Generated mappers read and write the attributes of a STRUCT in a fixed order (the declaration order of the entity
+ * fields) using direct field or accessor calls. The order is verified against the Oracle metadata when the mapper is
+ * registered by <code>MetadataStructMapperService</code>. STRUCT instances with a different number of attributes (for
+ * example subtypes) are delegated to the fallback mapper. As in the metadata mapper, attributes that can not be
+ * converted are logged and left unset.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <T> Entity class
+ */
+@Slf4j
+public abstract class GeneratedStructMapper<T> implements StructMapper<T> {
+
+	/**
+	 * Suffix of the generated class name (the mapper of <code>Customer</code> is <code>CustomerOsmMapper</code>).
+	 */
+	public static final String CLASS_NAME_SUFFIX = "OsmMapper";
+
+	@Getter
+	private final Class<T> mappedClass;
+
+	@Getter
+	private final String structName;
+
+	private final String[] properties;
+
+	private StructMapperService mapperService;
+	private StructDefinitionService definitionService;
+	private OracleTypeFactory typeFactory;
+	private StructMapper<T> fallback;
+	private AttributeConverter<Object>[] converters;
+
+	/**
+	 * Constructor invoked by the generated classes.
+	 *
+	 * @param mappedClass Entity class.
+	 * @param structName Oracle type name.
+	 * @param properties Java properties ordered by Oracle attribute position.
+	 */
+	protected GeneratedStructMapper(Class<T> mappedClass, String structName, String[] properties) {
+		this.mappedClass = mappedClass;
+		this.structName = structName;
+		this.properties = properties;
+	}
+
+	/**
+	 * Resolves the name of the generated mapper of a given entity.
+	 *
+	 * @param mappedClass
+	 * @return
+	 */
+	public static String generatedClassName(Class<?> mappedClass) {
+		return mappedClass.getName().replace('$', '_') + CLASS_NAME_SUFFIX;
+	}
+
+	/**
+	 * Java properties ordered by Oracle attribute position.
+	 *
+	 * @return
+	 */
+	public List<String> getProperties() {
+		return Collections.unmodifiableList(Arrays.asList(properties));
+	}
+
+	/**
+	 * Binds the services used by the mapper. Invoked once before the mapper is published.
+	 *
+	 * @param mapperService Service used to resolve nested mappers.
+	 * @param definitionService
+	 * @param typeFactory
+	 * @param fallback Mapper used for STRUCT instances not matching the generated attribute order.
+	 * @param converters Converters of the simple attributes by Oracle attribute position.
+	 */
+	@SuppressWarnings("unchecked")
+	public void bind( //@formatter:off
+			@NonNull StructMapperService mapperService,
+			@NonNull StructDefinitionService definitionService,
+			@NonNull OracleTypeFactory typeFactory,
+			@NonNull StructMapper<T> fallback,
+			@NonNull AttributeConverter<?>[] converters) { //@formatter:on
+		Assert.isTrue(converters.length == properties.length, "Expected " + properties.length + " converters");
+		this.mapperService = mapperService;
+		this.definitionService = definitionService;
+		this.typeFactory = typeFactory;
+		this.fallback = fallback;
+		this.converters = (AttributeConverter<Object>[]) converters;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.StructMapper#toStruct(java.lang.Object, java.sql.Connection)
+	 */
+	@Override
+	public STRUCT toStruct(@NonNull T source, Connection conn) throws SQLException {
+		Assert.isTrue(mappedClass.equals(source.getClass()),
+			"Expected " + mappedClass.getName() + ", found " + source.getClass().getName());
+		Object[] values = writeAttributes(source, conn);
+		try {
+			StructDescriptor descriptor = definitionService.structDescriptor(structName, conn);
+			return typeFactory.createStruct(descriptor, conn, values);
+		}
+		catch (SQLException ex) {
+			throw new OsmMappingException(String.format("Error mapping class %s", mappedClass.getName()), ex);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.StructMapper#fromStruct(oracle.sql.STRUCT)
+	 */
+	@Override
+	public T fromStruct(@NonNull STRUCT struct) throws SQLException {
+		Object[] attributes = struct.getAttributes();
+		if (attributes.length != properties.length) {
+			return fallback.fromStruct(struct);
+		}
+		T target = newInstance();
+		readAttributes(attributes, target);
+		return target;
+	}
+
+	/**
+	 * Creates a new entity.
+	 *
+	 * @return
+	 */
+	protected abstract T newInstance();
+
+	/**
+	 * Copies the STRUCT attributes (in Oracle attribute order) to the given entity. Conversion errors of each attribute
+	 * are reported to {@link #readFailed(int, Object, Exception)}.
+	 *
+	 * @param attributes
+	 * @param target
+	 */
+	protected abstract void readAttributes(Object[] attributes, T target);
+
+	/**
+	 * Resolves the STRUCT attribute values (in Oracle attribute order) of the given entity.
+	 *
+	 * @param source
+	 * @param conn
+	 * @return
+	 * @throws SQLException
+	 */
+	protected abstract Object[] writeAttributes(T source, Connection conn) throws SQLException;
+
+	/**
+	 * Converts a simple attribute value to the java property type.
+	 *
+	 * @param index Oracle attribute position.
+	 * @param value
+	 * @return
+	 */
+	protected final Object readValue(int index, Object value) {
+		return value != null ? converters[index].toJava(value) : null;
+	}
+
+	/**
+	 * Logs an attribute that can not be converted, which is left unset.
+	 *
+	 * @param index Oracle attribute position.
+	 * @param value
+	 * @param ex
+	 */
+	protected final void readFailed(int index, Object value, Exception ex) {
+		log.error("Cant set property value {}: {}", properties[index], value, ex);
+	}
+
+	/**
+	 * Converts a nested STRUCT attribute.
+	 *
+	 * @param value
+	 * @param type
+	 * @return
+	 * @throws SQLException
+	 */
+	protected final <V> V readStruct(Object value, Class<V> type) throws SQLException {
+		if (value == null) {
+			return null;
+		}
+		Assert.isInstanceOf(STRUCT.class, value);
+		return mapperService.mapper(type).fromStruct((STRUCT) value);
+	}
+
+	/**
+	 * Converts an Oracle collection attribute.
+	 *
+	 * @param value
+	 * @param type Collection element type.
+	 * @param collectionName Oracle collection name.
+	 * @return
+	 * @throws SQLException
+	 */
+	protected final <V> List<V> readArray(Object value, Class<V> type, String collectionName) throws SQLException {
+		if (value == null) {
+			return null;
+		}
+		Assert.isInstanceOf(ARRAY.class, value);
+		return mapperService.arrayMapper(type, collectionName).fromArray((ARRAY) value);
+	}
+
+	/**
+	 * Resolves the attribute value of a simple property.
+	 *
+	 * @param index Oracle attribute position.
+	 * @param value
+	 * @return
+	 */
+	protected final Object writeValue(int index, Object value) {
+		return value != null ? converters[index].toOracle(value) : null;
+	}
+
+	/**
+	 * Resolves the attribute value of a nested entity.
+	 *
+	 * @param value
+	 * @param type
+	 * @param conn
+	 * @return
+	 * @throws SQLException
+	 */
+	protected final <V> STRUCT writeStruct(V value, Class<V> type, Connection conn) throws SQLException {
+		return value != null ? mapperService.mapper(type).toStruct(value, conn) : null;
+	}
+
+	/**
+	 * Resolves the attribute value of an Oracle collection.
+	 *
+	 * @param value
+	 * @param type Collection element type.
+	 * @param collectionName Oracle collection name.
+	 * @param conn
+	 * @return
+	 * @throws SQLException
+	 */
+	protected final <V> ARRAY writeArray(List<V> value, Class<V> type, String collectionName, Connection conn)
+		throws SQLException {
+		return value != null ? mapperService.arrayMapper(type, collectionName).toArray(value, conn) : null;
+	}
+
+}
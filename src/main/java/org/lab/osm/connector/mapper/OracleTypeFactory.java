@@ -0,0 +1,55 @@
+package org.lab.osm.connector.mapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
+
+/**
+ * Component used by the mappers to create the Oracle <code>STRUCT</code> and <code>ARRAY</code> instances.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public interface OracleTypeFactory {
+
+	/**
+	 * Creates a STRUCT from its attribute values.
+	 *
+	 * @param descriptor
+	 * @param connection
+	 * @param attributes
+	 * @return
+	 * @throws SQLException
+	 */
+	STRUCT createStruct(StructDescriptor descriptor, Connection connection, Object[] attributes) throws SQLException;
+
+	/**
+	 * Creates an ARRAY from its element values.
+	 *
+	 * @param descriptor
+	 * @param connection
+	 * @param elements
+	 * @return
+	 * @throws SQLException
+	 */
+	ARRAY createArray(ArrayDescriptor descriptor, Connection connection, Object[] elements) throws SQLException;
+
+	/**
+	 * Creates an ARRAY from a java array of a primitive type (or <code>String[]</code>) without boxing its elements.
+	 *
+	 * @param descriptor
+	 * @param connection
+	 * @param elements
+	 * @return
+	 * @throws SQLException
+	 */
+	default ARRAY createPrimitiveArray(ArrayDescriptor descriptor, Connection connection, Object elements)
+		throws SQLException {
+		return new ARRAY(descriptor, connection, elements);
+	}
+
+}
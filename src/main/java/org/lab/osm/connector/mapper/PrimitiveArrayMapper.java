@@ -0,0 +1,42 @@
+package org.lab.osm.connector.mapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import oracle.sql.ARRAY;
+
+/**
+ * Component to perform the conversions between <code>oracle.sql.ARRAY</code> collections of a scalar type
+ * (<code>TABLE OF NUMBER</code>, <code>TABLE OF VARCHAR2</code>...) and java arrays.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <A> Java array class (<code>long[]</code>, <code>int[]</code>, <code>double[]</code> or
+ * <code>String[]</code>).
+ *
+ * @see ArrayMapper
+ */
+public interface PrimitiveArrayMapper<A> {
+
+	/**
+	 * Converts a java array to an Oracle ARRAY object.
+	 * 
+	 * @param source
+	 * @param connection
+	 * @return
+	 * @throws SQLException
+	 */
+	ARRAY toArray(A source, Connection connection) throws SQLException;
+
+	/**
+	 * Converts an Oracle ARRAY object to a java array. <code>NULL</code> elements are converted to <code>0</code> in
+	 * numeric arrays.
+	 * 
+	 * @param array
+	 * @return
+	 * @throws SQLException
+	 */
+	A fromArray(ARRAY array) throws SQLException;
+
+}
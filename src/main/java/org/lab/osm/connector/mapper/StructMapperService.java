@@ -26,4 +26,14 @@ public interface StructMapperService {
 	 * @return
 	 */
 	<T> ArrayMapper<T> arrayMapper(Class<T> mappedClass, String collectionName);
+
+	/**
+	 * Gets the {@link PrimitiveArrayMapper} used to perform conversions between Oracle ARRAYs of scalar values and java
+	 * arrays.
+	 * @param arrayClass
+	 * @param collectionName
+	 * @return
+	 * @since 1.1.0
+	 */
+	<A> PrimitiveArrayMapper<A> primitiveArrayMapper(Class<A> arrayClass, String collectionName);
 }
@@ -0,0 +1,81 @@
+package org.lab.osm.connector.mapper.converter;
+
+import java.util.function.Function;
+
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+
+/**
+ * Conversion between the value of a STRUCT attribute (as returned by the Oracle driver) and the java property type.
+ *
+ * Converters are resolved once per attribute by the {@link AttributeConverterRegistry}, so implementations should not
+ * inspect the value class to decide the conversion. <code>null</code> values are never passed to converters.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <J> Java property type
+ */
+public interface AttributeConverter<J> {
+
+	/**
+	 * Java property type handled by the converter (wrapper type for primitive properties).
+	 *
+	 * @return
+	 */
+	Class<J> getJavaType();
+
+	/**
+	 * Checks if the converter can be applied to a given Oracle attribute.
+	 *
+	 * @param field Oracle attribute metadata.
+	 * @return
+	 */
+	default boolean supports(FieldMetadata field) {
+		return true;
+	}
+
+	/**
+	 * Converts an Oracle attribute value to the java property type.
+	 *
+	 * @param value
+	 * @return
+	 */
+	J toJava(Object value);
+
+	/**
+	 * Converts a java property value to the Oracle attribute value.
+	 *
+	 * @param value
+	 * @return
+	 */
+	Object toOracle(J value);
+
+	/**
+	 * Creates a converter from a pair of functions.
+	 *
+	 * @param javaType
+	 * @param toJava
+	 * @param toOracle
+	 * @return
+	 */
+	static <J> AttributeConverter<J> of(Class<J> javaType, Function<Object, J> toJava, Function<J, Object> toOracle) {
+		return new AttributeConverter<J>() {
+
+			@Override
+			public Class<J> getJavaType() {
+				return javaType;
+			}
+
+			@Override
+			public J toJava(Object value) {
+				return toJava.apply(value);
+			}
+
+			@Override
+			public Object toOracle(J value) {
+				return toOracle.apply(value);
+			}
+		};
+	}
+
+}
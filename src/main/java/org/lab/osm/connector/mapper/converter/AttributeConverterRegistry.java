@@ -0,0 +1,63 @@
+package org.lab.osm.connector.mapper.converter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.springframework.util.ClassUtils;
+
+import lombok.NonNull;
+
+/**
+ * Registry resolving the {@link AttributeConverter} of each STRUCT attribute from its Oracle metadata and the java
+ * property type.
+ *
+ * Custom converters are checked first (in registration order) and then the built-in converters (numbers, booleans
+ * stored as numbers, enums and <code>java.time</code> types). Types without specific converter use the Spring
+ * <code>ConversionService</code>.
+ *
+ * Converters are resolved when the mappers build their plans, so converting a value is a single call.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class AttributeConverterRegistry {
+
+	private final List<AttributeConverter<?>> converters;
+
+	/**
+	 * Public constructor (built-in converters only).
+	 */
+	public AttributeConverterRegistry() {
+		this(Collections.emptyList());
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param converters Custom converters.
+	 */
+	public AttributeConverterRegistry(@NonNull List<? extends AttributeConverter<?>> converters) {
+		this.converters = new ArrayList<>(converters);
+	}
+
+	/**
+	 * Resolves the converter of a given attribute.
+	 *
+	 * @param field Oracle attribute metadata.
+	 * @param propertyType Java property type.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public AttributeConverter<Object> resolve(@NonNull FieldMetadata field, @NonNull Class<?> propertyType) {
+		Class<?> javaType = ClassUtils.resolvePrimitiveIfNecessary(propertyType);
+		for (AttributeConverter<?> converter : converters) {
+			if (converter.getJavaType().equals(javaType) && converter.supports(field)) {
+				return (AttributeConverter<Object>) converter;
+			}
+		}
+		return (AttributeConverter<Object>) DefaultAttributeConverters.resolve(javaType, field);
+	}
+
+}
@@ -0,0 +1,165 @@
+package org.lab.osm.connector.mapper.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import oracle.sql.Datum;
+
+/**
+ * Built-in converters of {@link AttributeConverterRegistry}:
+ * <ul>
+ * <li>Numeric attributes to java numbers and primitives (direct narrowing: fractional digits are discarded and
+ * overflow is rejected).</li>
+ * <li>Numeric attributes to <code>Boolean</code> (<code>0</code> is <code>false</code>).</li>
+ * <li>Enums by name, or by ordinal for numeric attributes.</li>
+ * <li><code>LocalDate</code>, <code>LocalDateTime</code> and <code>Instant</code> from <code>DATE</code> and
+ * <code>TIMESTAMP</code> attributes.</li>
+ * <li>Any other type through the Spring <code>ConversionService</code>.</li>
+ * </ul>
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+final class DefaultAttributeConverters {
+
+	private static final Set<String> NUMERIC_CLASS_NAMES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		BigDecimal.class.getName(), Double.class.getName(), Float.class.getName(), Long.class.getName(),
+		Integer.class.getName())));
+
+	private DefaultAttributeConverters() {
+	}
+
+	/**
+	 * Resolves the built-in converter of a given attribute.
+	 *
+	 * @param javaType Property type (wrapper type for primitive properties).
+	 * @param field Oracle attribute metadata.
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static AttributeConverter<?> resolve(Class<?> javaType, FieldMetadata field) {
+		boolean numeric = NUMERIC_CLASS_NAMES.contains(field.getOracleColumnClassName());
+		if (javaType == Long.class) {
+			return number(Long.class, DefaultAttributeConverters::toLong);
+		}
+		else if (javaType == Integer.class) {
+			return number(Integer.class, x -> Math.toIntExact(toLong(x)));
+		}
+		else if (javaType == Short.class) {
+			return number(Short.class, x -> (short) narrow(toLong(x), Short.MIN_VALUE, Short.MAX_VALUE));
+		}
+		else if (javaType == Byte.class) {
+			return number(Byte.class, x -> (byte) narrow(toLong(x), Byte.MIN_VALUE, Byte.MAX_VALUE));
+		}
+		else if (javaType == Double.class) {
+			return number(Double.class, x -> ((Number) x).doubleValue());
+		}
+		else if (javaType == Float.class) {
+			return number(Float.class, x -> ((Number) x).floatValue());
+		}
+		else if (javaType == Boolean.class && numeric) {
+			return AttributeConverter.of(Boolean.class, //@formatter:off
+				x -> x instanceof Number ? ((Number) x).intValue() != 0 : convert(x, Boolean.class),
+				x -> x ? BigDecimal.ONE : BigDecimal.ZERO); //@formatter:on
+		}
+		else if (javaType.isEnum()) {
+			return numeric ? ordinalEnum((Class<Enum>) javaType) : namedEnum((Class<Enum>) javaType);
+		}
+		else if (javaType == LocalDate.class) {
+			return AttributeConverter.of(LocalDate.class, x -> toTimestamp(x).toLocalDateTime().toLocalDate(),
+				java.sql.Date::valueOf);
+		}
+		else if (javaType == LocalDateTime.class) {
+			return AttributeConverter.of(LocalDateTime.class, x -> toTimestamp(x).toLocalDateTime(),
+				Timestamp::valueOf);
+		}
+		else if (javaType == Instant.class) {
+			return AttributeConverter.of(Instant.class, x -> toTimestamp(x).toInstant(), Timestamp::from);
+		}
+		return AttributeConverter.of((Class<Object>) javaType, //@formatter:off
+			x -> javaType.isInstance(x) ? x : convert(x, javaType),
+			DefaultAttributeConverters::toOracleValue); //@formatter:on
+	}
+
+	/**
+	 * Oracle value of a property without specific converter. Dates are sent as <code>java.sql.Date</code>.
+	 */
+	private static Object toOracleValue(Object value) {
+		return value instanceof Date ? new java.sql.Date(((Date) value).getTime()) : value;
+	}
+
+	private static <N extends Number> AttributeConverter<N> number(Class<N> type, Function<Object, N> narrowing) {
+		return AttributeConverter.of(type, x -> x instanceof Number ? narrowing.apply(x) : convert(x, type),
+			x -> x);
+	}
+
+	private static <E extends Enum<E>> AttributeConverter<E> namedEnum(Class<E> type) {
+		return AttributeConverter.of(type, x -> Enum.valueOf(type, x.toString().trim()), Enum::name);
+	}
+
+	private static <E extends Enum<E>> AttributeConverter<E> ordinalEnum(Class<E> type) {
+		E[] constants = type.getEnumConstants();
+		return AttributeConverter.of(type, x -> constants[Math.toIntExact(toLong(x))],
+			x -> BigDecimal.valueOf(x.ordinal()));
+	}
+
+	/**
+	 * Fractional digits are discarded, values out of the <code>long</code> range throw an
+	 * <code>ArithmeticException</code>.
+	 */
+	private static long toLong(Object value) {
+		if (value instanceof BigDecimal) {
+			return ((BigDecimal) value).setScale(0, RoundingMode.DOWN).longValueExact();
+		}
+		else if (value instanceof BigInteger) {
+			return ((BigInteger) value).longValueExact();
+		}
+		return ((Number) value).longValue();
+	}
+
+	private static long narrow(long value, long min, long max) {
+		if (value < min || value > max) {
+			throw new ArithmeticException("Value out of range: " + value);
+		}
+		return value;
+	}
+
+	private static Timestamp toTimestamp(Object value) {
+		if (value instanceof Timestamp) {
+			return (Timestamp) value;
+		}
+		else if (value instanceof Date) {
+			return new Timestamp(((Date) value).getTime());
+		}
+		else if (value instanceof Datum) {
+			try {
+				return ((Datum) value).timestampValue();
+			}
+			catch (SQLException ex) {
+				throw new OsmMappingException("Cant read timestamp value " + value, ex);
+			}
+		}
+		return convert(value, Timestamp.class);
+	}
+
+	private static <T> T convert(Object value, Class<T> type) {
+		return DefaultConversionService.getSharedInstance().convert(value, type);
+	}
+
+}
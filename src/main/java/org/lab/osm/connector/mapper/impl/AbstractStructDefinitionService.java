@@ -0,0 +1,166 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.Connection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+
+import lombok.NonNull;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.StructDescriptor;
+
+/**
+ * Base {@link StructDefinitionService} caching descriptors in memory.
+ *
+ * Descriptors are loaded at most once per type name: when several threads request a type that is not cached yet only
+ * one of them loads it while the others wait for its result. Failed loads are not cached.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public abstract class AbstractStructDefinitionService implements StructDefinitionService {
+
+	private final ConcurrentMap<String, FutureTask<StructDescriptor>> structDescriptorValues;
+	private final ConcurrentMap<String, FutureTask<ArrayDescriptor>> arrayDescriptorValues;
+
+	private final LongAdder hitCount;
+	private final LongAdder missCount;
+	private final LongAdder loadErrorCount;
+	private final LongAdder loadTime;
+
+	protected AbstractStructDefinitionService() {
+		structDescriptorValues = new ConcurrentHashMap<>();
+		arrayDescriptorValues = new ConcurrentHashMap<>();
+		hitCount = new LongAdder();
+		missCount = new LongAdder();
+		loadErrorCount = new LongAdder();
+		loadTime = new LongAdder();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.StructDefinitionService#structDescriptor(java.lang.String, java.sql.Connection)
+	 */
+	@Override
+	public StructDescriptor structDescriptor(@NonNull String typeName, Connection connection) {
+		return resolve(structDescriptorValues, typeName, () -> loadStructDescriptor(typeName, connection), "struct");
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.StructDefinitionService#arrayDescriptor(java.lang.String, java.sql.Connection)
+	 */
+	@Override
+	public ArrayDescriptor arrayDescriptor(@NonNull String typeName, Connection connection) {
+		return resolve(arrayDescriptorValues, typeName, () -> loadArrayDescriptor(typeName, connection), "array");
+	}
+
+	/**
+	 * Number of requests served by a cached (or already loading) descriptor.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Number of requests that triggered a descriptor load.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Number of descriptor loads that failed.
+	 *
+	 * @return
+	 */
+	public long getLoadErrorCount() {
+		return loadErrorCount.sum();
+	}
+
+	/**
+	 * Total time spent loading descriptors.
+	 *
+	 * @param unit
+	 * @return
+	 */
+	public long getLoadTime(@NonNull TimeUnit unit) {
+		return unit.convert(loadTime.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Loads a <code>StructDescriptor</code> not present in the cache.
+	 *
+	 * @param typeName
+	 * @param connection
+	 * @return
+	 * @throws Exception
+	 */
+	protected abstract StructDescriptor loadStructDescriptor(String typeName, Connection connection)
+		throws Exception;
+
+	/**
+	 * Loads an <code>ArrayDescriptor</code> not present in the cache.
+	 *
+	 * @param typeName
+	 * @param connection
+	 * @return
+	 * @throws Exception
+	 */
+	protected abstract ArrayDescriptor loadArrayDescriptor(String typeName, Connection connection) throws Exception;
+
+	private <T> T resolve(ConcurrentMap<String, FutureTask<T>> cache, String typeName, Callable<T> loader,
+		String kind) {
+		FutureTask<T> task = cache.get(typeName);
+		if (task == null) {
+			FutureTask<T> loadTask = new FutureTask<>(() -> timedLoad(loader));
+			task = cache.putIfAbsent(typeName, loadTask);
+			if (task == null) {
+				task = loadTask;
+				missCount.increment();
+				loadTask.run();
+			}
+			else {
+				hitCount.increment();
+			}
+		}
+		else {
+			hitCount.increment();
+		}
+		try {
+			return task.get();
+		}
+		catch (ExecutionException ex) {
+			cache.remove(typeName, task);
+			throw new OsmConnectorException("Error reading " + kind + " descriptor " + typeName, ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OsmConnectorException("Interrupted reading " + kind + " descriptor " + typeName, ex);
+		}
+	}
+
+	private <T> T timedLoad(Callable<T> loader) throws Exception {
+		long t0 = System.nanoTime();
+		try {
+			return loader.call();
+		}
+		catch (Exception ex) {
+			loadErrorCount.increment();
+			throw ex;
+		}
+		finally {
+			loadTime.add(System.nanoTime() - t0);
+		}
+	}
+
+}
@@ -0,0 +1,301 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single file store of Oracle type descriptors.
+ *
+ * The file starts with a header (magic number, format version and driver version) followed by one entry per type:
+ * kind, type name, attribute shape (name, SQL type, type name, precision and scale of each attribute) and the
+ * descriptor payload. The file is read through a read-only memory mapped buffer and payloads are only copied when
+ * they are requested. Files written by another format or driver version are ignored.
+ *
+ * Instances are thread-safe.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class BinaryDescriptorStore {
+
+	private static final int MAGIC = 0x4F534D44;
+	private static final short FORMAT_VERSION = 1;
+
+	/**
+	 * Descriptor kind.
+	 */
+	public enum Kind {
+		STRUCT, ARRAY
+	}
+
+	@Getter
+	private final File file;
+
+	private final String driverVersion;
+	private final Map<String, Entry> entries;
+	private boolean dirty;
+
+	/**
+	 * Public constructor. Reads the given file when exists.
+	 *
+	 * @param file
+	 * @param driverVersion Version of the driver used to write the payloads.
+	 */
+	public BinaryDescriptorStore(@NonNull File file, @NonNull String driverVersion) {
+		this.file = file;
+		this.driverVersion = driverVersion;
+		this.entries = new LinkedHashMap<>();
+		if (file.exists()) {
+			read();
+		}
+	}
+
+	/**
+	 * Gets the stored entry of a given type.
+	 *
+	 * @param kind
+	 * @param typeName
+	 * @return Stored entry or <code>null</code> if not present.
+	 */
+	public synchronized Entry get(@NonNull Kind kind, @NonNull String typeName) {
+		return entries.get(key(kind, typeName));
+	}
+
+	/**
+	 * Adds (or replaces) an entry. Changes are not written until {@link #flush()} is called.
+	 *
+	 * @param entry
+	 */
+	public synchronized void put(@NonNull Entry entry) {
+		entries.put(key(entry.getKind(), entry.getTypeName()), entry);
+		dirty = true;
+	}
+
+	/**
+	 * Removes an entry (for example when its payload can not be read by the current driver).
+	 *
+	 * @param kind
+	 * @param typeName
+	 */
+	public synchronized void remove(@NonNull Kind kind, @NonNull String typeName) {
+		if (entries.remove(key(kind, typeName)) != null) {
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Number of stored entries.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Writes the store to disk if it has been modified. The file is replaced atomically.
+	 */
+	public synchronized void flush() {
+		if (!dirty) {
+			return;
+		}
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeShort(FORMAT_VERSION);
+				writeString(out, driverVersion);
+				out.writeInt(entries.size());
+				for (Entry entry : entries.values()) {
+					writeEntry(out, entry);
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+			dirty = false;
+			log.debug("Written {} descriptors to {}", entries.size(), file.getAbsolutePath());
+		}
+		catch (IOException ex) {
+			throw new OsmConnectorException("Error writing descriptor store " + file.getAbsolutePath(), ex);
+		}
+	}
+
+	private void read() {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < 6 || buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+				log.warn("Ignoring descriptor store {}: unknown format", file.getAbsolutePath());
+				dirty = true;
+				return;
+			}
+			String fileDriverVersion = readString(buffer);
+			if (!driverVersion.equals(fileDriverVersion)) {
+				log.warn("Ignoring descriptor store {}: written by driver {}, current driver is {}",
+					file.getAbsolutePath(), fileDriverVersion, driverVersion);
+				dirty = true;
+				return;
+			}
+			int count = buffer.getInt();
+			for (int i = 0; i < count; i++) {
+				Entry entry = readEntry(buffer);
+				entries.put(key(entry.getKind(), entry.getTypeName()), entry);
+			}
+			log.debug("Read {} descriptors from {}", count, file.getAbsolutePath());
+		}
+		catch (IOException | BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+			log.warn("Ignoring corrupted descriptor store {}: {}", file.getAbsolutePath(), ex.getMessage());
+			entries.clear();
+			dirty = true;
+		}
+	}
+
+	private static Entry readEntry(ByteBuffer buffer) {
+		Kind kind = Kind.values()[buffer.get()];
+		String typeName = readString(buffer);
+		int attributeCount = buffer.getInt();
+		List<Attribute> attributes = new ArrayList<>(attributeCount);
+		for (int i = 0; i < attributeCount; i++) {
+			String name = readString(buffer);
+			int sqlType = buffer.getInt();
+			String attributeTypeName = readString(buffer);
+			int precision = buffer.getInt();
+			int scale = buffer.getInt();
+			attributes.add(new Attribute(name, sqlType, attributeTypeName, precision, scale));
+		}
+		int payloadLength = buffer.getInt();
+		ByteBuffer payload = buffer.slice();
+		payload.limit(payloadLength);
+		buffer.position(buffer.position() + payloadLength);
+		return new Entry(kind, typeName, Collections.unmodifiableList(attributes), payload.asReadOnlyBuffer());
+	}
+
+	private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+		out.writeByte(entry.getKind().ordinal());
+		writeString(out, entry.getTypeName());
+		out.writeInt(entry.getAttributes().size());
+		for (Attribute attribute : entry.getAttributes()) {
+			writeString(out, attribute.getName());
+			out.writeInt(attribute.getSqlType());
+			writeString(out, attribute.getTypeName());
+			out.writeInt(attribute.getPrecision());
+			out.writeInt(attribute.getScale());
+		}
+		byte[] payload = entry.getPayload();
+		out.writeInt(payload.length);
+		out.write(payload);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getShort() & 0xFFFF;
+		if (length == 0xFFFF) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeShort(0xFFFF);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length >= 0xFFFF) {
+			throw new OsmConnectorException("Value too long for descriptor store: " + value);
+		}
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String key(Kind kind, String typeName) {
+		return kind.name() + ":" + typeName;
+	}
+
+	/**
+	 * Stored type: shape of the type and descriptor payload.
+	 */
+	@Getter
+	@ToString(exclude = "payloadBuffer")
+	public static class Entry {
+
+		private final Kind kind;
+		private final String typeName;
+		private final List<Attribute> attributes;
+
+		@Getter(lombok.AccessLevel.NONE)
+		private final ByteBuffer payloadBuffer;
+
+		/**
+		 * Public constructor.
+		 *
+		 * @param kind
+		 * @param typeName
+		 * @param attributes
+		 * @param payload
+		 */
+		public Entry(@NonNull Kind kind, @NonNull String typeName, @NonNull List<Attribute> attributes,
+			@NonNull byte[] payload) {
+			this(kind, typeName, attributes, ByteBuffer.wrap(payload.clone()).asReadOnlyBuffer());
+		}
+
+		private Entry(Kind kind, String typeName, List<Attribute> attributes, ByteBuffer payloadBuffer) {
+			this.kind = kind;
+			this.typeName = typeName;
+			this.attributes = attributes;
+			this.payloadBuffer = payloadBuffer;
+		}
+
+		/**
+		 * Copy of the descriptor payload.
+		 *
+		 * @return
+		 */
+		public byte[] getPayload() {
+			ByteBuffer buffer = payloadBuffer.duplicate();
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+			return bytes;
+		}
+	}
+
+	/**
+	 * Attribute shape of a stored type. Array types have a single attribute describing its elements.
+	 */
+	@Getter
+	@ToString
+	@AllArgsConstructor
+	public static class Attribute {
+		private final String name;
+		private final int sqlType;
+		private final String typeName;
+		private final int precision;
+		private final int scale;
+	}
+
+}
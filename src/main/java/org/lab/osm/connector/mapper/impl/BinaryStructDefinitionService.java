@@ -0,0 +1,151 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Attribute;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Entry;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Kind;
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.extern.slf4j.Slf4j;
+import oracle.jdbc.OracleDriver;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.StructDescriptor;
+
+/**
+ * {@link StructDefinitionService} implementation that stores every Oracle STRUCT / ARRAY descriptor in a single
+ * {@link BinaryDescriptorStore} file instead of one serialized file per type.
+ *
+ * Types missing in the store are read from the database and written to the file when the service is destroyed (or
+ * when {@link #flush()} is invoked). Stores written by another driver version are discarded and rebuilt.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class BinaryStructDefinitionService extends AbstractStructDefinitionService implements DisposableBean {
+
+	private static final String FILE_NAME = "osm-descriptors.bin";
+	private static final String ARRAY_ELEMENT_NAME = "COLUMN_VALUE";
+
+	private final BinaryDescriptorStore store;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param serializedBaseFolder Folder to store the descriptor file.
+	 * @param filePrefix Optional descriptor file prefix.
+	 */
+	public BinaryStructDefinitionService(String serializedBaseFolder, String filePrefix) {
+		File folder = new File(serializedBaseFolder);
+		if (!folder.exists() && !folder.mkdirs()) {
+			throw new OsmConnectorException("Cant create Oracle serialization folder " + folder.getAbsolutePath());
+		}
+		if (!folder.canRead()) {
+			throw new OsmConnectorException("Cant read Oracle serialization folder " + folder.getAbsolutePath());
+		}
+		String fileName = StringUtils.isNotBlank(filePrefix) ? filePrefix + "-" + FILE_NAME : FILE_NAME;
+		store = new BinaryDescriptorStore(new File(folder, fileName), resolveDriverVersion());
+	}
+
+	/**
+	 * Writes the descriptors read from the database to the store file.
+	 */
+	public void flush() {
+		store.flush();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		flush();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.impl.AbstractStructDefinitionService#loadStructDescriptor(java.lang.String, java.sql.Connection)
+	 */
+	@Override
+	protected StructDescriptor loadStructDescriptor(String typeName, Connection connection) throws Exception {
+		StructDescriptor descriptor = readStored(Kind.STRUCT, typeName, StructDescriptor.class);
+		if (descriptor != null) {
+			descriptor.setConnection(connection);
+			return descriptor;
+		}
+		log.info("Reading struct {} descriptor from database", typeName);
+		descriptor = StructDescriptor.createDescriptor(typeName, connection);
+		ResultSetMetaData rsmd = descriptor.getMetaData();
+		int count = rsmd.getColumnCount();
+		List<Attribute> attributes = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			attributes.add(new Attribute(rsmd.getColumnName(i), rsmd.getColumnType(i), rsmd.getColumnTypeName(i),
+				rsmd.getPrecision(i), rsmd.getScale(i)));
+		}
+		store.put(new Entry(Kind.STRUCT, typeName, attributes, serialize(descriptor)));
+		return descriptor;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.impl.AbstractStructDefinitionService#loadArrayDescriptor(java.lang.String, java.sql.Connection)
+	 */
+	@Override
+	protected ArrayDescriptor loadArrayDescriptor(String typeName, Connection connection) throws Exception {
+		ArrayDescriptor descriptor = readStored(Kind.ARRAY, typeName, ArrayDescriptor.class);
+		if (descriptor != null) {
+			descriptor.setConnection(connection);
+			return descriptor;
+		}
+		log.info("Reading array {} descriptor from database", typeName);
+		descriptor = ArrayDescriptor.createDescriptor(typeName, connection);
+		Attribute element = new Attribute(ARRAY_ELEMENT_NAME, descriptor.getBaseType(), descriptor.getBaseName(),
+			(int) Math.min(descriptor.getMaxLength(), Integer.MAX_VALUE), 0);
+		store.put(new Entry(Kind.ARRAY, typeName, Collections.singletonList(element), serialize(descriptor)));
+		return descriptor;
+	}
+
+	private <T> T readStored(Kind kind, String typeName, Class<T> descriptorClass) {
+		Entry entry = store.get(kind, typeName);
+		if (entry == null) {
+			return null;
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(entry.getPayload()))) {
+			log.debug("Reading {} {} descriptor from store", kind, typeName);
+			return descriptorClass.cast(in.readObject());
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException ex) {
+			log.warn("Discarding stored {} descriptor {}: {}", kind, typeName, ex.getMessage());
+			store.remove(kind, typeName);
+			return null;
+		}
+	}
+
+	private byte[] serialize(Object descriptor) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(descriptor);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static String resolveDriverVersion() {
+		String version = OracleDriver.class.getPackage() != null
+			? OracleDriver.class.getPackage().getImplementationVersion()
+			: null;
+		return version != null ? version : "unknown";
+	}
+
+}
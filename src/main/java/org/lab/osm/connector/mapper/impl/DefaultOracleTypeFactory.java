@@ -0,0 +1,39 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
+
+/**
+ * {@link OracleTypeFactory} using the Oracle driver constructors.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class DefaultOracleTypeFactory implements OracleTypeFactory {
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.OracleTypeFactory#createStruct(oracle.sql.StructDescriptor, java.sql.Connection, java.lang.Object[])
+	 */
+	@Override
+	public STRUCT createStruct(StructDescriptor descriptor, Connection connection, Object[] attributes)
+		throws SQLException {
+		return new STRUCT(descriptor, connection, attributes);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.OracleTypeFactory#createArray(oracle.sql.ArrayDescriptor, java.sql.Connection, java.lang.Object[])
+	 */
+	@Override
+	public ARRAY createArray(ArrayDescriptor descriptor, Connection connection, Object[] elements)
+		throws SQLException {
+		return new ARRAY(descriptor, connection, elements);
+	}
+
+}
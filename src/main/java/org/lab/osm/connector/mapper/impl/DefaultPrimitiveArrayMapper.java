@@ -0,0 +1,137 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+import org.lab.osm.connector.mapper.PrimitiveArrayMapper;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+
+/**
+ * Default {@link PrimitiveArrayMapper} using the primitive accessors of the Oracle driver (<code>getLongArray</code>,
+ * <code>getIntArray</code>, <code>getDoubleArray</code>) so elements are not boxed into <code>BigDecimal</code>
+ * instances. The driver reads <code>NULL</code> elements of numeric arrays as <code>0</code>; <code>String[]</code>
+ * arrays keep them as <code>null</code>.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <A> Java array class
+ */
+@Slf4j
+public class DefaultPrimitiveArrayMapper<A> implements PrimitiveArrayMapper<A> {
+
+	@Getter
+	private final Class<A> arrayClass;
+
+	private final String oracleCollectionName;
+	private final StructDefinitionService definitionService;
+	private final OracleTypeFactory typeFactory;
+	private final ElementType elementType;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param arrayClass One of <code>long[]</code>, <code>int[]</code>, <code>double[]</code> or
+	 * <code>String[]</code>.
+	 * @param oracleCollectionName
+	 * @param definitionService
+	 * @param typeFactory
+	 */
+	public DefaultPrimitiveArrayMapper( //@formatter:off
+			@NonNull Class<A> arrayClass,
+			@NonNull String oracleCollectionName,
+			@NonNull StructDefinitionService definitionService,
+			@NonNull OracleTypeFactory typeFactory) { //@formatter:on
+		this.arrayClass = arrayClass;
+		this.oracleCollectionName = oracleCollectionName;
+		this.definitionService = definitionService;
+		this.typeFactory = typeFactory;
+		this.elementType = ElementType.of(arrayClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.PrimitiveArrayMapper#toArray(java.lang.Object, java.sql.Connection)
+	 */
+	@Override
+	public ARRAY toArray(A source, Connection connection) throws SQLException {
+		log.trace("Mapping {} to Oracle ARRAY {}", arrayClass.getSimpleName(), oracleCollectionName);
+		ArrayDescriptor descriptor = definitionService.arrayDescriptor(oracleCollectionName, connection);
+		return typeFactory.createPrimitiveArray(descriptor, connection, source);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.PrimitiveArrayMapper#fromArray(oracle.sql.ARRAY)
+	 */
+	@Override
+	public A fromArray(ARRAY array) throws SQLException {
+		log.trace("Mapping Oracle ARRAY to {}", arrayClass.getSimpleName());
+		if (array == null) {
+			return null;
+		}
+		switch (elementType) {
+		case LONG:
+			return arrayClass.cast(array.getLongArray());
+		case INT:
+			return arrayClass.cast(array.getIntArray());
+		case DOUBLE:
+			return arrayClass.cast(array.getDoubleArray());
+		default:
+			Object[] values = (Object[]) array.getArray();
+			return arrayClass.cast(values instanceof String[] ? values : toStringArray(values));
+		}
+	}
+
+	/**
+	 * Converts the elements of collections of other types than <code>VARCHAR2</code> (for example
+	 * <code>TABLE OF NUMBER</code> read as <code>BigDecimal</code>) to their string representation.
+	 */
+	private static String[] toStringArray(Object[] values) {
+		String[] result = new String[values.length];
+		for (int i = 0; i < values.length; i++) {
+			Object value = values[i];
+			if (value instanceof BigDecimal) {
+				result[i] = ((BigDecimal) value).toPlainString();
+			}
+			else if (value != null) {
+				result[i] = value.toString();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Supported java array element types.
+	 */
+	private enum ElementType {
+
+		LONG, INT, DOUBLE, STRING;
+
+		static ElementType of(Class<?> arrayClass) {
+			Class<?> componentType = arrayClass.getComponentType();
+			if (componentType == long.class) {
+				return LONG;
+			}
+			else if (componentType == int.class) {
+				return INT;
+			}
+			else if (componentType == double.class) {
+				return DOUBLE;
+			}
+			else if (componentType == String.class) {
+				return STRING;
+			}
+			throw new OsmMappingException("Unsupported primitive array class " + arrayClass.getName()
+				+ ". Expected long[], int[], double[] or String[]");
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Accessor table of a mapped entity class: constructor and {@link EntityPropertyAccessor} of each property.
+ *
+ * Accessors are generated once per class and replace the per object Spring <code>BeanWrapper</code> used to read
+ * and write entity properties in the mappers. Lambdas are only generated for classes visible from the library class
+ * loader: entities of a child class loader (for example a web application) use reflection instead.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <T> Entity class
+ */
+@Slf4j
+public class EntityAccessor<T> {
+
+	private static final Map<Class<?>, EntityAccessor<?>> ACCESSORS = new ConcurrentReferenceHashMap<>(256);
+
+	@Getter
+	private final Class<T> entityClass;
+
+	private final Supplier<T> constructor;
+	private final Map<String, EntityPropertyAccessor> properties;
+
+	private EntityAccessor(Class<T> entityClass) {
+		this.entityClass = entityClass;
+		this.constructor = resolveConstructor(entityClass);
+		this.properties = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets the accessor table of a given class.
+	 *
+	 * @param entityClass
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> EntityAccessor<T> forClass(@NonNull Class<T> entityClass) {
+		return (EntityAccessor<T>) ACCESSORS.computeIfAbsent(entityClass, EntityAccessor::new);
+	}
+
+	/**
+	 * Creates a new entity instance.
+	 *
+	 * @return
+	 */
+	public T newInstance() {
+		return constructor.get();
+	}
+
+	/**
+	 * Gets the accessor of a given property.
+	 *
+	 * @param propertyName
+	 * @return
+	 */
+	public EntityPropertyAccessor property(@NonNull String propertyName) {
+		return properties.computeIfAbsent(propertyName, x -> new EntityPropertyAccessor(entityClass, x));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Supplier<T> resolveConstructor(Class<T> entityClass) {
+		try {
+			Constructor<T> ctor = entityClass.getDeclaredConstructor();
+			if (Modifier.isPublic(ctor.getModifiers()) && Modifier.isPublic(entityClass.getModifiers())
+				&& isVisible(entityClass)) {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+					MethodType.methodType(Object.class), lookup.unreflectConstructor(ctor),
+					MethodType.methodType(entityClass));
+				return (Supplier<T>) site.getTarget().invokeExact();
+			}
+		}
+		catch (Throwable ex) {
+			log.debug("Cant generate constructor of {}: {}", entityClass.getName(), ex.getMessage());
+		}
+		return () -> BeanUtils.instantiateClass(entityClass);
+	}
+
+	/**
+	 * Checks if the given types can be referenced by the lambdas generated with the library lookup. Otherwise the
+	 * lambda creation succeeds but its invocation fails with <code>NoClassDefFoundError</code>.
+	 *
+	 * @param types
+	 * @return
+	 */
+	static boolean isVisible(Class<?>... types) {
+		ClassLoader classLoader = EntityAccessor.class.getClassLoader();
+		for (Class<?> type : types) {
+			Class<?> check = type;
+			while (check.isArray()) {
+				check = check.getComponentType();
+			}
+			if (!check.isPrimitive() && !ClassUtils.isVisible(check, classLoader)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
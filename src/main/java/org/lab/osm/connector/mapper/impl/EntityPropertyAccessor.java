@@ -0,0 +1,206 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Accessor to read and write a single property of a mapped entity.
+ *
+ * Resolved once per entity property using, in this order:
+ * <ul>
+ * <li>Getter / setter lambdas generated through <code>LambdaMetafactory</code> (only for types visible from the
+ * library class loader).</li>
+ * <li>Direct field access through <code>MethodHandle</code>.</li>
+ * <li>Spring <code>BeanWrapper</code> as a fallback.</li>
+ * </ul>
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @see EntityAccessor
+ */
+@Slf4j
+public class EntityPropertyAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	@Getter
+	private final String name;
+
+	@Getter
+	private final Class<?> type;
+
+	private final Function<Object, Object> getter;
+	private final BiConsumer<Object, Object> setter;
+
+	EntityPropertyAccessor(Class<?> beanClass, String name) {
+		this.name = name;
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(beanClass, name);
+		Field field = ReflectionUtils.findField(beanClass, name);
+
+		if (pd != null) {
+			type = pd.getPropertyType();
+		}
+		else if (field != null) {
+			type = field.getType();
+		}
+		else {
+			throw new OsmMappingException("Undefined property " + name + " in class " + beanClass.getName());
+		}
+
+		Function<Object, Object> resolvedGetter = pd != null ? methodGetter(lookup, beanClass, pd.getReadMethod())
+			: null;
+		if (resolvedGetter == null) {
+			resolvedGetter = fieldGetter(lookup, field);
+		}
+		BiConsumer<Object, Object> resolvedSetter = pd != null ? methodSetter(lookup, beanClass, pd.getWriteMethod())
+			: null;
+		if (resolvedSetter == null) {
+			resolvedSetter = fieldSetter(lookup, field);
+		}
+		if (resolvedGetter == null) {
+			log.debug("Using BeanWrapper to read {} in {}", name, beanClass.getName());
+			resolvedGetter = bean -> PropertyAccessorFactory.forBeanPropertyAccess(bean).getPropertyValue(name);
+		}
+		if (resolvedSetter == null) {
+			log.debug("Using BeanWrapper to write {} in {}", name, beanClass.getName());
+			resolvedSetter = (bean, value) -> PropertyAccessorFactory.forBeanPropertyAccess(bean)
+				.setPropertyValue(name, value);
+		}
+		this.getter = resolvedGetter;
+		this.setter = resolvedSetter;
+	}
+
+	/**
+	 * Reads the property value of a given entity.
+	 *
+	 * @param bean
+	 * @return
+	 */
+	public Object get(Object bean) {
+		return getter.apply(bean);
+	}
+
+	/**
+	 * Writes the property value of a given entity. The value must be assignable to the property type.
+	 * <code>null</code> values of primitive properties are ignored.
+	 *
+	 * @param bean
+	 * @param value
+	 */
+	public void set(Object bean, Object value) {
+		if (value == null && type.isPrimitive()) {
+			return;
+		}
+		setter.accept(bean, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object> methodGetter(MethodHandles.Lookup lookup, Class<?> beanClass, Method method) {
+		if (method == null || !isAccessible(method)
+			|| !EntityAccessor.isVisible(beanClass, method.getDeclaringClass(), type)) {
+			return null;
+		}
+		try {
+			MethodHandle handle = lookup.unreflect(method);
+			MethodType instantiatedType = MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(type),
+				beanClass);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+				GETTER_TYPE, handle, instantiatedType);
+			return (Function<Object, Object>) site.getTarget().invokeExact();
+		}
+		catch (Throwable ex) {
+			log.debug("Cant generate getter of {} in {}: {}", name, beanClass.getName(), ex.getMessage());
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private BiConsumer<Object, Object> methodSetter(MethodHandles.Lookup lookup, Class<?> beanClass, Method method) {
+		if (method == null || !isAccessible(method)
+			|| !EntityAccessor.isVisible(beanClass, method.getDeclaringClass(), type)) {
+			return null;
+		}
+		try {
+			MethodHandle handle = lookup.unreflect(method);
+			MethodType instantiatedType = MethodType.methodType(void.class, beanClass,
+				ClassUtils.resolvePrimitiveIfNecessary(type));
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+				SETTER_TYPE, handle, instantiatedType);
+			return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+		}
+		catch (Throwable ex) {
+			log.debug("Cant generate setter of {} in {}: {}", name, beanClass.getName(), ex.getMessage());
+			return null;
+		}
+	}
+
+	private Function<Object, Object> fieldGetter(MethodHandles.Lookup lookup, Field field) {
+		if (field == null || Modifier.isStatic(field.getModifiers())) {
+			return null;
+		}
+		try {
+			ReflectionUtils.makeAccessible(field);
+			MethodHandle handle = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+			return bean -> {
+				try {
+					return handle.invokeExact(bean);
+				}
+				catch (Throwable ex) {
+					throw new OsmMappingException("Error reading property " + name, ex);
+				}
+			};
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			log.debug("Cant access field {}: {}", field, ex.getMessage());
+			return null;
+		}
+	}
+
+	private BiConsumer<Object, Object> fieldSetter(MethodHandles.Lookup lookup, Field field) {
+		if (field == null || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+			return null;
+		}
+		try {
+			ReflectionUtils.makeAccessible(field);
+			MethodHandle handle = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			return (bean, value) -> {
+				try {
+					handle.invokeExact(bean, value);
+				}
+				catch (Throwable ex) {
+					throw new OsmMappingException("Error writing property " + name, ex);
+				}
+			};
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			log.debug("Cant access field {}: {}", field, ex.getMessage());
+			return null;
+		}
+	}
+
+	private static boolean isAccessible(Method method) {
+		return Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+	}
+
+}
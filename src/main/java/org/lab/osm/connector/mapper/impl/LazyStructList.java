@@ -0,0 +1,134 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.StructMapper;
+
+import lombok.NonNull;
+import oracle.sql.ARRAY;
+import oracle.sql.STRUCT;
+
+/**
+ * Read-only <code>List</code> view of an Oracle ARRAY of STRUCT elements that decodes the elements on access.
+ *
+ * Elements are read from the ARRAY in pages: only the STRUCT values and decoded entities of the current page are
+ * retained, so iterating (or streaming) the list keeps a bounded number of elements in memory and the first element is
+ * available without decoding the whole collection. Accessing an element of another page releases the current one, so
+ * entities of a released page are decoded again if they are requested twice.
+ *
+ * Elements are read using the connection of the ARRAY, so the list must be consumed while that connection is open
+ * (for example inside the transaction that invoked the procedure). Instances are not thread-safe.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @param <T> Entity class
+ */
+public class LazyStructList<T> extends AbstractList<T> implements RandomAccess {
+
+	/**
+	 * Default number of elements read from the ARRAY at once.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 256;
+
+	private final ARRAY array;
+	private final StructMapper<T> mapper;
+	private final int size;
+	private final int pageSize;
+
+	private int pageStart;
+	private Object[] page;
+	private Object[] decoded;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param array
+	 * @param mapper
+	 * @throws SQLException
+	 */
+	public LazyStructList(@NonNull ARRAY array, @NonNull StructMapper<T> mapper) throws SQLException {
+		this(array, mapper, DEFAULT_PAGE_SIZE);
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param array
+	 * @param mapper
+	 * @param pageSize
+	 * @throws SQLException
+	 */
+	public LazyStructList(@NonNull ARRAY array, @NonNull StructMapper<T> mapper, int pageSize) throws SQLException {
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("Invalid page size: " + pageSize);
+		}
+		this.array = array;
+		this.mapper = mapper;
+		this.size = array.length();
+		this.pageSize = pageSize;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+		if (page == null || index < pageStart || index >= pageStart + page.length) {
+			loadPage(index - index % pageSize);
+		}
+		int offset = index - pageStart;
+		Object value = decoded[offset];
+		if (value == null && page[offset] != null) {
+			try {
+				value = mapper.fromStruct((STRUCT) page[offset]);
+			}
+			catch (SQLException ex) {
+				throw new OsmMappingException("Error decoding element " + index + " of " + readTypeName(), ex);
+			}
+			decoded[offset] = value;
+		}
+		return (T) value;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private void loadPage(int start) {
+		// Release the previous page before reading the next one
+		page = null;
+		decoded = null;
+		try {
+			// Oracle ARRAY indexes are 1-based
+			Object[] values = (Object[]) array.getArray(start + 1L, Math.min(pageSize, size - start));
+			decoded = new Object[values.length];
+			page = values;
+			pageStart = start;
+		}
+		catch (SQLException ex) {
+			throw new OsmMappingException("Error reading elements of " + readTypeName(), ex);
+		}
+	}
+
+	private String readTypeName() {
+		try {
+			return array.getSQLTypeName();
+		}
+		catch (SQLException ex) {
+			return "ARRAY";
+		}
+	}
+
+}
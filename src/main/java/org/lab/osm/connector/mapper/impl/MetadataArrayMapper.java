@@ -7,11 +7,13 @@ import java.util.List;
 
 import org.lab.osm.connector.exception.OsmMappingException;
 import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
 import org.lab.osm.connector.mapper.StructDefinitionService;
 import org.lab.osm.connector.mapper.StructMapper;
 import org.lab.osm.connector.mapper.StructMapperService;
 import org.lab.osm.connector.metadata.model.MappingMetadata;
 import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +36,8 @@ public class MetadataArrayMapper<T> implements ArrayMapper<T> {
 	private final StructMapperService mapperService;
 	private final MappingMetadata mappingMetadata;
 	private final StructDefinitionService definitionService;
+	private final OracleTypeFactory typeFactory;
+	private final ParallelArrayDecoder parallelDecoder;
 
 	/**
 	 * Public constructor.
@@ -50,11 +54,56 @@ public class MetadataArrayMapper<T> implements ArrayMapper<T> {
 			@NonNull StructMapperService mapperService,
 			@NonNull MappingMetadata mappingMetadata,
 			@NonNull StructDefinitionService definitionService) { //@formatter:on
+		this(mappedClass, oracleCollectionName, mapperService, mappingMetadata, definitionService,
+			new DefaultOracleTypeFactory());
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mappedClass
+	 * @param oracleCollectionName
+	 * @param mapperService
+	 * @param mappingMetadata
+	 * @param definitionService
+	 * @param typeFactory
+	 */
+	public MetadataArrayMapper( //@formatter:off
+			@NonNull Class<T> mappedClass,
+			@NonNull String oracleCollectionName,
+			@NonNull StructMapperService mapperService,
+			@NonNull MappingMetadata mappingMetadata,
+			@NonNull StructDefinitionService definitionService,
+			@NonNull OracleTypeFactory typeFactory) { //@formatter:on
+		this(mappedClass, oracleCollectionName, mapperService, mappingMetadata, definitionService, typeFactory, null);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param mappedClass
+	 * @param oracleCollectionName
+	 * @param mapperService
+	 * @param mappingMetadata
+	 * @param definitionService
+	 * @param typeFactory
+	 * @param parallelDecoder Optional decoder of large arrays (<code>null</code> to decode sequentially).
+	 */
+	public MetadataArrayMapper( //@formatter:off
+			@NonNull Class<T> mappedClass,
+			@NonNull String oracleCollectionName,
+			@NonNull StructMapperService mapperService,
+			@NonNull MappingMetadata mappingMetadata,
+			@NonNull StructDefinitionService definitionService,
+			@NonNull OracleTypeFactory typeFactory,
+			ParallelArrayDecoder parallelDecoder) { //@formatter:on
 		this.mappedClass = mappedClass;
 		this.oracleCollectionName = oracleCollectionName;
 		this.mapperService = mapperService;
 		this.mappingMetadata = mappingMetadata;
 		this.definitionService = definitionService;
+		this.typeFactory = typeFactory;
+		this.parallelDecoder = parallelDecoder;
 	}
 
 	/* (non-Javadoc)
@@ -68,9 +117,10 @@ public class MetadataArrayMapper<T> implements ArrayMapper<T> {
 		Object[] values = new Object[list.size()];
 		Object firstNotNull = list.stream().filter(x -> x != null).findFirst().orElseGet(() -> null);
 		if (firstNotNull != null) {
-			StructMetadata itemMappingField = mappingMetadata.getStructs().stream()
-				.filter(x -> firstNotNull.getClass().equals(x.getMappedClass())).findFirst()
-				.orElseThrow(() -> new OsmMappingException("Missing metadata"));
+			StructMetadata itemMappingField = mappingMetadata.getStruct(firstNotNull.getClass());
+			if (itemMappingField == null) {
+				throw new OsmMappingException("Missing metadata for class " + firstNotNull.getClass().getName());
+			}
 
 			StructMapper mapper = null;
 			if (itemMappingField != null) {
@@ -95,7 +145,7 @@ public class MetadataArrayMapper<T> implements ArrayMapper<T> {
 			}
 		}
 		ArrayDescriptor arrayDescriptor = definitionService.arrayDescriptor(oracleCollectionName, conn);
-		return new ARRAY(arrayDescriptor, conn, values);
+		return typeFactory.createArray(arrayDescriptor, conn, values);
 	}
 
 	/* (non-Javadoc)
@@ -116,8 +166,11 @@ public class MetadataArrayMapper<T> implements ArrayMapper<T> {
 			log.trace("Geting array objets took {} ms", t);
 		}
 
-		List<T> list = new ArrayList<>();
 		StructMapper mapper = mapperService.mapper(mappedClass);
+		if (parallelDecoder != null && parallelDecoder.accepts(values.length)) {
+			return parallelDecoder.decode(values, (StructMapper<T>) mapper);
+		}
+		List<T> list = new ArrayList<>(values.length);
 		for (int z = 0; z < values.length; z++) {
 			STRUCT struct = (STRUCT) values[z];
 			T p = (T) mapper.fromStruct(struct);
@@ -126,4 +179,22 @@ public class MetadataArrayMapper<T> implements ArrayMapper<T> {
 		return list;
 	}
 
+	/**
+	 * Returns a {@link LazyStructList}. The list reads its elements through the connection of the ARRAY, so it is only
+	 * available inside a transaction (otherwise the connection is returned to the pool once the procedure has been
+	 * executed).
+	 */
+	@Override
+	public List<T> fromArrayLazy(ARRAY array) throws SQLException {
+		log.trace("Mapping Oracle ARRAY to lazy java List of {}", mappedClass.getSimpleName());
+		if (array == null) {
+			return null;
+		}
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new OsmMappingException("Cant decode lazily " + oracleCollectionName
+				+ " outside a transaction: the connection of the ARRAY would be released before reading it");
+		}
+		return new LazyStructList<>(array, mapperService.mapper(mappedClass));
+	}
+
 }
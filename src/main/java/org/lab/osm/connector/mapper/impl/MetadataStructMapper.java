@@ -1,42 +1,36 @@
 package org.lab.osm.connector.mapper.impl;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.sql.Connection;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.Date;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.UnaryOperator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.lang3.StringUtils;
-import org.lab.osm.connector.annotation.OracleCollection;
 import org.lab.osm.connector.exception.OsmMappingException;
 import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
 import org.lab.osm.connector.mapper.StructDefinitionService;
 import org.lab.osm.connector.mapper.StructMapper;
 import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.converter.AttributeConverter;
+import org.lab.osm.connector.mapper.converter.AttributeConverterRegistry;
 import org.lab.osm.connector.metadata.model.FieldMetadata;
 import org.lab.osm.connector.metadata.model.MappingMetadata;
 import org.lab.osm.connector.metadata.model.StructMetadata;
-import org.springframework.beans.BeanUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
-import org.springframework.beans.PropertyAccessorFactory;
-import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.util.Assert;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import oracle.jdbc.OracleArray;
-import oracle.sql.ARRAY;
 import oracle.sql.STRUCT;
 import oracle.sql.StructDescriptor;
 
 /**
  * 
  * Default {@link StructMapper} using metadata information from the entity model annotations.
+ *
+ * Attribute conversions (nested mappers and {@link AttributeConverter}) are resolved once per Oracle attribute.
  * 
  * @author lab.cabrera@gmail.com
  * @since 1.0.0
@@ -48,21 +42,54 @@ public class MetadataStructMapper<T> implements StructMapper<T> {
 	private final StructMapperService mapperService;
 	private final MappingMetadata metadata;
 	private final StructDefinitionService definitionService;
+	private final OracleTypeFactory typeFactory;
+	private final AttributeConverterRegistry converterRegistry;
 
-	// TODO consider using service
-	private final UnaryOperator<String> nameNormalizer;
+	private final EntityAccessor<T> accessor;
+
+	/**
+	 * Attribute encoders by Oracle attribute position (resolved on first conversion).
+	 */
+	private volatile AttributeEncoder[] encoders;
+
+	/**
+	 * Decode plans by Oracle type name.
+	 */
+	private final ConcurrentMap<String, StructDecodePlan> decodePlans;
 
 	public MetadataStructMapper( //@formatter:off
 			Class<T> mappingClass,
 			StructMapperService mapperService,
 			MappingMetadata metadata,
 			StructDefinitionService definitionService) { //@formatter:on
+		this(mappingClass, mapperService, metadata, definitionService, new DefaultOracleTypeFactory());
+	}
+
+	public MetadataStructMapper( //@formatter:off
+			Class<T> mappingClass,
+			StructMapperService mapperService,
+			MappingMetadata metadata,
+			StructDefinitionService definitionService,
+			OracleTypeFactory typeFactory) { //@formatter:on
+		this(mappingClass, mapperService, metadata, definitionService, typeFactory, new AttributeConverterRegistry());
+	}
+
+	public MetadataStructMapper( //@formatter:off
+			Class<T> mappingClass,
+			StructMapperService mapperService,
+			MappingMetadata metadata,
+			StructDefinitionService definitionService,
+			OracleTypeFactory typeFactory,
+			AttributeConverterRegistry converterRegistry) { //@formatter:on
 
 		this.mappedClass = mappingClass;
 		this.mapperService = mapperService;
 		this.metadata = metadata;
 		this.definitionService = definitionService;
-		this.nameNormalizer = x -> x.toUpperCase().replaceAll("_", StringUtils.EMPTY);
+		this.typeFactory = typeFactory;
+		this.converterRegistry = converterRegistry;
+		this.decodePlans = new ConcurrentHashMap<>();
+		this.accessor = EntityAccessor.forClass(mappingClass);
 	}
 
 	/* (non-Javadoc)
@@ -75,24 +102,21 @@ public class MetadataStructMapper<T> implements StructMapper<T> {
 
 		log.trace("Converting {} to struct", source);
 
-		//@formatter:off
-		StructMetadata structData = metadata.getStructs().stream()
-			.filter(x -> x.getMappedClass().equals(source.getClass()))
-			.findFirst()
-			.orElseThrow(() -> new OsmMappingException("Missing metadata for source class " + source.getClass().getName()));
-		//@formatter:on
-
-		BeanWrapper sourceBeanWrapper = new BeanWrapperImpl(source);
-		int structSize = structData.getFields().size();
+		StructMetadata structData = metadata.getRequiredStruct(mappedClass);
+		AttributeEncoder[] attributeEncoders = encoders;
+		if (attributeEncoders == null) {
+			attributeEncoders = createEncoders(structData);
+			encoders = attributeEncoders;
+		}
 
-		Object[] values = new Object[structSize];
-		for (int i = 0; i < structSize; i++) {
-			FieldMetadata mappingField = structData.getFields().get(i);
-			values[i] = resolveMappedValue(mappingField, sourceBeanWrapper, conn);
+		Object[] values = new Object[attributeEncoders.length];
+		for (int i = 0; i < attributeEncoders.length; i++) {
+			AttributeEncoder encoder = attributeEncoders[i];
+			values[i] = encoder != null ? encoder.encode(source, conn) : null;
 		}
 		try {
 			StructDescriptor descriptor = definitionService.structDescriptor(structData.getStrucyName(), conn);
-			return new STRUCT(descriptor, conn, values);
+			return typeFactory.createStruct(descriptor, conn, values);
 		}
 		catch (SQLException ex) {
 			throw new OsmMappingException(String.format("Error mapping class %s", mappedClass.getName()), ex);
@@ -107,127 +131,99 @@ public class MetadataStructMapper<T> implements StructMapper<T> {
 		String typeName = struct.getSQLTypeName();
 		log.trace("Converting struct {} to mapped class {}", typeName, mappedClass.getName());
 
-		T mappedObject = BeanUtils.instantiateClass(mappedClass);
-		BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(mappedObject);
+		StructDecodePlan decodePlan = decodePlans.get(typeName);
+		if (decodePlan == null) {
+			decodePlan = createDecodePlan(typeName, struct);
+		}
 
+		T mappedObject = accessor.newInstance();
+		decodePlan.decode(struct.getAttributes(), mappedObject);
+		return mappedObject;
+	}
+
+	private StructDecodePlan createDecodePlan(String typeName, STRUCT struct) throws SQLException {
 		long t0 = System.currentTimeMillis();
 		StructDescriptor descriptor = definitionService.structDescriptor(typeName, struct.getInternalConnection());
 		ResultSetMetaData rsmd = descriptor.getMetaData();
+
+		StructMetadata mappingStructData = metadata.getRequiredStruct(mappedClass);
+		StructDecodePlan decodePlan = StructDecodePlan.create(typeName, mappedClass, mappingStructData, rsmd,
+			mapperService, converterRegistry);
+		StructDecodePlan previous = decodePlans.putIfAbsent(typeName, decodePlan);
 		long t = System.currentTimeMillis() - t0;
 		if (t > 0) {
 			log.trace("Reading struct metadata took {} ms", t);
 		}
+		return previous != null ? previous : decodePlan;
+	}
 
-		int columnCount = rsmd.getColumnCount();
-		Object[] attributes = struct.getAttributes();
-
-		//@formatter:off
-		StructMetadata mappingStructData = metadata.getStructs().stream()
-			.filter(x -> x.getMappedClass().equals(mappedClass))
-			.findFirst()
-			.orElseThrow(() -> new OsmMappingException("Missing struct mapping data for class " + mappedClass.getName()));
-		//@formatter:on
-
-		for (int index = 0; index < columnCount; index++) {
-			String columnName = JdbcUtils.lookupColumnName(rsmd, index + 1).toLowerCase();
-			String columnNameNormalized = nameNormalizer.apply(columnName);
-
-			Optional<FieldMetadata> optionalMappingField = mappingStructData.getFields().stream()
-				.filter(x -> columnNameNormalized.equals(nameNormalizer.apply(x.getOracleColumnName()))).findFirst();
-
-			if (optionalMappingField.isPresent()) {
-				Object value = attributes[index];
-				FieldMetadata mappedField = optionalMappingField.get();
-				setEntityProperty(beanWrapper, mappedField.getJavaAttributeName(), value);
-			}
-			else {
-				log.warn("Missing mapping {} in class {}", columnName, mappedClass.getName());
-			}
+	private AttributeEncoder[] createEncoders(StructMetadata structData) {
+		List<FieldMetadata> fields = structData.getFields();
+		AttributeEncoder[] result = new AttributeEncoder[fields.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = resolveEncoder(fields.get(i));
 		}
-		return mappedObject;
+		return result;
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private Object resolveMappedValue(FieldMetadata mappingField, BeanWrapper sourceBeanWrapper, Connection connection)
-		throws SQLException {
-
-		Object result = null;
+	private AttributeEncoder resolveEncoder(FieldMetadata mappingField) {
 		if (!mappingField.isMapped()) {
 			log.warn("Unmapped field {} in {}", mappingField.getOracleColumnName(), mappedClass.getName());
+			return null;
 		}
-		else {
-			String javaFieldName = mappingField.getJavaAttributeName();
-			if (sourceBeanWrapper.isReadableProperty(javaFieldName)) {
-				log.trace("Mapped {} to field {}", javaFieldName, mappingField.getOracleColumnName());
-				result = sourceBeanWrapper.getPropertyValue(javaFieldName);
-
-				if (result != null) {
-
-					if (Date.class.isAssignableFrom(result.getClass())) {
-						return new java.sql.Date(((Date) result).getTime());
-					}
-					else if (OracleArray.class.getName().equals(mappingField.getOracleColumnClassName())) {
-						log.debug("Detected oracle list mapping");
-						Assert.isTrue(List.class.isAssignableFrom(result.getClass()), "Expected list");
-						String oracleCollectionName = mappingField.getOracleTypeName();
-						ArrayMapper arrayMapper = mapperService.arrayMapper(mappedClass, oracleCollectionName);
-						result = arrayMapper.toArray((List) result, connection);
-					}
-					else {
-						Class<?> resultClass = result.getClass();
-						StructMetadata structCandidate = metadata.getStructs().stream()
-							.filter(x -> resultClass.equals(x.getMappedClass())).findFirst().orElseGet(() -> null);
-						if (structCandidate == null) {
-							return result;
-						}
-						else {
-							log.debug("Mappping internal value to struct as {}", resultClass.getName());
-							StructMapper mapper = mapperService.mapper(resultClass);
-							result = mapper.toStruct(result, connection);
-						}
-					}
+		String javaFieldName = mappingField.getJavaAttributeName();
+		EntityPropertyAccessor property = readableProperty(javaFieldName);
+		if (property == null) {
+			log.warn("No readable property {} in {}", javaFieldName, mappedClass.getName());
+			return null;
+		}
+		log.trace("Mapped {} to field {}", javaFieldName, mappingField.getOracleColumnName());
+		if (OracleArray.class.getName().equals(mappingField.getOracleColumnClassName())) {
+			log.debug("Detected oracle list mapping");
+			ArrayMapper arrayMapper = mapperService.arrayMapper(mappedClass, mappingField.getOracleTypeName());
+			return (source, connection) -> {
+				Object value = property.get(source);
+				if (value == null) {
+					return null;
 				}
-			}
-			else {
-				log.warn("No readable property {} in {}", javaFieldName,
-					sourceBeanWrapper.getWrappedInstance().getClass().getName());
-			}
+				Assert.isTrue(List.class.isAssignableFrom(value.getClass()), "Expected list");
+				return arrayMapper.toArray((List) value, connection);
+			};
 		}
-		return result;
+		else if (metadata.isDefinedStruct(property.getType())) {
+			log.debug("Mappping internal value to struct as {}", property.getType().getName());
+			StructMapper mapper = mapperService.mapper(property.getType());
+			return (source, connection) -> {
+				Object value = property.get(source);
+				return value != null ? mapper.toStruct(value, connection) : null;
+			};
+		}
+		AttributeConverter<Object> converter = converterRegistry.resolve(mappingField, property.getType());
+		return (source, connection) -> {
+			Object value = property.get(source);
+			return value != null ? converter.toOracle(value) : null;
+		};
 	}
 
-	private void setEntityProperty(BeanWrapper beanWrapper, String attributeName, Object value) {
-		if (value == null) {
-			beanWrapper.setPropertyValue(attributeName, null);
-			return;
+	private EntityPropertyAccessor readableProperty(String javaFieldName) {
+		if (javaFieldName == null) {
+			return null;
 		}
 		try {
-			Field field = beanWrapper.getWrappedInstance().getClass().getDeclaredField(attributeName);
-			OracleCollection oracleCollection = field.getAnnotation(OracleCollection.class);
-			if (oracleCollection != null) {
-				// Internal array conversions
-				if (value != null) {
-					Assert.isInstanceOf(ARRAY.class, value);
-					String collectionName = oracleCollection.value();
-					ParameterizedType parametrizedType = (ParameterizedType) field.getGenericType();
-					Class<?> entityClass = (Class<?>) parametrizedType.getActualTypeArguments()[0];
-					ArrayMapper<?> arrayMapper = mapperService.arrayMapper(entityClass, collectionName);
-					List<?> list = arrayMapper.fromArray((ARRAY) value);
-					beanWrapper.setPropertyValue(attributeName, list);
-				}
-			}
-			else if (STRUCT.class.isAssignableFrom(value.getClass())) {
-				Class<?> entityClass = field.getType();
-				StructMapper<?> mapper = mapperService.mapper(entityClass);
-				Object result = mapper.fromStruct((STRUCT) value);
-				beanWrapper.setPropertyValue(attributeName, result);
-			}
-			else {
-				beanWrapper.setPropertyValue(attributeName, value);
-			}
+			return accessor.property(javaFieldName);
 		}
-		catch (Exception ex) {
-			log.error("Cant set property value {}: {}", attributeName, value, ex);
+		catch (OsmMappingException ex) {
+			return null;
 		}
 	}
+
+	/**
+	 * Pre-resolved conversion of a single attribute value.
+	 */
+	@FunctionalInterface
+	private interface AttributeEncoder {
+		Object encode(Object source, Connection connection) throws SQLException;
+	}
+
 }
@@ -1,31 +1,71 @@
 package org.lab.osm.connector.mapper.impl;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.exception.OsmConnectorException;
 import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.GeneratedStructMapper;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+import org.lab.osm.connector.mapper.PrimitiveArrayMapper;
 import org.lab.osm.connector.mapper.StructDefinitionService;
 import org.lab.osm.connector.mapper.StructMapper;
 import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.converter.AttributeConverter;
+import org.lab.osm.connector.mapper.converter.AttributeConverterRegistry;
+import org.lab.osm.connector.metadata.LazyMetadataCollector;
 import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.impl.LazyStructLoader;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
 import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * <code>StructMapperService</code> using Oracle metadata.
- * 
- * 
+ *
+ * Mappers are created once per mapped class (and per mapped class and collection name for array mappers) and shared
+ * between threads, so they can keep precomputed state of their types. Mappers of every registered struct are created
+ * at startup.
+ *
+ * In lazy mode the model packages are not read at startup: the metadata of each entity (and its nested entities) is
+ * read the first time the entity is mapped (see {@link LazyStructLoader}).
+ *
+ * Entities with a mapper generated at compile time ({@link GeneratedStructMapper}) use it when its attribute order
+ * matches the Oracle metadata. Otherwise the generated mapper is ignored with a warning.
+ *
  * @author lab.cabrera@gmail.com
  * @since 1.0.0
  */
+@Slf4j
 public class MetadataStructMapperService implements StructMapperService {
 
 	@Getter
 	private final MappingMetadata metadata;
 
 	private final StructDefinitionService definitionService;
+	private final OracleTypeFactory typeFactory;
+	private final ParallelArrayDecoder parallelDecoder;
+	private final AttributeConverterRegistry converterRegistry;
+
+	private final ConcurrentMap<Class<?>, StructMapper<?>> structMappers;
+	private final ConcurrentMap<ArrayMapperKey, ArrayMapper<?>> arrayMappers;
+	private final ConcurrentMap<ArrayMapperKey, PrimitiveArrayMapper<?>> primitiveArrayMappers;
 
 	/**
 	 * Public constructor.
-	 * 
+	 *
 	 * @param definitionService
 	 * @param metadataCollector
 	 * @param packageNames
@@ -34,27 +74,252 @@ public class MetadataStructMapperService implements StructMapperService {
 			StructDefinitionService definitionService,
 			MetadataCollector metadataCollector,
 			String[] packageNames) { //@formatter:on
+		this(definitionService, metadataCollector, packageNames, new DefaultOracleTypeFactory());
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param definitionService
+	 * @param metadataCollector
+	 * @param packageNames
+	 * @param typeFactory Factory used to create the Oracle <code>STRUCT</code> and <code>ARRAY</code> instances.
+	 */
+	public MetadataStructMapperService( //@formatter:off
+			StructDefinitionService definitionService,
+			MetadataCollector metadataCollector,
+			String[] packageNames,
+			OracleTypeFactory typeFactory) { //@formatter:on
+		this(definitionService, metadataCollector, packageNames, typeFactory, null);
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param definitionService
+	 * @param metadataCollector
+	 * @param packageNames
+	 * @param typeFactory Factory used to create the Oracle <code>STRUCT</code> and <code>ARRAY</code> instances.
+	 * @param parallelDecoder Optional decoder of large collections (<code>null</code> to decode sequentially).
+	 */
+	public MetadataStructMapperService( //@formatter:off
+			StructDefinitionService definitionService,
+			MetadataCollector metadataCollector,
+			String[] packageNames,
+			OracleTypeFactory typeFactory,
+			ParallelArrayDecoder parallelDecoder) { //@formatter:on
+		this(definitionService, metadataCollector, packageNames, typeFactory, parallelDecoder, false);
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param definitionService
+	 * @param metadataCollector
+	 * @param packageNames
+	 * @param typeFactory Factory used to create the Oracle <code>STRUCT</code> and <code>ARRAY</code> instances.
+	 * @param parallelDecoder Optional decoder of large collections (<code>null</code> to decode sequentially).
+	 * @param lazyMetadata Reads the metadata of each entity on first use instead of reading the model packages.
+	 */
+	public MetadataStructMapperService( //@formatter:off
+			StructDefinitionService definitionService,
+			MetadataCollector metadataCollector,
+			String[] packageNames,
+			OracleTypeFactory typeFactory,
+			ParallelArrayDecoder parallelDecoder,
+			boolean lazyMetadata) { //@formatter:on
+		this(definitionService, metadataCollector, packageNames, typeFactory, parallelDecoder, lazyMetadata,
+			new AttributeConverterRegistry());
+	}
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param definitionService
+	 * @param metadataCollector
+	 * @param packageNames
+	 * @param typeFactory Factory used to create the Oracle <code>STRUCT</code> and <code>ARRAY</code> instances.
+	 * @param parallelDecoder Optional decoder of large collections (<code>null</code> to decode sequentially).
+	 * @param lazyMetadata Reads the metadata of each entity on first use instead of reading the model packages.
+	 * @param converterRegistry Registry used to resolve the attribute converters.
+	 */
+	public MetadataStructMapperService( //@formatter:off
+			StructDefinitionService definitionService,
+			MetadataCollector metadataCollector,
+			String[] packageNames,
+			OracleTypeFactory typeFactory,
+			ParallelArrayDecoder parallelDecoder,
+			boolean lazyMetadata,
+			AttributeConverterRegistry converterRegistry) { //@formatter:on
 		this.metadata = new MappingMetadata();
 		this.definitionService = definitionService;
-		for (String packageName : packageNames) {
-			metadataCollector.readMetadata(metadata, packageName);
+		this.typeFactory = typeFactory;
+		this.parallelDecoder = parallelDecoder;
+		this.converterRegistry = converterRegistry;
+		this.structMappers = new ConcurrentHashMap<>();
+		this.arrayMappers = new ConcurrentHashMap<>();
+		this.primitiveArrayMappers = new ConcurrentHashMap<>();
+		if (lazyMetadata) {
+			log.info("Using lazy metadata loading for packages {}", (Object) packageNames);
+			for (String packageName : packageNames) {
+				metadata.registerPackageName(packageName);
+			}
+			if (!(metadataCollector instanceof LazyMetadataCollector)) {
+				throw new OsmConnectorException(
+					"Lazy metadata loading is not supported by " + metadataCollector.getClass().getName());
+			}
+			metadata.setStructLoader(new LazyStructLoader((LazyMetadataCollector) metadataCollector));
+		}
+		else {
+			for (String packageName : packageNames) {
+				metadataCollector.readMetadata(metadata, packageName);
+			}
 		}
+		metadata.freeze();
+		registerMappers();
 	}
 
 	/* (non-Javadoc)
 	 * @see org.lab.osm.connector.service.StructMapperService#mapper(java.lang.Class)
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> StructMapper<T> mapper(Class<T> mappedClass) {
-		return new MetadataStructMapper<>(mappedClass, this, metadata, definitionService);
+		StructMapper<?> mapper = structMappers.get(mappedClass);
+		if (mapper == null) {
+			mapper = structMappers.computeIfAbsent(mappedClass, this::createMapper);
+		}
+		return (StructMapper<T>) mapper;
 	}
 
 	/* (non-Javadoc)
 	 * @see org.lab.osm.connector.service.StructMapperService#listMapper(java.lang.Class)
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> ArrayMapper<T> arrayMapper(Class<T> mappedClass, String oracleCollectionName) {
-		return new MetadataArrayMapper<>(mappedClass, oracleCollectionName, this, metadata, definitionService);
+		ArrayMapperKey key = new ArrayMapperKey(mappedClass, oracleCollectionName);
+		ArrayMapper<?> mapper = arrayMappers.get(key);
+		if (mapper == null) {
+			mapper = arrayMappers.computeIfAbsent(key, x -> new MetadataArrayMapper<>(mappedClass,
+				oracleCollectionName, this, metadata, definitionService, typeFactory, parallelDecoder));
+		}
+		return (ArrayMapper<T>) mapper;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.mapper.StructMapperService#primitiveArrayMapper(java.lang.Class, java.lang.String)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <A> PrimitiveArrayMapper<A> primitiveArrayMapper(Class<A> arrayClass, String oracleCollectionName) {
+		ArrayMapperKey key = new ArrayMapperKey(arrayClass, oracleCollectionName);
+		PrimitiveArrayMapper<?> mapper = primitiveArrayMappers.get(key);
+		if (mapper == null) {
+			mapper = primitiveArrayMappers.computeIfAbsent(key, x -> new DefaultPrimitiveArrayMapper<>(arrayClass,
+				oracleCollectionName, definitionService, typeFactory));
+		}
+		return (PrimitiveArrayMapper<A>) mapper;
+	}
+
+	private <T> StructMapper<T> createMapper(Class<T> mappedClass) {
+		StructMapper<T> mapper = new MetadataStructMapper<>(mappedClass, this, metadata, definitionService,
+			typeFactory, converterRegistry);
+		GeneratedStructMapper<T> generated = loadGeneratedMapper(mappedClass);
+		if (generated != null) {
+			StructMetadata struct = metadata.getRequiredStruct(mappedClass);
+			if (verifyGeneratedMapper(generated, struct)) {
+				log.debug("Using generated mapper {}", generated.getClass().getName());
+				generated.bind(this, definitionService, typeFactory, mapper, resolveConverters(mappedClass, struct));
+				return generated;
+			}
+		}
+		return mapper;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> GeneratedStructMapper<T> loadGeneratedMapper(Class<T> mappedClass) {
+		String className = GeneratedStructMapper.generatedClassName(mappedClass);
+		ClassLoader classLoader = mappedClass.getClassLoader();
+		if (!ClassUtils.isPresent(className, classLoader)) {
+			return null;
+		}
+		try {
+			Class<?> generatedClass = ClassUtils.forName(className, classLoader);
+			GeneratedStructMapper<T> generated = BeanUtils.instantiateClass(generatedClass,
+				GeneratedStructMapper.class);
+			return mappedClass.equals(generated.getMappedClass()) ? generated : null;
+		}
+		catch (Exception | LinkageError ex) {
+			log.warn("Cant load generated mapper {}: {}", className, ex.getMessage());
+			return null;
+		}
+	}
+
+	private AttributeConverter<?>[] resolveConverters(Class<?> mappedClass, StructMetadata struct) {
+		List<FieldMetadata> fields = struct.getFields();
+		AttributeConverter<?>[] result = new AttributeConverter<?>[fields.size()];
+		for (int i = 0; i < result.length; i++) {
+			FieldMetadata field = fields.get(i);
+			Class<?> propertyType = ReflectionUtils.findField(mappedClass, field.getJavaAttributeName()).getType();
+			result[i] = converterRegistry.resolve(field, propertyType);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks the generated attribute order against the Oracle metadata.
+	 */
+	private boolean verifyGeneratedMapper(GeneratedStructMapper<?> generated, StructMetadata struct) {
+		String className = generated.getClass().getName();
+		List<String> properties = generated.getProperties();
+		List<FieldMetadata> fields = struct.getFields();
+		if (!generated.getStructName().equalsIgnoreCase(struct.getStrucyName())) {
+			log.warn("Ignoring generated mapper {}: generated for {}, current type is {}", className,
+				generated.getStructName(), struct.getStrucyName());
+			return false;
+		}
+		if (properties.size() != fields.size() || !struct.getUnmappedFields().isEmpty()) {
+			log.warn("Ignoring generated mapper {}: {} generated attributes, {} has {} attributes", className,
+				properties.size(), struct.getStrucyName(), fields.size());
+			return false;
+		}
+		for (int i = 0; i < fields.size(); i++) {
+			FieldMetadata field = fields.get(i);
+			if (!field.isMapped() || !properties.get(i).equals(field.getJavaAttributeName())) {
+				log.warn("Ignoring generated mapper {}: attribute {} is bound to {}, generated order expects {}",
+					className, field.getOracleColumnName(), field.getJavaAttributeName(), properties.get(i));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void registerMappers() {
+		for (StructMetadata struct : metadata.getStructs()) {
+			Class<?> mappedClass = struct.getMappedClass();
+			mapper(mappedClass);
+			for (Field field : mappedClass.getDeclaredFields()) {
+				OracleCollection oracleCollection = field.getAnnotation(OracleCollection.class);
+				Type genericType = field.getGenericType();
+				if (oracleCollection != null && genericType instanceof ParameterizedType) {
+					Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+					if (elementType instanceof Class) {
+						arrayMapper((Class<?>) elementType, oracleCollection.value());
+					}
+				}
+			}
+		}
+		log.debug("Registered {} struct mappers and {} array mappers", structMappers.size(), arrayMappers.size());
+	}
+
+	/**
+	 * Array mapper registry key.
+	 */
+	@Value
+	private static class ArrayMapperKey {
+		private final Class<?> mappedClass;
+		private final String collectionName;
 	}
 
 }
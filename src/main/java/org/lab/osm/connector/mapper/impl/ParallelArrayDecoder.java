@@ -0,0 +1,165 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.springframework.beans.factory.DisposableBean;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import oracle.sql.STRUCT;
+
+/**
+ * Decodes the STRUCT elements of large Oracle ARRAY values concurrently in a dedicated <code>ForkJoinPool</code>.
+ *
+ * Arrays with less than <code>threshold</code> elements are decoded on the calling thread. Larger arrays are split in
+ * chunks that are mapped concurrently, writing each entity in its original position.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @see MetadataArrayMapper
+ */
+@Slf4j
+public class ParallelArrayDecoder implements DisposableBean {
+
+	/**
+	 * Minimum number of elements decoded by a single task.
+	 */
+	static final int MIN_CHUNK_SIZE = 128;
+
+	/**
+	 * Number of chunks per thread (allows work stealing when chunks take different times).
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	@Getter
+	private final int threshold;
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param threshold Minimum number of elements to decode an array concurrently.
+	 * @param parallelism Number of threads or <code>0</code> to use the number of processors.
+	 */
+	public ParallelArrayDecoder(int threshold, int parallelism) {
+		if (threshold < 1) {
+			throw new OsmConnectorException("Invalid parallel decode threshold: " + threshold);
+		}
+		if (parallelism < 0) {
+			throw new OsmConnectorException("Invalid parallel decode parallelism: " + parallelism);
+		}
+		this.threshold = threshold;
+		int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		this.pool = new ForkJoinPool(threads, ParallelArrayDecoder::newThread, null, false);
+		log.debug("Decoding arrays of {} or more elements using {} threads", threshold, threads);
+	}
+
+	/**
+	 * Checks if an array of a given size is decoded concurrently.
+	 *
+	 * @param size
+	 * @return
+	 */
+	public boolean accepts(int size) {
+		return size >= threshold;
+	}
+
+	/**
+	 * Decodes the given STRUCT values preserving their order.
+	 *
+	 * @param values
+	 * @param mapper
+	 * @return
+	 * @throws SQLException
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> decode(Object[] values, StructMapper<T> mapper) throws SQLException {
+		Object[] result = new Object[values.length];
+		int chunkSize = Math.max(MIN_CHUNK_SIZE, values.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+		try {
+			pool.invoke(new DecodeTask(values, result, mapper, 0, values.length, chunkSize));
+		}
+		catch (RuntimeException ex) {
+			// ForkJoinPool may rethrow a copy of the task exception wrapping the original one
+			for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+				if (cause instanceof SQLException) {
+					throw (SQLException) cause;
+				}
+			}
+			throw ex;
+		}
+		return new ArrayList<>((List<T>) Arrays.asList(result));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		pool.shutdown();
+	}
+
+	private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+		ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("osm-decode-" + thread.getPoolIndex());
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	@SuppressWarnings("serial")
+	private static class DecodeTask extends RecursiveAction {
+
+		private final Object[] values;
+		private final Object[] result;
+		private final StructMapper<?> mapper;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+
+		DecodeTask(Object[] values, Object[] result, StructMapper<?> mapper, int from, int to, int chunkSize) {
+			this.values = values;
+			this.result = result;
+			this.mapper = mapper;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > chunkSize) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new DecodeTask(values, result, mapper, from, middle, chunkSize),
+					new DecodeTask(values, result, mapper, middle, to, chunkSize));
+				return;
+			}
+			try {
+				for (int i = from; i < to; i++) {
+					result[i] = mapper.fromStruct((STRUCT) values[i]);
+				}
+			}
+			catch (SQLException ex) {
+				throw new DecodeException(ex);
+			}
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class DecodeException extends RuntimeException {
+
+		DecodeException(SQLException cause) {
+			super(cause);
+		}
+	}
+
+}
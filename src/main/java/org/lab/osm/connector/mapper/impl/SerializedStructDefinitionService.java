@@ -6,14 +6,11 @@ import java.io.FileOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.lab.osm.connector.exception.OsmConnectorException;
 import org.lab.osm.connector.mapper.StructDefinitionService;
 
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import oracle.sql.ArrayDescriptor;
 import oracle.sql.StructDescriptor;
@@ -27,14 +24,12 @@ import oracle.sql.StructDescriptor;
  * @since 1.0.0
  */
 @Slf4j
-public class SerializedStructDefinitionService implements StructDefinitionService {
+public class SerializedStructDefinitionService extends AbstractStructDefinitionService {
 
 	private String FILE_EXT = ".ser";
 
 	private final File folder;
 	private final String filePrefix;
-	private final Map<String, StructDescriptor> structDescriptorValues;
-	private final Map<String, ArrayDescriptor> arrayDescriptorValues;
 
 	/**
 	 * Public constructor.
@@ -51,8 +46,6 @@ public class SerializedStructDefinitionService implements StructDefinitionServic
 	 * @param filePrefix Stored file prefix.
 	 */
 	public SerializedStructDefinitionService(String serializedBaseFolder, String filePrefix) {
-		structDescriptorValues = new HashMap<>();
-		arrayDescriptorValues = new HashMap<>();
 		folder = new File(serializedBaseFolder);
 		this.filePrefix = filePrefix;
 		if (!folder.exists() && !folder.mkdirs()) {
@@ -64,79 +57,59 @@ public class SerializedStructDefinitionService implements StructDefinitionServic
 	}
 
 	/* (non-Javadoc)
-	 * @see org.lab.osm.connector.mapper.StructDefinitionService#structDescriptor(java.lang.String, java.sql.Connection)
+	 * @see org.lab.osm.connector.mapper.impl.AbstractStructDefinitionService#loadStructDescriptor(java.lang.String, java.sql.Connection)
 	 */
 	@Override
-	public StructDescriptor structDescriptor(@NonNull String typeName, Connection connection) {
-		try {
-			if (structDescriptorValues.containsKey(typeName)) {
-				// TODO check reusing connections
-				return structDescriptorValues.get(typeName);
+	protected StructDescriptor loadStructDescriptor(String typeName, Connection connection) throws Exception {
+		StructDescriptor structDescriptor;
+		File file = getSerializedFile(typeName);
+		if (file.exists()) {
+			log.info("Reading struct {} descriptor from file", typeName);
+			try (FileInputStream fileInputStream = new FileInputStream(file)) {
+				ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
+				structDescriptor = (StructDescriptor) objectInputStream.readObject();
+				objectInputStream.close();
 			}
-			StructDescriptor structDescriptor;
-			File file = getSerializedFile(typeName);
-			if (file.exists()) {
-				log.info("Reading struct {} descriptor from file", typeName);
-				try (FileInputStream fileInputStream = new FileInputStream(file)) {
-					ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
-					structDescriptor = (StructDescriptor) objectInputStream.readObject();
-					objectInputStream.close();
-				}
-				structDescriptor.setConnection(connection);
-			}
-			else {
-				log.info("Reading struct {} descriptor from database", typeName);
-				structDescriptor = StructDescriptor.createDescriptor(typeName, connection);
-				try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-					ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-					objectOutputStream.writeObject(structDescriptor);
-					objectOutputStream.close();
-				}
-			}
-			structDescriptorValues.put(typeName, structDescriptor);
-			return structDescriptor;
+			structDescriptor.setConnection(connection);
 		}
-		catch (Exception ex) {
-			throw new OsmConnectorException("Error reading struct descriptor " + typeName, ex);
+		else {
+			log.info("Reading struct {} descriptor from database", typeName);
+			structDescriptor = StructDescriptor.createDescriptor(typeName, connection);
+			try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
+				ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
+				objectOutputStream.writeObject(structDescriptor);
+				objectOutputStream.close();
+			}
 		}
+		return structDescriptor;
 	}
 
 	/* (non-Javadoc)
-	 * @see org.lab.osm.connector.mapper.StructDefinitionService#arrayDescriptor(java.lang.String, java.sql.Connection)
+	 * @see org.lab.osm.connector.mapper.impl.AbstractStructDefinitionService#loadArrayDescriptor(java.lang.String, java.sql.Connection)
 	 */
 	@Override
-	public ArrayDescriptor arrayDescriptor(@NonNull String typeName, Connection connection) {
-		try {
-			if (arrayDescriptorValues.containsKey(typeName)) {
-				// TODO check reusing connections
-				return arrayDescriptorValues.get(typeName);
+	protected ArrayDescriptor loadArrayDescriptor(String typeName, Connection connection) throws Exception {
+		ArrayDescriptor arrayDescriptor;
+		File file = getSerializedFile(typeName);
+		if (file.exists()) {
+			log.info("Reading array {} descriptor from file", typeName);
+			try (FileInputStream fileInputStream = new FileInputStream(file)) {
+				ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
+				arrayDescriptor = (ArrayDescriptor) objectInputStream.readObject();
+				objectInputStream.close();
 			}
-			ArrayDescriptor arrayDescriptor;
-			File file = getSerializedFile(typeName);
-			if (file.exists()) {
-				log.info("Reading array {} descriptor from file", typeName);
-				try (FileInputStream fileInputStream = new FileInputStream(file)) {
-					ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
-					arrayDescriptor = (ArrayDescriptor) objectInputStream.readObject();
-					objectInputStream.close();
-				}
-				arrayDescriptor.setConnection(connection);
-			}
-			else {
-				log.info("Reading array {} descriptor from database", typeName);
-				arrayDescriptor = ArrayDescriptor.createDescriptor(typeName, connection);
-				try (FileOutputStream fileOutStream = new FileOutputStream(file)) {
-					ObjectOutputStream objectOutStream = new ObjectOutputStream(fileOutStream);
-					objectOutStream.writeObject(arrayDescriptor);
-					objectOutStream.close();
-				}
-			}
-			arrayDescriptorValues.put(typeName, arrayDescriptor);
-			return arrayDescriptor;
+			arrayDescriptor.setConnection(connection);
 		}
-		catch (Exception ex) {
-			throw new OsmConnectorException("Error reading array descriptor " + typeName, ex);
+		else {
+			log.info("Reading array {} descriptor from database", typeName);
+			arrayDescriptor = ArrayDescriptor.createDescriptor(typeName, connection);
+			try (FileOutputStream fileOutStream = new FileOutputStream(file)) {
+				ObjectOutputStream objectOutStream = new ObjectOutputStream(fileOutStream);
+				objectOutStream.writeObject(arrayDescriptor);
+				objectOutStream.close();
+			}
 		}
+		return arrayDescriptor;
 	}
 
 	// TODO consider use a service
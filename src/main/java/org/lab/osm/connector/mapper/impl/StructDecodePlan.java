@@ -0,0 +1,182 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.converter.AttributeConverter;
+import org.lab.osm.connector.mapper.converter.AttributeConverterRegistry;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import oracle.sql.ARRAY;
+import oracle.sql.STRUCT;
+
+/**
+ * Decode plan of an Oracle STRUCT type into a mapped class.
+ *
+ * Resolves once the attribute position of every column to its java property and to the nested mapper or
+ * {@link AttributeConverter} used to convert it, so decoding a STRUCT is an indexed loop over its attributes without
+ * any column name lookup.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+class StructDecodePlan {
+
+	@Getter
+	private final String typeName;
+
+	/**
+	 * Decoders indexed by attribute position. Unmapped attributes are <code>null</code>.
+	 */
+	private final AttributeDecoder[] decoders;
+
+	private StructDecodePlan(String typeName, AttributeDecoder[] decoders) {
+		this.typeName = typeName;
+		this.decoders = decoders;
+	}
+
+	/**
+	 * Resolves the plan of a given Oracle type.
+	 *
+	 * @param typeName Oracle type name.
+	 * @param mappedClass Target java class.
+	 * @param structMetadata Metadata of the target java class.
+	 * @param rsmd Oracle type metadata.
+	 * @param mapperService Service used to resolve nested mappers.
+	 * @param converterRegistry Registry used to resolve the attribute converters.
+	 * @return
+	 * @throws SQLException
+	 */
+	static StructDecodePlan create( //@formatter:off
+			String typeName,
+			Class<?> mappedClass,
+			StructMetadata structMetadata,
+			ResultSetMetaData rsmd,
+			StructMapperService mapperService,
+			AttributeConverterRegistry converterRegistry) throws SQLException { //@formatter:on
+
+		EntityAccessor<?> accessor = EntityAccessor.forClass(mappedClass);
+		int columnCount = rsmd.getColumnCount();
+		AttributeDecoder[] decoders = new AttributeDecoder[columnCount];
+		for (int index = 0; index < columnCount; index++) {
+			String columnName = JdbcUtils.lookupColumnName(rsmd, index + 1);
+			FieldMetadata mappedField = structMetadata.findColumn(columnName);
+			if (mappedField == null || mappedField.getJavaAttributeName() == null) {
+				log.warn("Missing mapping {} in class {}", columnName, mappedClass.getName());
+			}
+			else {
+				decoders[index] = resolveDecoder(accessor, mappedField, mapperService, converterRegistry);
+			}
+		}
+		log.debug("Resolved decode plan of {} to {}", typeName, mappedClass.getName());
+		return new StructDecodePlan(typeName, decoders);
+	}
+
+	/**
+	 * Copies the attributes of a STRUCT into the given entity.
+	 *
+	 * @param attributes STRUCT attributes.
+	 * @param target Target entity.
+	 */
+	void decode(Object[] attributes, Object target) {
+		int count = Math.min(attributes.length, decoders.length);
+		for (int index = 0; index < count; index++) {
+			AttributeDecoder decoder = decoders[index];
+			if (decoder != null) {
+				decoder.decode(attributes[index], target);
+			}
+		}
+	}
+
+	private static AttributeDecoder resolveDecoder(EntityAccessor<?> accessor, FieldMetadata mappedField,
+		StructMapperService mapperService, AttributeConverterRegistry converterRegistry) {
+		Class<?> mappedClass = accessor.getEntityClass();
+		String attributeName = mappedField.getJavaAttributeName();
+		EntityPropertyAccessor property;
+		try {
+			property = accessor.property(attributeName);
+		}
+		catch (OsmMappingException ex) {
+			log.warn("Missing property {} in class {}", attributeName, mappedClass.getName());
+			return null;
+		}
+		Field field = ReflectionUtils.findField(mappedClass, attributeName);
+		OracleCollection oracleCollection = field != null ? field.getAnnotation(OracleCollection.class) : null;
+		if (oracleCollection != null) {
+			ParameterizedType parametrizedType = (ParameterizedType) field.getGenericType();
+			Class<?> entityClass = (Class<?>) parametrizedType.getActualTypeArguments()[0];
+			ArrayMapper<?> arrayMapper = mapperService.arrayMapper(entityClass, oracleCollection.value());
+			return new AttributeDecoder(property, mapperService, null, arrayMapper, null);
+		}
+		AttributeConverter<Object> converter = converterRegistry.resolve(mappedField, property.getType());
+		if (property.getType().isAnnotationPresent(OracleStruct.class)) {
+			return new AttributeDecoder(property, mapperService, mapperService.mapper(property.getType()), null,
+				converter);
+		}
+		return new AttributeDecoder(property, mapperService, null, null, converter);
+	}
+
+	/**
+	 * Pre-resolved conversion of a single STRUCT attribute.
+	 */
+	private static class AttributeDecoder {
+
+		private final EntityPropertyAccessor property;
+		private final StructMapperService mapperService;
+		private final StructMapper<?> structMapper;
+		private final ArrayMapper<?> arrayMapper;
+		private final AttributeConverter<Object> converter;
+
+		AttributeDecoder(EntityPropertyAccessor property, StructMapperService mapperService,
+			StructMapper<?> structMapper, ArrayMapper<?> arrayMapper, AttributeConverter<Object> converter) {
+			this.property = property;
+			this.mapperService = mapperService;
+			this.structMapper = structMapper;
+			this.arrayMapper = arrayMapper;
+			this.converter = converter;
+		}
+
+		void decode(Object value, Object target) {
+			try {
+				if (value == null) {
+					property.set(target, null);
+				}
+				else if (arrayMapper != null) {
+					// Internal array conversions
+					Assert.isInstanceOf(ARRAY.class, value);
+					List<?> list = arrayMapper.fromArray((ARRAY) value);
+					property.set(target, list);
+				}
+				else if (value instanceof STRUCT) {
+					// Properties not annotated with OracleStruct may also receive a STRUCT (resolved on use)
+					StructMapper<?> mapper = structMapper != null ? structMapper
+						: mapperService.mapper(property.getType());
+					property.set(target, mapper.fromStruct((STRUCT) value));
+				}
+				else {
+					property.set(target, converter.toJava(value));
+				}
+			}
+			catch (Exception ex) {
+				log.error("Cant set property value {}: {}", property.getName(), value, ex);
+			}
+		}
+	}
+
+}
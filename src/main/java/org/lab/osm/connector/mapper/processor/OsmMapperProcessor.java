@@ -0,0 +1,421 @@
+package org.lab.osm.connector.mapper.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.mapper.GeneratedStructMapper;
+
+/**
+ * Annotation processor generating a {@link GeneratedStructMapper} for each type annotated with {@link OracleStruct}.
+ *
+ * The generated mapper reads and writes the entity fields in declaration order, using direct field access for non
+ * private fields and accessor methods (declared or generated by Lombok) otherwise. Entities that can not be mapped
+ * without reflection (final fields, missing accessors or no-arg constructor, type parameters) are skipped with a note
+ * and keep using the metadata mapper. Generation is disabled by default and enabled with the processor option
+ * <code>-Aosm.mappers=true</code>.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class OsmMapperProcessor extends AbstractProcessor {
+
+	static final String OPTION_ENABLED = "osm.mappers";
+
+	/**
+	 * Referenced by name: the mapper base class depends on the Oracle driver, not available to the compiler.
+	 */
+	private static final String BASE_CLASS_NAME = "org.lab.osm.connector.mapper.GeneratedStructMapper";
+
+	private static final String LOMBOK_PACKAGE = "lombok.";
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(OracleStruct.class.getName());
+	}
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedOptions()
+	 */
+	@Override
+	public Set<String> getSupportedOptions() {
+		return Collections.singleton(OPTION_ENABLED);
+	}
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/* (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (!"true".equalsIgnoreCase(processingEnv.getOptions().get(OPTION_ENABLED))) {
+			return false;
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(OracleStruct.class)) {
+			if (element.getKind() == ElementKind.CLASS) {
+				TypeElement type = (TypeElement) element;
+				try {
+					generate(type, resolveProperties(type));
+				}
+				catch (UnsupportedEntityException ex) {
+					note(type, "Skipping mapper generation: " + ex.getMessage());
+				}
+			}
+		}
+		return false;
+	}
+
+	private List<Property> resolveProperties(TypeElement type) {
+		Set<Modifier> modifiers = type.getModifiers();
+		if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+			throw new UnsupportedEntityException("abstract or private class");
+		}
+		if (type.getNestingKind() != NestingKind.TOP_LEVEL
+			&& (type.getNestingKind() != NestingKind.MEMBER || !modifiers.contains(Modifier.STATIC))) {
+			throw new UnsupportedEntityException("inner class");
+		}
+		if (!type.getTypeParameters().isEmpty()) {
+			throw new UnsupportedEntityException("generic class");
+		}
+		if (!hasNoArgConstructor(type)) {
+			throw new UnsupportedEntityException("no accessible no-arg constructor");
+		}
+		List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+		List<Property> result = new ArrayList<>();
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (!field.getModifiers().contains(Modifier.STATIC)) {
+				result.add(resolveProperty(type, field, methods));
+			}
+		}
+		return result;
+	}
+
+	private Property resolveProperty(TypeElement type, VariableElement field, List<ExecutableElement> methods) {
+		String name = field.getSimpleName().toString();
+		if (field.getModifiers().contains(Modifier.FINAL)) {
+			throw new UnsupportedEntityException("final field " + name);
+		}
+		Property property = new Property(name, field.asType());
+		if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+			property.getter = name;
+			property.setter = name;
+		}
+		else {
+			boolean primitiveBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+			String getterName = lombokGetterName(name, primitiveBoolean);
+			String setterName = lombokSetterName(name, primitiveBoolean);
+			if (hasMethod(methods, getterName, 0) || hasLombok(type, field, "Getter", "Data", "Value")) {
+				property.getter = getterName + "()";
+			}
+			if (hasMethod(methods, setterName, 1) || hasLombok(type, field, "Setter", "Data")) {
+				property.setter = setterName;
+			}
+			if (property.getter == null || property.setter == null) {
+				throw new UnsupportedEntityException("no accessors of field " + name);
+			}
+		}
+		OracleCollection collection = field.getAnnotation(OracleCollection.class);
+		if (collection != null) {
+			TypeMirror elementType = resolveListElement(field.asType());
+			if (elementType == null) {
+				throw new UnsupportedEntityException("collection field " + name + " is not a java.util.List");
+			}
+			property.kind = PropertyKind.COLLECTION;
+			property.elementType = erasure(elementType);
+			property.collectionName = collection.value();
+		}
+		else if (field.asType().getKind() == TypeKind.DECLARED
+			&& ((DeclaredType) field.asType()).asElement().getAnnotation(OracleStruct.class) != null) {
+			property.kind = PropertyKind.STRUCT;
+		}
+		else {
+			property.kind = PropertyKind.VALUE;
+		}
+		return property;
+	}
+
+	private void generate(TypeElement type, List<Property> properties) {
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		// Same rule as GeneratedStructMapper.generatedClassName
+		String className = binaryName.replace('$', '_') + GeneratedStructMapper.CLASS_NAME_SUFFIX;
+		String simpleName = packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+		String entity = type.getQualifiedName().toString();
+		String structName = type.getAnnotation(OracleStruct.class).value();
+
+		StringBuilder sb = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			sb.append("package ").append(packageName).append(";\n\n");
+		}
+		sb.append("/**\n * Mapper of {@link ").append(entity).append("} generated by ")
+			.append(OsmMapperProcessor.class.getName()).append(". Do not edit.\n */\n");
+		sb.append("@SuppressWarnings(\"unchecked\")\n");
+		sb.append("public final class ").append(simpleName).append(" extends ")
+			.append(BASE_CLASS_NAME).append("<").append(entity).append("> {\n\n");
+
+		// Constructor
+		sb.append("\tpublic ").append(simpleName).append("() {\n");
+		sb.append("\t\tsuper(").append(entity).append(".class, ").append(literal(structName))
+			.append(", new String[] {");
+		for (int i = 0; i < properties.size(); i++) {
+			sb.append(i > 0 ? ", " : " ").append(literal(properties.get(i).name));
+		}
+		sb.append(" });\n\t}\n\n");
+
+		// Entity creation
+		sb.append("\t@Override\n\tprotected ").append(entity).append(" newInstance() {\n");
+		sb.append("\t\treturn new ").append(entity).append("();\n\t}\n\n");
+
+		// Decoding
+		sb.append("\t@Override\n\tprotected void readAttributes(Object[] attributes, ").append(entity)
+			.append(" target) {\n");
+		for (int i = 0; i < properties.size(); i++) {
+			appendRead(sb, properties.get(i), i);
+		}
+		sb.append("\t}\n\n");
+
+		// Encoding
+		sb.append("\t@Override\n\tprotected Object[] writeAttributes(").append(entity)
+			.append(" source, java.sql.Connection conn) throws java.sql.SQLException {\n");
+		sb.append("\t\tObject[] values = new Object[").append(properties.size()).append("];\n");
+		for (int i = 0; i < properties.size(); i++) {
+			appendWrite(sb, properties.get(i), i);
+		}
+		sb.append("\t\treturn values;\n\t}\n\n}\n");
+
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(className, type);
+			try (Writer writer = file.openWriter()) {
+				writer.write(sb.toString());
+			}
+		}
+		catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+				"Cant write OSM mapper " + className + ": " + ex.getMessage(), type);
+		}
+	}
+
+	private void appendRead(StringBuilder sb, Property property, int index) {
+		String attribute = "attributes[" + index + "]";
+		String value;
+		switch (property.kind) {
+		case COLLECTION:
+			value = "readArray(" + attribute + ", " + property.elementType + ".class, "
+				+ literal(property.collectionName) + ")";
+			break;
+		case STRUCT:
+			value = "readStruct(" + attribute + ", " + erasure(property.type) + ".class)";
+			break;
+		default:
+			value = "(" + boxedErasure(property.type) + ") readValue(" + index + ", " + attribute + ")";
+			break;
+		}
+		boolean primitive = property.type.getKind().isPrimitive();
+		sb.append("\t\ttry {\n\t\t\t");
+		if (primitive) {
+			// Null values keep the default value of primitive properties
+			sb.append("if (").append(attribute).append(" != null) ");
+		}
+		if (property.getter.equals(property.setter)) {
+			sb.append("target.").append(property.setter).append(" = ").append(value).append(";\n");
+		}
+		else {
+			sb.append("target.").append(property.setter).append("(").append(value).append(");\n");
+		}
+		// Same behavior as the metadata mapper: the attribute is logged and left unset
+		sb.append("\t\t}\n\t\tcatch (Exception ex) {\n\t\t\treadFailed(").append(index).append(", ")
+			.append(attribute).append(", ex);\n\t\t}\n");
+	}
+
+	private void appendWrite(StringBuilder sb, Property property, int index) {
+		String value = "source." + property.getter;
+		sb.append("\t\tvalues[").append(index).append("] = ");
+		switch (property.kind) {
+		case COLLECTION:
+			sb.append("writeArray(").append(value).append(", ").append(property.elementType).append(".class, ")
+				.append(literal(property.collectionName)).append(", conn)");
+			break;
+		case STRUCT:
+			sb.append("writeStruct(").append(value).append(", ").append(erasure(property.type))
+				.append(".class, conn)");
+			break;
+		default:
+			sb.append("writeValue(").append(index).append(", ").append(value).append(")");
+			break;
+		}
+		sb.append(";\n");
+	}
+
+	private boolean hasNoArgConstructor(TypeElement type) {
+		if (hasLombokType(type, "NoArgsConstructor")) {
+			return true;
+		}
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+		if (constructors.isEmpty()) {
+			// Implicit default constructor unless Lombok generates constructors with arguments
+			return !hasLombokType(type, "AllArgsConstructor", "RequiredArgsConstructor", "Value", "Builder");
+		}
+		return constructors.stream()
+			.anyMatch(x -> x.getParameters().isEmpty() && !x.getModifiers().contains(Modifier.PRIVATE));
+	}
+
+	private TypeMirror resolveListElement(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		DeclaredType declaredType = (DeclaredType) type;
+		String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+		if (!List.class.getName().equals(name) || declaredType.getTypeArguments().size() != 1) {
+			return null;
+		}
+		TypeMirror elementType = declaredType.getTypeArguments().get(0);
+		return elementType.getKind() == TypeKind.DECLARED ? elementType : null;
+	}
+
+	private boolean hasMethod(List<ExecutableElement> methods, String name, int parameterCount) {
+		return methods.stream().anyMatch(x -> x.getSimpleName().contentEquals(name) //@formatter:off
+			&& x.getParameters().size() == parameterCount
+			&& !x.getModifiers().contains(Modifier.PRIVATE)
+			&& !x.getModifiers().contains(Modifier.STATIC)); //@formatter:on
+	}
+
+	/**
+	 * Lombok accessors may not be visible yet (depends on processor order), so its annotations are checked.
+	 */
+	private boolean hasLombok(TypeElement type, VariableElement field, String fieldAnnotation,
+		String... typeAnnotations) {
+		return hasLombokAnnotation(field, fieldAnnotation) || hasLombokType(type, fieldAnnotation)
+			|| hasLombokType(type, typeAnnotations);
+	}
+
+	private boolean hasLombokType(TypeElement type, String... annotations) {
+		for (String annotation : annotations) {
+			if (hasLombokAnnotation(type, annotation)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasLombokAnnotation(Element element, String annotation) {
+		String name = LOMBOK_PACKAGE + annotation;
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private String boxedErasure(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type)
+				.getQualifiedName().toString();
+		}
+		return erasure(type);
+	}
+
+	private String literal(String value) {
+		return processingEnv.getElementUtils().getConstantExpression(value);
+	}
+
+	private void note(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+	}
+
+	static String lombokGetterName(String fieldName, boolean primitiveBoolean) {
+		if (primitiveBoolean) {
+			return isPrefixed(fieldName) ? fieldName : "is" + capitalize(fieldName);
+		}
+		return "get" + capitalize(fieldName);
+	}
+
+	static String lombokSetterName(String fieldName, boolean primitiveBoolean) {
+		if (primitiveBoolean && isPrefixed(fieldName)) {
+			return "set" + fieldName.substring(2);
+		}
+		return "set" + capitalize(fieldName);
+	}
+
+	private static boolean isPrefixed(String fieldName) {
+		return fieldName.length() > 2 && fieldName.startsWith("is") && Character.isUpperCase(fieldName.charAt(2));
+	}
+
+	private static String capitalize(String value) {
+		return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+	}
+
+	private enum PropertyKind {
+		VALUE, STRUCT, COLLECTION
+	}
+
+	/**
+	 * Entity field resolved at compile time. Direct field access uses the field name as getter and setter.
+	 */
+	private static class Property {
+
+		private final String name;
+		private final TypeMirror type;
+		private String getter;
+		private String setter;
+		private PropertyKind kind;
+		private String elementType;
+		private String collectionName;
+
+		Property(String name, TypeMirror type) {
+			this.name = name;
+			this.type = type;
+		}
+	}
+
+	/**
+	 * Entity that can not be mapped by a generated mapper.
+	 */
+	@SuppressWarnings("serial")
+	private static class UnsupportedEntityException extends RuntimeException {
+
+		UnsupportedEntityException(String message) {
+			super(message);
+		}
+	}
+
+}
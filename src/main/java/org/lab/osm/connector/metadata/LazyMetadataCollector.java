@@ -0,0 +1,26 @@
+package org.lab.osm.connector.metadata;
+
+import java.util.List;
+
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+
+/**
+ * {@link MetadataCollector} able to read the metadata of single entities, used to load the {@link MappingMetadata}
+ * lazily. Collectors not implementing this interface can not be used with <code>lazyMetadata</code>, which is checked
+ * on startup.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public interface LazyMetadataCollector extends MetadataCollector {
+
+	/**
+	 * Reads the metadata of the given entities.
+	 * 
+	 * @param structClasses Entities annotated with <code>OracleStruct</code>.
+	 * @return
+	 */
+	List<StructMetadata> readStructMetadata(List<Class<?>> structClasses);
+
+}
@@ -0,0 +1,30 @@
+package org.lab.osm.connector.metadata;
+
+/**
+ * Strategy used to bind the attributes of the Oracle types with the fields of the java entities.
+ * 
+ * Oracle attributes and java fields are bound when both names are translated to the same value. Names are translated
+ * once when the metadata is read (see <code>FieldMetadata.normalizedName</code>), never during the conversions.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public interface NamingStrategy {
+
+	/**
+	 * Translates the name of an Oracle attribute (or the value of an <code>OracleField</code> annotation).
+	 * 
+	 * @param columnName
+	 * @return
+	 */
+	String oracleName(String columnName);
+
+	/**
+	 * Translates the name of a java field.
+	 * 
+	 * @param fieldName
+	 * @return
+	 */
+	String javaName(String fieldName);
+
+}
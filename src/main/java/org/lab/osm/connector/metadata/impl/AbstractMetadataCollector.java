@@ -0,0 +1,145 @@
+package org.lab.osm.connector.metadata.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.annotation.OracleField;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.index.ClassIndex;
+import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.NamingStrategy;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Base {@link MetadataCollector} binding the Oracle attributes of a type with the fields of its java entity.
+ *
+ * Subclasses only have to resolve the Oracle attributes of each entity annotated with {@link OracleStruct}. Attributes
+ * and fields are bound using the configured {@link NamingStrategy}.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public abstract class AbstractMetadataCollector implements MetadataCollector {
+
+	@Getter
+	@Setter
+	@NonNull
+	private NamingStrategy namingStrategy = new DefaultNamingStrategy();
+
+	/**
+	 * Finds the entities annotated with {@link OracleStruct} of a given package.
+	 *
+	 * @param packageName
+	 * @return
+	 */
+	protected List<Class<?>> findStructClasses(String packageName) {
+		return ClassIndex.getAnnotatedTypes(packageName, OracleStruct.class);
+	}
+
+	/**
+	 * Creates the metadata of a java entity from the ordered list of attributes of its Oracle type.
+	 *
+	 * @param structClass Java entity annotated with {@link OracleStruct}.
+	 * @param oracleFields Oracle attributes (unmapped, with no java attribute name).
+	 * @return
+	 */
+	protected StructMetadata createStructMetadata(Class<?> structClass, List<FieldMetadata> oracleFields) {
+		StructMetadata result = new StructMetadata();
+		OracleStruct annotation = structClass.getAnnotation(OracleStruct.class);
+		oracleFields.forEach(result::registerField);
+		mapReflectionFields(result, structClass);
+		result.setMappedClass(structClass);
+		result.setStrucyName(annotation.value());
+		return result;
+	}
+
+	/**
+	 * Creates the metadata of an Oracle attribute.
+	 *
+	 * @param columnName
+	 * @param typeName
+	 * @param columnClassName
+	 * @param schemaName
+	 * @return
+	 */
+	protected FieldMetadata createOracleField(String columnName, String typeName, String columnClassName,
+		String schemaName) {
+		FieldMetadata field = new FieldMetadata();
+		field.setMapped(false);
+		field.setOracleColumnName(columnName);
+		field.setOracleTypeName(typeName);
+		field.setOracleColumnClassName(columnClassName);
+		field.setOracleSchemaName(schemaName);
+		field.setNormalizedName(namingStrategy.oracleName(columnName));
+		return field;
+	}
+
+	private void mapReflectionFields(StructMetadata data, Class<?> structClass) {
+		for (Field field : structClass.getDeclaredFields()) {
+
+			// Skip static fields
+			if (Modifier.isStatic(field.getModifiers())) {
+				log.trace("Ignoring static field {}", field.getName());
+				continue;
+			}
+
+			String fieldName = field.getName();
+			OracleField oracleField = field.getAnnotation(OracleField.class);
+			OracleCollection oracleCollection = field.getAnnotation(OracleCollection.class);
+
+			if (oracleCollection != null) {
+				// Oracle collection binding
+				bindOracleCollection(oracleCollection.value(), field, data);
+			}
+			else {
+				// Common field binding
+				String normalizedName = oracleField != null ? namingStrategy.oracleName(oracleField.value())
+					: namingStrategy.javaName(fieldName);
+				FieldMetadata target = data.findNormalizedField(normalizedName);
+				if (target != null) {
+					log.trace("Oracle bind {}", target.getOracleColumnName());
+					target.setMapped(true);
+				}
+				else {
+					target = new FieldMetadata();
+					target.setMapped(false);
+					data.registerUnmappedField(target);
+				}
+				bindFieldInfo(target, field);
+			}
+		}
+	}
+
+	private void bindOracleCollection(String collectionName, Field field, StructMetadata data) {
+		String fieldName = field.getName();
+		log.trace("Mapping field '{}' as a collection '{}'", fieldName, collectionName);
+
+		FieldMetadata fieldMetadata = data.findNormalizedField(namingStrategy.javaName(fieldName));
+
+		if (fieldMetadata != null) {
+			log.trace("Binded collection {} to field {}", fieldMetadata.getOracleColumnName(), fieldName);
+			fieldMetadata.setMapped(true);
+		}
+		else {
+			log.trace("Field {} is not present in parent oracle mapping", fieldName);
+			fieldMetadata = new FieldMetadata();
+			fieldMetadata.setMapped(false);
+			data.registerUnmappedField(fieldMetadata);
+		}
+		bindFieldInfo(fieldMetadata, field);
+	}
+
+	private void bindFieldInfo(FieldMetadata mapping, Field field) {
+		mapping.setJavaAttributeName(field.getName());
+	}
+
+}
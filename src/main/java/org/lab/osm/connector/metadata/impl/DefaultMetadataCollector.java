@@ -1,25 +1,28 @@
 package org.lab.osm.connector.metadata.impl;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.sql.Connection;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.Set;
-import java.util.function.UnaryOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
-import org.lab.osm.connector.annotation.OracleCollection;
-import org.lab.osm.connector.annotation.OracleField;
 import org.lab.osm.connector.annotation.OracleStruct;
 import org.lab.osm.connector.exception.OsmConnectorException;
 import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.metadata.LazyMetadataCollector;
 import org.lab.osm.connector.metadata.MetadataCollector;
 import org.lab.osm.connector.metadata.model.FieldMetadata;
 import org.lab.osm.connector.metadata.model.MappingMetadata;
 import org.lab.osm.connector.metadata.model.StructMetadata;
-import org.reflections.Reflections;
+import org.springframework.util.ClassUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import oracle.sql.StructDescriptor;
@@ -28,16 +31,20 @@ import oracle.sql.StructDescriptor;
  * Default {@link MetadataCollector} implementation.
  * 
  * Reads all entities annotated with {@link OracleStruct} for a given packages and obtains from the database the
- * information necessary for your conversion
+ * information necessary for your conversion.
+ * 
+ * When <code>parallelism</code> is greater than one the entities of a package are split in that number of partitions
+ * and each partition is loaded by its own thread using its own connection. Results are registered in the
+ * {@link MappingMetadata} from the calling thread once every partition has been loaded.
  * 
  * @author lab.cabrera@gmail.com
  * @since 1.0.0
  */
 @Slf4j
-public class DefaultMetadataCollector implements MetadataCollector {
+public class DefaultMetadataCollector extends AbstractMetadataCollector implements LazyMetadataCollector {
 
 	private final DataSource dataSource;
-	private final UnaryOperator<String> nameNormalizer = x -> x.toUpperCase().replaceAll("_", "");
+	private final int parallelism;
 
 	/**
 	 * Public constructor.
@@ -45,128 +52,147 @@ public class DefaultMetadataCollector implements MetadataCollector {
 	 * @param dataSource
 	 */
 	public DefaultMetadataCollector(DataSource dataSource) {
+		this(dataSource, 1);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param dataSource
+	 * @param parallelism Maximum number of threads (and connections) used to read the metadata of a package.
+	 */
+	public DefaultMetadataCollector(DataSource dataSource, int parallelism) {
+		if (parallelism < 1) {
+			throw new OsmConnectorException("Invalid metadata parallelism: " + parallelism);
+		}
 		this.dataSource = dataSource;
+		this.parallelism = parallelism;
 	}
 
 	/* (non-Javadoc)
 	 * @see org.lab.osm.connector.metadata.MetadataCollector#readMetadata(org.lab.osm.connector.metadata.model.MappingMetadata, java.lang.String)
 	 */
 	public void readMetadata(MappingMetadata metadata, String packageName) {
-		try (Connection connection = dataSource.getConnection()) {
-			readMetadata(metadata, packageName, connection);
+		List<Class<?>> structs = findStructClasses(packageName);
+		metadata.registerPackageName(packageName);
+		List<StructMetadata> result;
+		if (parallelism > 1 && structs.size() > 1) {
+			result = loadParallel(structs, packageName);
 		}
-		catch (SQLException ex) {
-			throw new OsmConnectorException("Error reading metadata. Package: " + packageName, ex);
+		else {
+			result = loadPartition(structs, packageName);
 		}
+		result.forEach(metadata::register);
 	}
 
-	private void readMetadata(MappingMetadata metadata, String packageName, Connection connection) throws SQLException {
-		Set<Class<?>> structs = new Reflections(packageName).getTypesAnnotatedWith(OracleStruct.class);
-		metadata.registerPackageName(packageName);
-		for (Class<?> structClass : structs) {
-			log.info("Loading class {}", structClass.getName());
-			metadata.register(loadStructData(structClass, connection));
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.LazyMetadataCollector#readStructMetadata(java.util.List)
+	 */
+	@Override
+	public List<StructMetadata> readStructMetadata(List<Class<?>> structClasses) {
+		if (structClasses.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return loadPartition(structClasses, ClassUtils.getPackageName(structClasses.get(0)));
+	}
+
+	private List<StructMetadata> loadParallel(List<Class<?>> structs, String packageName) {
+		int threads = Math.min(parallelism, structs.size());
+		log.debug("Reading metadata of package {} using {} threads", packageName, threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new CollectorThreadFactory());
+		try {
+			List<Future<List<StructMetadata>>> futures = new ArrayList<>(threads);
+			for (int i = 0; i < threads; i++) {
+				List<Class<?>> partition = new ArrayList<>();
+				for (int j = i; j < structs.size(); j += threads) {
+					partition.add(structs.get(j));
+				}
+				futures.add(executor.submit(() -> loadPartition(partition, packageName)));
+			}
+			List<StructMetadata> result = new ArrayList<>(structs.size());
+			for (Future<List<StructMetadata>> future : futures) {
+				result.addAll(future.get());
+			}
+			return result;
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new OsmConnectorException("Error reading metadata. Package: " + packageName, ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OsmConnectorException("Interrupted reading metadata. Package: " + packageName, ex);
+		}
+		finally {
+			executor.shutdownNow();
 		}
 	}
 
-	private StructMetadata loadStructData(Class<?> structClass, Connection connection) throws SQLException {
-		StructMetadata result = new StructMetadata();
-		OracleStruct annotation = structClass.getAnnotation(OracleStruct.class);
-		String structName = annotation.value();
-		mapOracleMetaData(result, structName, connection);
-		mapReflectionFields(result, structClass);
-		result.setMappedClass(structClass);
-		result.setStrucyName(annotation.value());
+	private List<StructMetadata> loadPartition(List<Class<?>> structs, String packageName) {
+		List<StructMetadata> result = new ArrayList<>(structs.size());
+		try (Connection connection = dataSource.getConnection()) {
+			for (Class<?> structClass : structs) {
+				log.info("Loading class {}", structClass.getName());
+				result.add(loadStructData(structClass, connection));
+			}
+		}
+		catch (SQLException ex) {
+			throw new OsmConnectorException("Error reading metadata. Package: " + packageName, ex);
+		}
 		return result;
 	}
 
-	private void mapOracleMetaData(StructMetadata result, String structName, Connection connection) {
+	private StructMetadata loadStructData(Class<?> structClass, Connection connection) {
+		String structName = structClass.getAnnotation(OracleStruct.class).value();
+		return createStructMetadata(structClass, readOracleFields(structName, connection));
+	}
+
+	/**
+	 * Reads the attributes of an Oracle type using its <code>StructDescriptor</code>.
+	 * 
+	 * @param structName
+	 * @param connection
+	 * @return
+	 */
+	protected List<FieldMetadata> readOracleFields(String structName, Connection connection) {
 		try {
 			StructDescriptor desc = new StructDescriptor(structName, connection);
 			ResultSetMetaData metaData = desc.getMetaData();
 			int count = metaData.getColumnCount();
+			List<FieldMetadata> fields = new ArrayList<>(count);
 			for (int i = 0; i < count; i++) {
-				FieldMetadata field = new FieldMetadata();
-				field.setMapped(false);
-				field.setOracleColumnName(metaData.getColumnName(i + 1));
-				field.setOracleTypeName(metaData.getColumnTypeName(i + 1));
-				field.setOracleColumnClassName(metaData.getColumnClassName(i + 1));
-				field.setOracleSchemaName(metaData.getSchemaName(i + 1));
-				result.registerField(field);
+				fields.add(createOracleField( //@formatter:off
+					metaData.getColumnName(i + 1),
+					metaData.getColumnTypeName(i + 1),
+					metaData.getColumnClassName(i + 1),
+					metaData.getSchemaName(i + 1))); //@formatter:on
 			}
+			return fields;
 		}
 		catch (SQLException ex) {
 			throw new OsmMappingException("Error reading Oracle metadata for Struct " + structName, ex);
 		}
 	}
 
-	private void mapReflectionFields(StructMetadata data, Class<?> structClass) {
-		for (Field field : structClass.getDeclaredFields()) {
-
-			// Skip static fields
-			if (Modifier.isStatic(field.getModifiers())) {
-				log.trace("Ignoring static field {}", field.getName());
-				continue;
-			}
-
-			String fieldName = field.getName();
-			OracleField oracleField = field.getAnnotation(OracleField.class);
-			OracleCollection oracleCollection = field.getAnnotation(OracleCollection.class);
-
-			if (oracleCollection != null) {
-				// Oracle collection binding
-				bindOracleCollection(oracleCollection.value(), field, data);
-			}
-			else {
-				// Common field binding
-				String fieldNameMatch;
-				if (oracleField != null) {
-					fieldNameMatch = nameNormalizer.apply(oracleField.value());
-				}
-				else {
-					fieldNameMatch = nameNormalizer.apply(fieldName);
-				}
-				FieldMetadata target = data.getFields().stream()
-					.filter(x -> fieldNameMatch.equals(nameNormalizer.apply(x.getOracleColumnName()))).findFirst()
-					.orElseGet(() -> null);
-				if (target != null) {
-					log.trace("Oracle bind {}", target.getOracleColumnName());
-					target.setMapped(true);
-				}
-				else {
-					target = new FieldMetadata();
-					target.setMapped(false);
-					data.registerUnmappedField(target);
-				}
-				bindFieldInfo(target, field);
-			}
-		}
-	}
+	/**
+	 * Names the collector threads.
+	 */
+	private static class CollectorThreadFactory implements ThreadFactory {
 
-	private void bindOracleCollection(String collectionName, Field field, StructMetadata data) {
-		String fieldName = field.getName();
-		String fieldNameNormalized = nameNormalizer.apply(fieldName);
-		log.trace("Mapping field '{}' as a collection '{}'", fieldName, collectionName);
+		private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
 
-		FieldMetadata fieldMetadata = data.getFields().stream()
-			.filter(x -> fieldNameNormalized.equals(nameNormalizer.apply(x.getOracleColumnName()))).findFirst()
-			.orElseGet(() -> null);
+		private final int poolNumber = POOL_NUMBER.getAndIncrement();
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
 
-		if (fieldMetadata != null) {
-			log.trace("Binded collection {} to field {}", fieldMetadata.getOracleColumnName(), fieldName);
-			fieldMetadata.setMapped(true);
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable,
+				"osm-metadata-" + poolNumber + "-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
 		}
-		else {
-			log.trace("Field {} is not present in parent oracle mapping", fieldName);
-			fieldMetadata = new FieldMetadata();
-			fieldMetadata.setMapped(false);
-			data.registerUnmappedField(fieldMetadata);
-		}
-		bindFieldInfo(fieldMetadata, field);
-	}
-
-	private void bindFieldInfo(FieldMetadata mapping, Field field) {
-		mapping.setJavaAttributeName(field.getName());
 	}
 
 }
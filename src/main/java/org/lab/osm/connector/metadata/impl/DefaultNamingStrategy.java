@@ -0,0 +1,31 @@
+package org.lab.osm.connector.metadata.impl;
+
+import org.lab.osm.connector.metadata.NamingStrategy;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+
+/**
+ * Default {@link NamingStrategy} comparing names ignoring case and underscores (<code>CUSTOMER_NAME</code>,
+ * <code>customerName</code> and <code>CustomerName</code> are bound).
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class DefaultNamingStrategy implements NamingStrategy {
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.NamingStrategy#oracleName(java.lang.String)
+	 */
+	@Override
+	public String oracleName(String columnName) {
+		return StructMetadata.normalizeColumnName(columnName);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.NamingStrategy#javaName(java.lang.String)
+	 */
+	@Override
+	public String javaName(String fieldName) {
+		return StructMetadata.normalizeColumnName(fieldName);
+	}
+
+}
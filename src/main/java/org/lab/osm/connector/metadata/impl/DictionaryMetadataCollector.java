@@ -0,0 +1,317 @@
+package org.lab.osm.connector.metadata.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.metadata.LazyMetadataCollector;
+import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.springframework.util.ClassUtils;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link MetadataCollector} reading the Oracle type attributes from the data dictionary.
+ *
+ * Instead of creating a <code>StructDescriptor</code> per entity (one round trip each) the attributes of every entity
+ * of a package are read with set-based queries against <code>ALL_TYPE_ATTRS</code> and <code>ALL_COLL_TYPES</code>,
+ * so the number of queries does not depend on the size of the model (types are queried in blocks of
+ * {@value #MAX_IN_LIST_SIZE}).
+ *
+ * Attribute column class names are resolved with the same values reported by the Oracle driver metadata. Unqualified
+ * type names not found in the current schema are resolved through <code>ALL_SYNONYMS</code> (a private synonym of the
+ * current schema first, then a public synonym), as <code>StructDescriptor</code> does. Synonyms of synonyms are not
+ * followed.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class DictionaryMetadataCollector extends AbstractMetadataCollector implements LazyMetadataCollector {
+
+	/**
+	 * Maximum number of expressions of an Oracle IN list.
+	 */
+	static final int MAX_IN_LIST_SIZE = 1000;
+
+	static final String SQL_CURRENT_SCHEMA = "SELECT SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') FROM DUAL";
+
+	static final String SQL_TYPE_ATTRS = "SELECT TYPE_NAME, ATTR_NAME, ATTR_TYPE_OWNER, ATTR_TYPE_NAME "
+		+ "FROM ALL_TYPE_ATTRS WHERE OWNER = ? AND TYPE_NAME IN (%s) ORDER BY TYPE_NAME, ATTR_NO";
+
+	static final String SQL_COLL_TYPES = "SELECT TYPE_NAME FROM ALL_COLL_TYPES WHERE OWNER = ? AND TYPE_NAME IN (%s)";
+
+	static final String SQL_SYNONYMS = "SELECT SYNONYM_NAME, TABLE_OWNER, TABLE_NAME "
+		+ "FROM ALL_SYNONYMS WHERE OWNER = ? AND SYNONYM_NAME IN (%s)";
+
+	private static final String PUBLIC_OWNER = "PUBLIC";
+
+	private static final String ORACLE_ARRAY_CLASS_NAME = "oracle.jdbc.OracleArray";
+	private static final String ORACLE_STRUCT_CLASS_NAME = "oracle.jdbc.OracleStruct";
+	private static final String DEFAULT_CLASS_NAME = Object.class.getName();
+	private static final Map<String, String> BUILTIN_CLASS_NAMES;
+
+	static {
+		Map<String, String> map = new HashMap<>();
+		map.put("CHAR", String.class.getName());
+		map.put("NCHAR", String.class.getName());
+		map.put("VARCHAR2", String.class.getName());
+		map.put("NVARCHAR2", String.class.getName());
+		map.put("NUMBER", "java.math.BigDecimal");
+		map.put("INTEGER", "java.math.BigDecimal");
+		map.put("DECIMAL", "java.math.BigDecimal");
+		map.put("FLOAT", "java.math.BigDecimal");
+		map.put("BINARY_FLOAT", Float.class.getName());
+		map.put("BINARY_DOUBLE", Double.class.getName());
+		map.put("DATE", "java.sql.Timestamp");
+		map.put("TIMESTAMP", "oracle.sql.TIMESTAMP");
+		map.put("TIMESTAMP WITH TIME ZONE", "oracle.sql.TIMESTAMPTZ");
+		map.put("TIMESTAMP WITH LOCAL TIME ZONE", "oracle.sql.TIMESTAMPLTZ");
+		map.put("RAW", "[B");
+		map.put("CLOB", "oracle.jdbc.OracleClob");
+		map.put("NCLOB", "oracle.jdbc.OracleNClob");
+		map.put("BLOB", "oracle.jdbc.OracleBlob");
+		BUILTIN_CLASS_NAMES = Collections.unmodifiableMap(map);
+	}
+
+	private final DataSource dataSource;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param dataSource
+	 */
+	public DictionaryMetadataCollector(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.MetadataCollector#readMetadata(org.lab.osm.connector.metadata.model.MappingMetadata, java.lang.String)
+	 */
+	@Override
+	public void readMetadata(MappingMetadata metadata, String packageName) {
+		List<Class<?>> structs = findStructClasses(packageName);
+		metadata.registerPackageName(packageName);
+		if (!structs.isEmpty()) {
+			readStructs(structs, packageName).forEach(metadata::register);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.LazyMetadataCollector#readStructMetadata(java.util.List)
+	 */
+	@Override
+	public List<StructMetadata> readStructMetadata(List<Class<?>> structClasses) {
+		if (structClasses.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return readStructs(structClasses, ClassUtils.getPackageName(structClasses.get(0)));
+	}
+
+	private List<StructMetadata> readStructs(List<Class<?>> structs, String packageName) {
+		try (Connection connection = dataSource.getConnection()) {
+			String currentSchema = readCurrentSchema(connection);
+			Map<Class<?>, TypeName> structTypes = new LinkedHashMap<>();
+			for (Class<?> structClass : structs) {
+				structTypes.put(structClass,
+					TypeName.parse(structClass.getAnnotation(OracleStruct.class).value(), currentSchema));
+			}
+			Map<TypeName, List<AttributeRow>> attributes = readTypeAttributes(connection,
+				new LinkedHashSet<>(structTypes.values()));
+			Set<TypeName> unresolved = structs.stream() //@formatter:off
+				.filter(x -> x.getAnnotation(OracleStruct.class).value().indexOf('.') < 0)
+				.map(structTypes::get)
+				.filter(x -> !attributes.containsKey(x))
+				.collect(Collectors.toCollection(LinkedHashSet::new)); //@formatter:on
+			if (!unresolved.isEmpty()) {
+				Map<TypeName, TypeName> synonyms = readSynonyms(connection, unresolved, currentSchema);
+				structTypes.replaceAll((structClass, typeName) -> synonyms.getOrDefault(typeName, typeName));
+				attributes.putAll(readTypeAttributes(connection, new LinkedHashSet<>(synonyms.values())));
+			}
+			Set<TypeName> collectionTypes = readCollectionTypes(connection, attributes.values().stream() //@formatter:off
+				.flatMap(List::stream)
+				.filter(AttributeRow::isUserDefined)
+				.map(AttributeRow::getAttributeType)
+				.collect(Collectors.toCollection(LinkedHashSet::new))); //@formatter:on
+			List<StructMetadata> result = new ArrayList<>(structTypes.size());
+			for (Map.Entry<Class<?>, TypeName> entry : structTypes.entrySet()) {
+				Class<?> structClass = entry.getKey();
+				List<AttributeRow> rows = attributes.get(entry.getValue());
+				if (rows == null) {
+					throw new OsmMappingException("Error reading Oracle metadata for Struct " + entry.getValue());
+				}
+				log.info("Loading class {}", structClass.getName());
+				List<FieldMetadata> fields = rows.stream() //@formatter:off
+					.map(x -> toOracleField(x, collectionTypes))
+					.collect(Collectors.toList()); //@formatter:on
+				result.add(createStructMetadata(structClass, fields));
+			}
+			return result;
+		}
+		catch (SQLException ex) {
+			throw new OsmConnectorException("Error reading metadata. Package: " + packageName, ex);
+		}
+	}
+
+	private String readCurrentSchema(Connection connection) throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement(SQL_CURRENT_SCHEMA);
+			ResultSet rs = ps.executeQuery()) {
+			if (!rs.next()) {
+				throw new OsmConnectorException("Cant resolve current schema");
+			}
+			return rs.getString(1);
+		}
+	}
+
+	private Map<TypeName, List<AttributeRow>> readTypeAttributes(Connection connection, Collection<TypeName> types)
+		throws SQLException {
+		Map<TypeName, List<AttributeRow>> result = new HashMap<>();
+		query(connection, SQL_TYPE_ATTRS, types, (owner, rs) -> {
+			TypeName typeName = new TypeName(owner, rs.getString("TYPE_NAME"));
+			String attributeTypeOwner = rs.getString("ATTR_TYPE_OWNER");
+			TypeName attributeType = new TypeName(attributeTypeOwner, rs.getString("ATTR_TYPE_NAME"));
+			result.computeIfAbsent(typeName, x -> new ArrayList<>())
+				.add(new AttributeRow(rs.getString("ATTR_NAME"), attributeType));
+		});
+		log.debug("Read attributes of {} types", result.size());
+		return result;
+	}
+
+	/**
+	 * Resolves the types referenced by the private (current schema) or public synonyms of the given type names.
+	 */
+	private Map<TypeName, TypeName> readSynonyms(Connection connection, Collection<TypeName> types,
+		String currentSchema) throws SQLException {
+		Map<TypeName, TypeName> result = new HashMap<>();
+		query(connection, SQL_SYNONYMS, types, (owner, rs) -> result.put(new TypeName(owner, rs.getString(1)),
+			new TypeName(rs.getString(2), rs.getString(3))));
+		List<TypeName> publicNames = types.stream() //@formatter:off
+			.filter(x -> !result.containsKey(x))
+			.map(x -> new TypeName(PUBLIC_OWNER, x.getName()))
+			.collect(Collectors.toList()); //@formatter:on
+		if (!publicNames.isEmpty()) {
+			query(connection, SQL_SYNONYMS, publicNames, (owner, rs) -> result.put(
+				new TypeName(currentSchema, rs.getString(1)), new TypeName(rs.getString(2), rs.getString(3))));
+		}
+		log.debug("Resolved {} synonyms of {} types", result.size(), types.size());
+		return result;
+	}
+
+	private Set<TypeName> readCollectionTypes(Connection connection, Collection<TypeName> types) throws SQLException {
+		Set<TypeName> result = new HashSet<>();
+		query(connection, SQL_COLL_TYPES, types, (owner, rs) -> result.add(new TypeName(owner, rs.getString(1))));
+		return result;
+	}
+
+	/**
+	 * Executes a query for each owner (and block of {@value #MAX_IN_LIST_SIZE} type names).
+	 */
+	private void query(Connection connection, String sqlTemplate, Collection<TypeName> types, OwnerRowHandler handler)
+		throws SQLException {
+		Map<String, List<String>> namesByOwner = types.stream().collect(Collectors.groupingBy(TypeName::getOwner,
+			LinkedHashMap::new, Collectors.mapping(TypeName::getName, Collectors.toList())));
+		for (Map.Entry<String, List<String>> entry : namesByOwner.entrySet()) {
+			String owner = entry.getKey();
+			Iterator<String> names = entry.getValue().iterator();
+			while (names.hasNext()) {
+				List<String> block = new ArrayList<>(MAX_IN_LIST_SIZE);
+				while (names.hasNext() && block.size() < MAX_IN_LIST_SIZE) {
+					block.add(names.next());
+				}
+				String placeholders = String.join(", ", Collections.nCopies(block.size(), "?"));
+				try (PreparedStatement ps = connection.prepareStatement(String.format(sqlTemplate, placeholders))) {
+					ps.setString(1, owner);
+					for (int i = 0; i < block.size(); i++) {
+						ps.setString(i + 2, block.get(i));
+					}
+					try (ResultSet rs = ps.executeQuery()) {
+						while (rs.next()) {
+							handler.processRow(owner, rs);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private FieldMetadata toOracleField(AttributeRow row, Set<TypeName> collectionTypes) {
+		TypeName attributeType = row.getAttributeType();
+		String typeName;
+		String className;
+		if (row.isUserDefined()) {
+			typeName = attributeType.toString();
+			className = collectionTypes.contains(attributeType) ? ORACLE_ARRAY_CLASS_NAME : ORACLE_STRUCT_CLASS_NAME;
+		}
+		else {
+			typeName = attributeType.getName().replaceAll("\\(\\d+(,\\d+)?\\)", StringUtils.EMPTY);
+			className = BUILTIN_CLASS_NAMES.getOrDefault(typeName, DEFAULT_CLASS_NAME);
+		}
+		String schemaName = StringUtils.defaultString(attributeType.getOwner());
+		return createOracleField(row.getName(), typeName, className, schemaName);
+	}
+
+	@FunctionalInterface
+	private interface OwnerRowHandler {
+		void processRow(String owner, ResultSet rs) throws SQLException;
+	}
+
+	/**
+	 * Oracle type name qualified by its owner.
+	 */
+	@Value
+	static class TypeName {
+
+		private final String owner;
+		private final String name;
+
+		static TypeName parse(String value, String defaultOwner) {
+			String name = value.trim().toUpperCase();
+			int index = name.indexOf('.');
+			return index < 0 ? new TypeName(defaultOwner, name)
+				: new TypeName(name.substring(0, index), name.substring(index + 1));
+		}
+
+		@Override
+		public String toString() {
+			return owner != null ? owner + "." + name : name;
+		}
+	}
+
+	/**
+	 * Row of <code>ALL_TYPE_ATTRS</code>.
+	 */
+	@Value
+	private static class AttributeRow {
+
+		private final String name;
+		private final TypeName attributeType;
+
+		boolean isUserDefined() {
+			return attributeType.getOwner() != null;
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package org.lab.osm.connector.metadata.impl;
+
+import org.lab.osm.connector.metadata.NamingStrategy;
+
+/**
+ * {@link NamingStrategy} binding only equal names. Java fields must have the exact Oracle attribute name (usually
+ * defined using <code>OracleField</code> annotations).
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class ExactNamingStrategy implements NamingStrategy {
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.NamingStrategy#oracleName(java.lang.String)
+	 */
+	@Override
+	public String oracleName(String columnName) {
+		return columnName;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.NamingStrategy#javaName(java.lang.String)
+	 */
+	@Override
+	public String javaName(String fieldName) {
+		return fieldName;
+	}
+
+}
@@ -2,6 +2,10 @@ package org.lab.osm.connector.metadata.impl;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.sql.DataSource;
 
@@ -9,6 +13,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.lab.osm.connector.exception.OsmConnectorException;
 import org.lab.osm.connector.metadata.model.MappingMetadata;
 import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.springframework.util.ClassUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -25,6 +30,11 @@ public class JsonMetadataCollector extends DefaultMetadataCollector {
 	private final String filePrefix;
 	private final ObjectMapper objectMapper;
 
+	/**
+	 * Metadata files read by package (lazy loading).
+	 */
+	private final ConcurrentMap<String, MappingMetadata> fileMetadata = new ConcurrentHashMap<>();
+
 	/**
 	 * Public constructor.
 	 * 
@@ -35,7 +45,21 @@ public class JsonMetadataCollector extends DefaultMetadataCollector {
 	 */
 	public JsonMetadataCollector(DataSource dataSource, ObjectMapper objectMapper, String jsonFolder,
 		String filePrefix) {
-		super(dataSource);
+		this(dataSource, objectMapper, jsonFolder, filePrefix, 1);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param dataSource
+	 * @param objectMapper
+	 * @param jsonFolder
+	 * @param filePrefix
+	 * @param parallelism Maximum number of threads used to read the metadata from the database.
+	 */
+	public JsonMetadataCollector(DataSource dataSource, ObjectMapper objectMapper, String jsonFolder,
+		String filePrefix, int parallelism) {
+		super(dataSource, parallelism);
 		this.folder = new File(jsonFolder);
 		this.filePrefix = filePrefix;
 		this.objectMapper = objectMapper;
@@ -63,13 +87,49 @@ public class JsonMetadataCollector extends DefaultMetadataCollector {
 		}
 	}
 
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.impl.DefaultMetadataCollector#readStructMetadata(java.util.List)
+	 */
+	@Override
+	public List<StructMetadata> readStructMetadata(List<Class<?>> structClasses) {
+		List<StructMetadata> result = new ArrayList<>(structClasses.size());
+		List<Class<?>> missing = new ArrayList<>();
+		for (Class<?> structClass : structClasses) {
+			String packageName = ClassUtils.getPackageName(structClass);
+			MappingMetadata metadata = fileMetadata.computeIfAbsent(packageName, this::readPackageFile);
+			StructMetadata struct = metadata.getStruct(structClass);
+			if (struct != null) {
+				result.add(struct);
+			}
+			else {
+				missing.add(structClass);
+			}
+		}
+		if (!missing.isEmpty()) {
+			// Classes not present in the metadata files are read from the database
+			result.addAll(super.readStructMetadata(missing));
+		}
+		return result;
+	}
+
+	private MappingMetadata readPackageFile(String packageName) {
+		MappingMetadata metadata = new MappingMetadata();
+		File file = getJsonFile(packageName);
+		if (file.exists()) {
+			readMetadataFromFile(metadata, packageName, file);
+		}
+		return metadata;
+	}
+
 	private void readMetadataFromFile(MappingMetadata metadata, String packageName, File file) {
 		try {
 			try (FileInputStream in = new FileInputStream(file)) {
 				MappingMetadata readed = objectMapper.readValue(in, MappingMetadata.class);
-				metadata.getPackageNames().add(packageName);
+				metadata.registerPackageName(packageName);
 				for (StructMetadata i : readed.getStructs()) {
-					metadata.getStructs().add(i);
+					if (!metadata.isDefinedStruct(i.getMappedClass())) {
+						metadata.register(i);
+					}
 				}
 			}
 		}
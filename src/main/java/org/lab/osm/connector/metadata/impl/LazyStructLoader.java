@@ -0,0 +1,90 @@
+package org.lab.osm.connector.metadata.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.metadata.LazyMetadataCollector;
+import org.lab.osm.connector.metadata.model.MappingMetadata.StructLoader;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link StructLoader} reading the metadata of an entity and of every nested entity (struct fields and
+ * {@link OracleCollection} elements) not loaded yet in a single {@link LazyMetadataCollector} request.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class LazyStructLoader implements StructLoader {
+
+	private final LazyMetadataCollector metadataCollector;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param metadataCollector
+	 */
+	public LazyStructLoader(@NonNull LazyMetadataCollector metadataCollector) {
+		this.metadataCollector = metadataCollector;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.model.MappingMetadata.StructLoader#load(java.lang.Class, java.util.function.Predicate)
+	 */
+	@Override
+	public List<StructMetadata> load(Class<?> structClass, Predicate<Class<?>> loaded) {
+		Set<Class<?>> pending = new LinkedHashSet<>();
+		Deque<Class<?>> queue = new ArrayDeque<>();
+		pending.add(structClass);
+		queue.add(structClass);
+		while (!queue.isEmpty()) {
+			for (Class<?> dependency : findDependencies(queue.poll())) {
+				if (!loaded.test(dependency) && pending.add(dependency)) {
+					queue.add(dependency);
+				}
+			}
+		}
+		log.debug("Loading metadata of {} (and {} dependencies)", structClass.getName(), pending.size() - 1);
+		return metadataCollector.readStructMetadata(new ArrayList<>(pending));
+	}
+
+	private List<Class<?>> findDependencies(Class<?> structClass) {
+		List<Class<?>> result = new ArrayList<>();
+		for (Field field : structClass.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers())) {
+				continue;
+			}
+			Class<?> type = field.getType();
+			if (field.isAnnotationPresent(OracleCollection.class)) {
+				type = resolveElementType(field.getGenericType());
+			}
+			if (type != null && type.isAnnotationPresent(OracleStruct.class)) {
+				result.add(type);
+			}
+		}
+		return result;
+	}
+
+	private Class<?> resolveElementType(Type genericType) {
+		if (genericType instanceof ParameterizedType) {
+			Type element = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+			return element instanceof Class ? (Class<?>) element : null;
+		}
+		return null;
+	}
+
+}
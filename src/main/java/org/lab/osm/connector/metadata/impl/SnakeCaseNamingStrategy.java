@@ -0,0 +1,42 @@
+package org.lab.osm.connector.metadata.impl;
+
+import org.lab.osm.connector.metadata.NamingStrategy;
+
+/**
+ * {@link NamingStrategy} binding snake case Oracle attributes with camel case java fields (<code>CUSTOMER_NAME</code>
+ * is bound to <code>customerName</code> but not to <code>customername</code>).
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class SnakeCaseNamingStrategy implements NamingStrategy {
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.NamingStrategy#oracleName(java.lang.String)
+	 */
+	@Override
+	public String oracleName(String columnName) {
+		StringBuilder sb = new StringBuilder(columnName.length());
+		boolean upper = false;
+		for (int i = 0; i < columnName.length(); i++) {
+			char c = columnName.charAt(i);
+			if (c == '_') {
+				upper = sb.length() > 0;
+			}
+			else {
+				sb.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+				upper = false;
+			}
+		}
+		return sb.toString();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metadata.NamingStrategy#javaName(java.lang.String)
+	 */
+	@Override
+	public String javaName(String fieldName) {
+		return fieldName;
+	}
+
+}
@@ -22,5 +22,10 @@ public class FieldMetadata {
 	private String oracleColumnClassName;
 	private String oracleSchemaName;
 
+	/**
+	 * Name translated by the <code>NamingStrategy</code> used to bind the Oracle attribute with the java field.
+	 */
+	private String normalizedName;
+
 	private boolean mapped;
 }
@@ -1,53 +1,240 @@
 package org.lab.osm.connector.metadata.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
+import org.lab.osm.connector.annotation.OracleStruct;
 import org.lab.osm.connector.exception.OsmMappingException;
 
-import lombok.Getter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.NonNull;
 
 /**
  * Entity to store all the information of the mapped objects of our Oracle model.
- * 
+ *
+ * Structs are indexed by mapped class and by Oracle struct name. Registrations publish a new immutable snapshot of
+ * the indexes, so lookups never lock. Once the connector has been initialized the metadata is frozen and no more
+ * structs can be registered.
+ *
+ * When a {@link StructLoader} is defined the metadata is populated lazily: the first lookup of an unknown class
+ * annotated with {@link OracleStruct} loads it (with its nested dependencies) and publishes a new snapshot. Lookups by
+ * Oracle struct name ({@link #getStruct(String)}, {@link #isDefinedStruct(String)}) and {@link #getStructs()} never
+ * trigger a load (the class of a struct name is unknown until it is loaded), so they only see the structs already
+ * loaded by class.
+ *
  * @author lab.cabrera@gmail.com
  * @since 1.0.0
  */
-@Getter
 public class MappingMetadata {
 
-	private final List<StructMetadata> structs;
 	private final List<String> packageNames;
 
+	private volatile Snapshot snapshot;
+
+	private volatile boolean frozen;
+
+	private volatile StructLoader structLoader;
+
 	/**
 	 * Public constructor.
 	 */
 	public MappingMetadata() {
-		structs = new ArrayList<>();
-		packageNames = new ArrayList<>();
+		packageNames = new CopyOnWriteArrayList<>();
+		snapshot = new Snapshot();
+	}
+
+	/**
+	 * Registered (or already loaded) structs (read only).
+	 *
+	 * @return
+	 */
+	public List<StructMetadata> getStructs() {
+		return snapshot.structs;
+	}
+
+	/**
+	 * Scanned model packages (read only).
+	 *
+	 * @return
+	 */
+	public List<String> getPackageNames() {
+		return Collections.unmodifiableList(packageNames);
+	}
+
+	/**
+	 * Gets the struct metadata of a given mapped class.
+	 *
+	 * @param javaType
+	 * @return Struct metadata or <code>null</code> if the class is not mapped.
+	 */
+	public StructMetadata getStruct(@NonNull Class<?> javaType) {
+		StructMetadata result = snapshot.byClass.get(javaType);
+		if (result == null && structLoader != null && javaType.isAnnotationPresent(OracleStruct.class)) {
+			result = load(javaType);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the struct metadata of a given Oracle struct name. When the metadata is loaded lazily only the structs
+	 * already loaded by class are found.
+	 *
+	 * @param structName
+	 * @return Struct metadata or <code>null</code> if the struct is not mapped (or not loaded yet).
+	 */
+	public StructMetadata getStruct(@NonNull String structName) {
+		return snapshot.byName.get(structName);
+	}
+
+	/**
+	 * Gets the struct metadata of a given mapped class.
+	 *
+	 * @param javaType
+	 * @return
+	 * @throws OsmMappingException if the class is not mapped.
+	 */
+	public StructMetadata getRequiredStruct(@NonNull Class<?> javaType) {
+		StructMetadata result = getStruct(javaType);
+		if (result == null) {
+			throw new OsmMappingException("Missing struct mapping data for class " + javaType.getName());
+		}
+		return result;
 	}
 
-	public void register(@NonNull StructMetadata data) {
-		if (isDefinedStruct(data.getStrucyName())) {
+	public synchronized void register(@NonNull StructMetadata data) {
+		if (frozen) {
+			throw new OsmMappingException("Mapping metadata is frozen. Can not register " + data.getStrucyName());
+		}
+		else if (isDefinedStruct(data.getStrucyName())) {
 			throw new OsmMappingException("Struct name " + data.getStrucyName() + " is already defined");
 		}
-		else if (isDefinedStruct(data.getMappedClass())) {
-			throw new OsmMappingException("Struct class " + data.getClass().getName() + " is already defined");
+		else if (snapshot.byClass.containsKey(data.getMappedClass())) {
+			throw new OsmMappingException("Struct class " + data.getMappedClass().getName() + " is already defined");
 		}
-		structs.add(data);
+		snapshot = new Snapshot(snapshot, data);
 	}
 
 	public void registerPackageName(@NonNull String packageName) {
 		packageNames.add(packageName);
 	}
 
+	/**
+	 * Checks if a struct name is mapped. As {@link #getStruct(String)}, it does not trigger a lazy load.
+	 *
+	 * @param structName
+	 * @return
+	 */
 	public boolean isDefinedStruct(@NonNull String structName) {
-		return structs.stream().filter(x -> structName.equals(x.getStrucyName())).count() > 0;
+		return snapshot.byName.containsKey(structName);
 	}
 
+	/**
+	 * Checks if a class is mapped, loading its metadata if it has not been loaded yet.
+	 *
+	 * @param javaType
+	 * @return
+	 */
 	public boolean isDefinedStruct(@NonNull Class<?> javaType) {
-		return structs.stream().filter(x -> javaType.equals(x.getMappedClass())).count() > 0;
+		return getStruct(javaType) != null;
+	}
+
+	/**
+	 * Prevents further registrations.
+	 */
+	public synchronized void freeze() {
+		frozen = true;
+	}
+
+	@JsonIgnore
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Enables the lazy loading of the structs not registered yet.
+	 *
+	 * @param structLoader
+	 */
+	@JsonIgnore
+	public void setStructLoader(StructLoader structLoader) {
+		this.structLoader = structLoader;
+	}
+
+	private synchronized StructMetadata load(Class<?> javaType) {
+		StructMetadata result = snapshot.byClass.get(javaType);
+		if (result != null) {
+			return result;
+		}
+		Map<Class<?>, StructMetadata> loaded = snapshot.byClass;
+		Snapshot current = snapshot;
+		for (StructMetadata data : structLoader.load(javaType, loaded::containsKey)) {
+			if (!current.byClass.containsKey(data.getMappedClass())) {
+				current = new Snapshot(current, data);
+			}
+		}
+		snapshot = current;
+		return current.byClass.get(javaType);
+	}
+
+	@JsonProperty("structs")
+	private void setStructs(List<StructMetadata> structs) {
+		structs.forEach(this::register);
+	}
+
+	@JsonProperty("packageNames")
+	private void setPackageNames(List<String> packageNames) {
+		this.packageNames.addAll(packageNames);
+	}
+
+	/**
+	 * Loads the metadata of a struct on demand.
+	 */
+	@FunctionalInterface
+	public interface StructLoader {
+
+		/**
+		 * Reads the metadata of a struct and the structs it depends on.
+		 *
+		 * @param structClass Java entity annotated with {@link OracleStruct}.
+		 * @param loaded Checks if a struct has already been loaded (its metadata is not required).
+		 * @return
+		 */
+		List<StructMetadata> load(Class<?> structClass, Predicate<Class<?>> loaded);
+	}
+
+	/**
+	 * Immutable view of the registered structs.
+	 */
+	private static class Snapshot {
+
+		private final List<StructMetadata> structs;
+		private final Map<Class<?>, StructMetadata> byClass;
+		private final Map<String, StructMetadata> byName;
+
+		Snapshot() {
+			structs = Collections.emptyList();
+			byClass = Collections.emptyMap();
+			byName = Collections.emptyMap();
+		}
+
+		Snapshot(Snapshot previous, StructMetadata data) {
+			List<StructMetadata> structList = new ArrayList<>(previous.structs);
+			Map<Class<?>, StructMetadata> classMap = new HashMap<>(previous.byClass);
+			Map<String, StructMetadata> nameMap = new HashMap<>(previous.byName);
+			structList.add(data);
+			classMap.put(data.getMappedClass(), data);
+			nameMap.put(data.getStrucyName(), data);
+			structs = Collections.unmodifiableList(structList);
+			byClass = Collections.unmodifiableMap(classMap);
+			byName = Collections.unmodifiableMap(nameMap);
+		}
 	}
 
 }
@@ -1,14 +1,18 @@
 package org.lab.osm.connector.metadata.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * Represents the metadata of an Oracle data structure.
- * 
+ *
  * @author lab.cabrera@gmail.com
  * @since 1.0.0
  */
@@ -36,20 +40,82 @@ public class StructMetadata {
 	 */
 	private final List<FieldMetadata> unmappedFields;
 
+	/**
+	 * Fields indexed by normalized Oracle column name.
+	 */
+	@Getter(lombok.AccessLevel.NONE)
+	private final Map<String, FieldMetadata> fieldIndex;
+
+	/**
+	 * Fields indexed by Oracle column name.
+	 */
+	@Getter(lombok.AccessLevel.NONE)
+	private final Map<String, FieldMetadata> columnIndex;
+
 	/**
 	 * Public constructor.
 	 */
 	public StructMetadata() {
 		fields = new ArrayList<>();
 		unmappedFields = new ArrayList<>();
+		fieldIndex = new HashMap<>();
+		columnIndex = new HashMap<>();
 	}
 
 	public void registerField(FieldMetadata field) {
 		fields.add(field);
+		if (field.getOracleColumnName() != null) {
+			columnIndex.putIfAbsent(field.getOracleColumnName(), field);
+			String normalizedName = field.getNormalizedName() != null ? field.getNormalizedName()
+				: normalizeColumnName(field.getOracleColumnName());
+			fieldIndex.putIfAbsent(normalizedName, field);
+		}
 	}
 
 	public void registerUnmappedField(FieldMetadata field) {
 		unmappedFields.add(field);
 	}
 
+	/**
+	 * Finds the field of a given Oracle column name (exact match, no normalization).
+	 *
+	 * @param columnName
+	 * @return Field metadata or <code>null</code> if the column is not defined.
+	 */
+	public FieldMetadata findColumn(String columnName) {
+		return columnName != null ? columnIndex.get(columnName) : null;
+	}
+
+	/**
+	 * Finds the field whose name has been translated to the given value by the <code>NamingStrategy</code>.
+	 *
+	 * @param normalizedName
+	 * @return Field metadata or <code>null</code> if no field is bound to the given name.
+	 */
+	public FieldMetadata findNormalizedField(String normalizedName) {
+		return normalizedName != null ? fieldIndex.get(normalizedName) : null;
+	}
+
+	/**
+	 * Normalizes a column name ignoring case and underscores.
+	 *
+	 * @param name
+	 * @return
+	 */
+	public static String normalizeColumnName(String name) {
+		StringBuilder sb = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c != '_') {
+				sb.append(Character.toUpperCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	@JsonProperty("fields")
+	private void setFieldList(List<FieldMetadata> fields) {
+		fields.forEach(this::registerField);
+	}
+
 }
@@ -0,0 +1,150 @@
+package org.lab.osm.connector.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+
+/**
+ * {@link OsmMetrics} publishing to a Micrometer <code>MeterRegistry</code>.
+ *
+ * Meters (tagged by <code>owner</code>, <code>package</code> and <code>procedure</code>):
+ * <ul>
+ * <li><code>osm.procedure.invocation</code>: invocation time, also tagged by <code>outcome</code>.</li>
+ * <li><code>osm.procedure.binding</code>: conversion of input STRUCT / ARRAY values.</li>
+ * <li><code>osm.procedure.execution</code>: database time (invocation time minus binding and decoding).</li>
+ * <li><code>osm.procedure.decoding</code>: conversion of output STRUCT / ARRAY values.</li>
+ * <li><code>osm.mapping.collection.size</code>: mapped collection sizes, also tagged by <code>type</code>.</li>
+ * </ul>
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class MicrometerOsmMetrics implements OsmMetrics {
+
+	public static final String PROCEDURE_INVOCATION = "osm.procedure.invocation";
+	public static final String PROCEDURE_BINDING = "osm.procedure.binding";
+	public static final String PROCEDURE_EXECUTION = "osm.procedure.execution";
+	public static final String PROCEDURE_DECODING = "osm.procedure.decoding";
+	public static final String COLLECTION_SIZE = "osm.mapping.collection.size";
+
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+	private final ConcurrentMap<Tags, ProcedureMetrics> procedures;
+
+	/**
+	 * Public constructor.
+	 *
+	 * @param registry
+	 */
+	public MicrometerOsmMetrics(@NonNull MeterRegistry registry) {
+		this.registry = registry;
+		this.procedures = new ConcurrentHashMap<>();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metrics.OsmMetrics#procedureMetrics(java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public ProcedureMetrics procedureMetrics(String owner, String oraclePackage, String name) {
+		Tags tags = Tags.of( //@formatter:off
+			"owner", StringUtils.defaultIfBlank(owner, NONE),
+			"package", StringUtils.defaultIfBlank(oraclePackage, NONE),
+			"procedure", name); //@formatter:on
+		return procedures.computeIfAbsent(tags, MicrometerProcedureMetrics::new);
+	}
+
+	private Timer timer(String name, Tags tags) {
+		return Timer.builder(name).tags(tags).publishPercentiles(PERCENTILES).register(registry);
+	}
+
+	private class MicrometerProcedureMetrics implements ProcedureMetrics {
+
+		private final Tags tags;
+		private final Timer successTimer;
+		private final Timer errorTimer;
+		private final Timer bindingTimer;
+		private final Timer executionTimer;
+		private final Timer decodingTimer;
+		private final ConcurrentMap<String, DistributionSummary> collectionSizes;
+		private final ThreadLocal<Invocation> invocations;
+
+		MicrometerProcedureMetrics(Tags tags) {
+			this.tags = tags;
+			this.successTimer = timer(PROCEDURE_INVOCATION, tags.and("outcome", "success"));
+			this.errorTimer = timer(PROCEDURE_INVOCATION, tags.and("outcome", "error"));
+			this.bindingTimer = timer(PROCEDURE_BINDING, tags);
+			this.executionTimer = timer(PROCEDURE_EXECUTION, tags);
+			this.decodingTimer = timer(PROCEDURE_DECODING, tags);
+			this.collectionSizes = new ConcurrentHashMap<>();
+			this.invocations = ThreadLocal.withInitial(Invocation::new);
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		public void start() {
+			Invocation invocation = invocations.get();
+			invocation.start = System.nanoTime();
+			invocation.binding = 0L;
+			invocation.decoding = 0L;
+		}
+
+		@Override
+		public void stop(boolean success) {
+			Invocation invocation = invocations.get();
+			long total = System.nanoTime() - invocation.start;
+			(success ? successTimer : errorTimer).record(total, TimeUnit.NANOSECONDS);
+			executionTimer.record(Math.max(0L, total - invocation.binding - invocation.decoding),
+				TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void recordBinding(long nanos) {
+			bindingTimer.record(nanos, TimeUnit.NANOSECONDS);
+			invocations.get().binding += nanos;
+		}
+
+		@Override
+		public void recordDecoding(long nanos) {
+			decodingTimer.record(nanos, TimeUnit.NANOSECONDS);
+			invocations.get().decoding += nanos;
+		}
+
+		@Override
+		public void recordCollectionSize(String typeName, int size) {
+			DistributionSummary summary = collectionSizes.get(typeName);
+			if (summary == null) {
+				summary = collectionSizes.computeIfAbsent(typeName, x -> DistributionSummary //@formatter:off
+					.builder(COLLECTION_SIZE)
+					.baseUnit("elements")
+					.tags(tags.and("type", StringUtils.defaultIfBlank(x, NONE)))
+					.publishPercentiles(PERCENTILES)
+					.register(registry)); //@formatter:on
+			}
+			summary.record(size);
+		}
+	}
+
+	/**
+	 * Invocation state of a thread.
+	 */
+	private static class Invocation {
+		private long start;
+		private long binding;
+		private long decoding;
+	}
+
+}
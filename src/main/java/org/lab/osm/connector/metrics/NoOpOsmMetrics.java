@@ -0,0 +1,51 @@
+package org.lab.osm.connector.metrics;
+
+/**
+ * {@link OsmMetrics} that does not record anything.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public class NoOpOsmMetrics implements OsmMetrics {
+
+	public static final NoOpOsmMetrics INSTANCE = new NoOpOsmMetrics();
+
+	public static final ProcedureMetrics PROCEDURE = new NoOpProcedureMetrics();
+
+	/* (non-Javadoc)
+	 * @see org.lab.osm.connector.metrics.OsmMetrics#procedureMetrics(java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public ProcedureMetrics procedureMetrics(String owner, String oraclePackage, String name) {
+		return PROCEDURE;
+	}
+
+	private static class NoOpProcedureMetrics implements ProcedureMetrics {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void start() {
+		}
+
+		@Override
+		public void stop(boolean success) {
+		}
+
+		@Override
+		public void recordBinding(long nanos) {
+		}
+
+		@Override
+		public void recordDecoding(long nanos) {
+		}
+
+		@Override
+		public void recordCollectionSize(String typeName, int size) {
+		}
+	}
+
+}
@@ -0,0 +1,27 @@
+package org.lab.osm.connector.metrics;
+
+/**
+ * Metrics recorder of the connector.
+ *
+ * Recorders are resolved once per stored procedure when its invocation plan is created, so recording a value does not
+ * require any lookup.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ *
+ * @see NoOpOsmMetrics
+ * @see MicrometerOsmMetrics
+ */
+public interface OsmMetrics {
+
+	/**
+	 * Resolves the recorder of a given stored procedure.
+	 *
+	 * @param owner
+	 * @param oraclePackage
+	 * @param name
+	 * @return
+	 */
+	ProcedureMetrics procedureMetrics(String owner, String oraclePackage, String name);
+
+}
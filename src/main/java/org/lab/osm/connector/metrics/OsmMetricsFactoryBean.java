@@ -0,0 +1,76 @@
+package org.lab.osm.connector.metrics;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates a {@link MicrometerOsmMetrics} when Micrometer is present in the classpath and a
+ * <code>MeterRegistry</code> bean is defined, or a {@link NoOpOsmMetrics} otherwise.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class OsmMetricsFactoryBean implements FactoryBean<OsmMetrics>, BeanFactoryAware {
+
+	private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
+	@Setter
+	private boolean enabled = true;
+
+	private BeanFactory beanFactory;
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.FactoryBean#getObject()
+	 */
+	@Override
+	public OsmMetrics getObject() {
+		if (enabled && ClassUtils.isPresent(METER_REGISTRY_CLASS, getClass().getClassLoader())) {
+			OsmMetrics metrics = MicrometerSupport.create(beanFactory);
+			if (metrics != null) {
+				log.info("Publishing OSM metrics to Micrometer");
+				return metrics;
+			}
+		}
+		log.debug("OSM metrics disabled");
+		return NoOpOsmMetrics.INSTANCE;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.FactoryBean#getObjectType()
+	 */
+	@Override
+	public Class<?> getObjectType() {
+		return OsmMetrics.class;
+	}
+
+	/**
+	 * Isolates the Micrometer references (only loaded when present in the classpath).
+	 */
+	private static class MicrometerSupport {
+
+		static OsmMetrics create(BeanFactory beanFactory) {
+			if (beanFactory instanceof ListableBeanFactory
+				&& ((ListableBeanFactory) beanFactory).getBeanNamesForType(MeterRegistry.class).length == 0) {
+				return null;
+			}
+			return new MicrometerOsmMetrics(beanFactory.getBean(MeterRegistry.class));
+		}
+	}
+
+}
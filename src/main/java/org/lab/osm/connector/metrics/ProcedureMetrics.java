@@ -0,0 +1,56 @@
+package org.lab.osm.connector.metrics;
+
+/**
+ * Metrics recorder of a stored procedure.
+ *
+ * An invocation is delimited by {@link #start()} and {@link #stop(boolean)} on the invoking thread. Binding and
+ * decoding times are recorded by the parameter conversions (that run inside the JDBC call) and subtracted from the
+ * invocation time to obtain the database execution time.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public interface ProcedureMetrics {
+
+	/**
+	 * Disabled recorders allow callers to skip reading the clock.
+	 *
+	 * @return
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Starts an invocation on the current thread.
+	 */
+	void start();
+
+	/**
+	 * Ends the invocation of the current thread.
+	 *
+	 * @param success
+	 */
+	void stop(boolean success);
+
+	/**
+	 * Records the time spent converting an input value to its Oracle representation.
+	 *
+	 * @param nanos
+	 */
+	void recordBinding(long nanos);
+
+	/**
+	 * Records the time spent converting an output value from its Oracle representation.
+	 *
+	 * @param nanos
+	 */
+	void recordDecoding(long nanos);
+
+	/**
+	 * Records the number of elements of a mapped collection.
+	 *
+	 * @param typeName Oracle collection type name.
+	 * @param size
+	 */
+	void recordCollectionSize(String typeName, int size);
+
+}
@@ -0,0 +1,246 @@
+package org.lab.osm.connector.warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.index.ClassIndex;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.impl.MetadataStructMapperService;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import oracle.jdbc.OracleArray;
+
+/**
+ * Warm-up stage executed when the Spring context is refreshed (before the application reports it is ready).
+ * 
+ * Reads the <code>StructDescriptor</code> and <code>ArrayDescriptor</code> of every registered struct, struct
+ * collection and executor parameter type in parallel (using one connection per thread) and creates the mappers of the
+ * entities and executor parameters, so the first invocations do not pay for them. Types that can not be loaded are
+ * reported but do not prevent the application startup.
+ * 
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+@Slf4j
+public class OsmWarmup implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final DataSource dataSource;
+	private final StructDefinitionService definitionService;
+	private final StructMapperService mapperService;
+	private final String[] executorPackages;
+	private final int parallelism;
+	private final AtomicBoolean executed;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param dataSource
+	 * @param definitionService
+	 * @param mapperService
+	 * @param executorPackages Packages containing the {@link OracleStoredProcedure} executors.
+	 * @param parallelism Maximum number of threads (and connections) used to read the descriptors.
+	 */
+	public OsmWarmup(DataSource dataSource, StructDefinitionService definitionService,
+		StructMapperService mapperService, String[] executorPackages, int parallelism) {
+		if (parallelism < 1) {
+			throw new OsmConnectorException("Invalid warm-up parallelism: " + parallelism);
+		}
+		this.dataSource = dataSource;
+		this.definitionService = definitionService;
+		this.mapperService = mapperService;
+		this.executorPackages = executorPackages;
+		this.parallelism = parallelism;
+		this.executed = new AtomicBoolean();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		// Refresh events of child contexts are propagated to the parent context listeners
+		if (executed.compareAndSet(false, true)) {
+			WarmupReport report = warmup();
+			log.info("OSM warm-up completed in {} ms: {} struct descriptors, {} array descriptors, {} mappers, "
+				+ "{} errors", report.getElapsedMillis(), report.getStructDescriptors(), report.getArrayDescriptors(),
+				report.getMappers(), report.getErrors());
+		}
+	}
+
+	/**
+	 * Executes the warm-up stage.
+	 * 
+	 * @return
+	 */
+	public WarmupReport warmup() {
+		long t0 = System.nanoTime();
+		Set<String> structTypes = new LinkedHashSet<>();
+		Set<String> arrayTypes = new LinkedHashSet<>();
+		List<Runnable> mapperTasks = new ArrayList<>();
+		collectMetadataTypes(structTypes, arrayTypes, mapperTasks);
+		collectExecutorTypes(structTypes, arrayTypes, mapperTasks);
+
+		AtomicInteger errors = new AtomicInteger();
+		loadDescriptors(structTypes, arrayTypes, errors);
+		int mappers = 0;
+		for (Runnable task : mapperTasks) {
+			try {
+				task.run();
+				mappers++;
+			}
+			catch (RuntimeException ex) {
+				log.warn("Error creating mapper during warm-up: {}", ex.getMessage());
+				errors.incrementAndGet();
+			}
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+		return new WarmupReport(structTypes.size(), arrayTypes.size(), mappers, errors.get(), elapsed);
+	}
+
+	private void collectMetadataTypes(Set<String> structTypes, Set<String> arrayTypes, List<Runnable> mapperTasks) {
+		if (!(mapperService instanceof MetadataStructMapperService)) {
+			return;
+		}
+		for (StructMetadata struct : ((MetadataStructMapperService) mapperService).getMetadata().getStructs()) {
+			structTypes.add(struct.getStrucyName());
+			for (FieldMetadata field : struct.getFields()) {
+				if (OracleArray.class.getName().equals(field.getOracleColumnClassName())) {
+					arrayTypes.add(field.getOracleTypeName());
+				}
+			}
+			Class<?> mappedClass = struct.getMappedClass();
+			mapperTasks.add(() -> mapperService.mapper(mappedClass));
+		}
+	}
+
+	private void collectExecutorTypes(Set<String> structTypes, Set<String> arrayTypes, List<Runnable> mapperTasks) {
+		for (String executorPackage : executorPackages) {
+			for (Class<?> executor : ClassIndex.getAnnotatedTypes(executorPackage, OracleStoredProcedure.class)) {
+				for (OracleParameter parameter : executor.getAnnotation(OracleStoredProcedure.class).parameters()) {
+					collectParameterTypes(parameter, structTypes, arrayTypes, mapperTasks);
+				}
+			}
+		}
+	}
+
+	private void collectParameterTypes(OracleParameter parameter, Set<String> structTypes, Set<String> arrayTypes,
+		List<Runnable> mapperTasks) {
+		String typeName = parameter.typeName();
+		if (StringUtils.isBlank(typeName)) {
+			return;
+		}
+		Class<?> returnClass = parameter.returnStructClass();
+		boolean mapped = returnClass.isAnnotationPresent(OracleStruct.class);
+		if (parameter.type() == Types.STRUCT) {
+			structTypes.add(typeName);
+			if (mapped) {
+				mapperTasks.add(() -> mapperService.mapper(returnClass));
+			}
+		}
+		else if (parameter.type() == Types.ARRAY) {
+			arrayTypes.add(typeName);
+			if (mapped) {
+				mapperTasks.add(() -> mapperService.arrayMapper(returnClass, typeName));
+			}
+			else if (returnClass.isArray()) {
+				mapperTasks.add(() -> mapperService.primitiveArrayMapper(returnClass, typeName));
+			}
+		}
+	}
+
+	private void loadDescriptors(Set<String> structTypes, Set<String> arrayTypes, AtomicInteger errors) {
+		List<Consumer<Connection>> loads = new ArrayList<>();
+		structTypes.forEach(x -> loads.add(conn -> definitionService.structDescriptor(x, conn)));
+		arrayTypes.forEach(x -> loads.add(conn -> definitionService.arrayDescriptor(x, conn)));
+		if (loads.isEmpty()) {
+			return;
+		}
+		int threads = Math.min(parallelism, loads.size());
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "osm-warmup-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				List<Consumer<Connection>> partition = new ArrayList<>();
+				for (int j = i; j < loads.size(); j += threads) {
+					partition.add(loads.get(j));
+				}
+				futures.add(executor.submit(() -> runWithConnection(partition, errors)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (ExecutionException ex) {
+			throw new OsmConnectorException("Error loading descriptors during warm-up", ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OsmConnectorException("Interrupted warm-up", ex);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void runWithConnection(List<Consumer<Connection>> loads, AtomicInteger errors) {
+		try (Connection conn = dataSource.getConnection()) {
+			for (Consumer<Connection> load : loads) {
+				try {
+					load.accept(conn);
+				}
+				catch (RuntimeException ex) {
+					log.warn("Error loading descriptor during warm-up: {}", ex.getMessage());
+					errors.incrementAndGet();
+				}
+			}
+		}
+		catch (SQLException ex) {
+			log.warn("Cant obtain warm-up connection: {}", ex.getMessage());
+			errors.addAndGet(loads.size());
+		}
+	}
+
+	/**
+	 * Warm-up summary.
+	 */
+	@Value
+	public static class WarmupReport {
+		private final int structDescriptors;
+		private final int arrayDescriptors;
+		private final int mappers;
+		private final int errors;
+		private final long elapsedMillis;
+	}
+
+}
@@ -0,0 +1,46 @@
+package org.lab.osm.connector;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.EnableOsmConnector.DescriptorFormat;
+import org.lab.osm.connector.EnableOsmConnector.MetadataLoader;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.type.StandardAnnotationMetadata;
+
+public class OsmConnectorConfigurationTest {
+
+	@Test
+	public void testBinaryDescriptorsWithoutSerializationFolder() {
+		assertInvalid(BinaryWithoutFolder.class, "descriptorFormat");
+	}
+
+	@Test
+	public void testDictionaryLoaderWithSerializationFolder() {
+		assertInvalid(DictionaryWithFolder.class, "metadataLoader");
+	}
+
+	private void assertInvalid(Class<?> configurationClass, String attribute) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		try {
+			new OsmConnectorConfiguration()
+				.registerBeanDefinitions(new StandardAnnotationMetadata(configurationClass), beanFactory);
+			Assert.fail("Expected invalid configuration of " + attribute);
+		}
+		catch (OsmConnectorException ex) {
+			Assert.assertTrue(ex.getMessage().contains(attribute));
+			Assert.assertEquals(0, beanFactory.getBeanDefinitionCount());
+		}
+	}
+
+	@EnableOsmConnector(modelPackages = "org.lab.osm.model", executorPackages = "org.lab.osm.executor",
+		descriptorFormat = DescriptorFormat.BINARY)
+	static class BinaryWithoutFolder {
+	}
+
+	@EnableOsmConnector(modelPackages = "org.lab.osm.model", executorPackages = "org.lab.osm.executor",
+		serializationFolder = "/tmp/osm", metadataLoader = MetadataLoader.DICTIONARY)
+	static class DictionaryWithFolder {
+	}
+
+}
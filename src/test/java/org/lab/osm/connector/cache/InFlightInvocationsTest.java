@@ -0,0 +1,68 @@
+package org.lab.osm.connector.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InFlightInvocationsTest {
+
+	@Test
+	public void testConcurrentInvocationsAreCoalesced() throws Exception {
+		InFlightInvocations invocations = new InFlightInvocations("test");
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Object[] args = { 1, "a" };
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> invocations.execute("m", args, () -> {
+			executions.incrementAndGet();
+			started.countDown();
+			await(release);
+			return new Object();
+		}), executor);
+		Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<Object> second = CompletableFuture
+			.supplyAsync(() -> invocations.execute("m", new Object[] { 1, "a" }, () -> {
+				executions.incrementAndGet();
+				return new Object();
+			}), executor);
+		long deadline = System.currentTimeMillis() + 5000;
+		while (invocations.getCoalescedCount() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		Assert.assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+		Assert.assertEquals(1, executions.get());
+		Assert.assertEquals(1, invocations.getCoalescedCount());
+		Assert.assertEquals(0, invocations.getInFlightCount());
+		executor.shutdown();
+	}
+
+	@Test
+	public void testSequentialInvocationsAreExecuted() {
+		InFlightInvocations invocations = new InFlightInvocations("test");
+		AtomicInteger executions = new AtomicInteger();
+		invocations.execute("m", new Object[] { 1 }, executions::incrementAndGet);
+		invocations.execute("m", new Object[] { 1 }, executions::incrementAndGet);
+		Assert.assertEquals(2, executions.get());
+		Assert.assertEquals(0, invocations.getCoalescedCount());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+package org.lab.osm.connector.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.cache.ProcedureResultCache.CacheStats;
+import org.lab.osm.connector.exception.OsmConnectorException;
+
+public class ProcedureResultCacheTest {
+
+	private final AtomicLong time = new AtomicLong();
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	public void testHitAndExpiration() {
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 10, time::get);
+		Assert.assertEquals("1:a", load(cache, 1, "a"));
+		Assert.assertEquals("1:a", load(cache, 1, "a"));
+		Assert.assertEquals(1, executions.get());
+
+		time.addAndGet(TimeUnit.SECONDS.toNanos(11));
+		Assert.assertEquals("1:a", load(cache, 1, "a"));
+		Assert.assertEquals(2, executions.get());
+
+		CacheStats stats = cache.getStats();
+		Assert.assertEquals(1, stats.getHitCount());
+		Assert.assertEquals(2, stats.getMissCount());
+		Assert.assertEquals(1, stats.getEvictionCount());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		// Every access happens at a different time
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 2, time::incrementAndGet);
+		load(cache, 1, "a");
+		load(cache, 2, "b");
+		load(cache, 1, "a");
+		load(cache, 3, "c");
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(3, executions.get());
+
+		load(cache, 1, "a");
+		Assert.assertEquals(3, executions.get());
+		load(cache, 2, "b");
+		Assert.assertEquals(4, executions.get());
+	}
+
+	@Test
+	public void testInvalidate() {
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 10, time::get);
+		load(cache, 1, "a");
+		load(cache, 2, "b");
+		cache.invalidate(1, "a");
+		Assert.assertEquals(1, cache.size());
+		cache.invalidateAll();
+		Assert.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testInvalidateDuringLoad() throws Exception {
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 10, time::get);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> stale = executor.submit(() -> cache.get("execute", new Object[] { 1, "a" }, () -> {
+				started.countDown();
+				await(release);
+				return "stale";
+			}));
+			Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+			cache.invalidate(1, "a");
+			release.countDown();
+
+			// The caller receives its result, but it is not stored
+			Assert.assertEquals("stale", stale.get(5, TimeUnit.SECONDS));
+			Assert.assertEquals(0, cache.size());
+			Assert.assertEquals("1:a", load(cache, 1, "a"));
+			Assert.assertEquals("1:a", load(cache, 1, "a"));
+			Assert.assertEquals(1, executions.get());
+		}
+		finally {
+			release.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testConcurrentHits() throws Exception {
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 10, time::get);
+		int threads = 8;
+		int requests = 1000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int thread = i;
+				results.add(executor.submit(() -> {
+					for (int j = 0; j < requests; j++) {
+						Assert.assertEquals((j % 5) + ":a", load(cache, j % 5, "a"));
+					}
+					return thread;
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get(10, TimeUnit.SECONDS);
+			}
+			CacheStats stats = cache.getStats();
+			Assert.assertEquals(threads * requests, stats.getHitCount() + stats.getMissCount());
+			Assert.assertEquals(5, cache.size());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testKeysAreArgumentSnapshots() {
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 10, time::get);
+		Date date = new Date(1000L);
+		long[] ids = { 1L, 2L };
+		Assert.assertEquals("1:a", load(cache, "1:a", ids, date));
+
+		// Changing the arguments after the invocation does not change the stored key
+		date.setTime(2000L);
+		ids[0] = 3L;
+		Assert.assertEquals("3:b", load(cache, "3:b", ids, date));
+		Assert.assertEquals("1:a", load(cache, "x", new long[] { 1L, 2L }, new Date(1000L)));
+		Assert.assertEquals(2, executions.get());
+		Assert.assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void testUnsupportedArgumentType() {
+		ProcedureResultCache cache = new ProcedureResultCache("test", 10, TimeUnit.SECONDS, 10, time::get);
+		try {
+			load(cache, new ArrayList<>(Arrays.asList("a")), "a");
+			Assert.fail("Expected OsmConnectorException");
+		}
+		catch (OsmConnectorException ex) {
+			Assert.assertEquals(0, executions.get());
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private String load(ProcedureResultCache cache, Object... args) {
+		return cache.get("execute", args, () -> {
+			executions.incrementAndGet();
+			return args[0] + ":" + args[1];
+		});
+	}
+
+	private String load(ProcedureResultCache cache, String result, long[] ids, Date date) {
+		return cache.get("execute", new Object[] { ids, date }, () -> {
+			executions.incrementAndGet();
+			return result;
+		});
+	}
+
+}
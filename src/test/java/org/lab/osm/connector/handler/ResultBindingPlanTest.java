@@ -0,0 +1,91 @@
+package org.lab.osm.connector.handler;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.annotation.OracleField;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.support.Stubs;
+import org.springframework.jdbc.core.SqlOutParameter;
+import org.springframework.jdbc.core.SqlParameter;
+
+public class ResultBindingPlanTest {
+
+	private static final List<SqlParameter> PARAMETERS = Arrays.asList( //@formatter:off
+		new SqlParameter("P_ID", Types.NUMERIC),
+		new SqlOutParameter("P_RESULT", Types.NVARCHAR),
+		new SqlOutParameter("P_COUNT", Types.NUMERIC),
+		new SqlOutParameter("P_CREATED", Types.DATE)); //@formatter:on
+
+	@Test
+	public void testRead() throws Exception {
+		Object[] values = { null, "OK", new BigDecimal("42"), new Timestamp(1_500_000_000_000L) };
+		CallableStatement cs = Stubs.stub(CallableStatement.class)
+			.on("getObject", args -> values[(Integer) args[0] - 1]).build();
+
+		ResultBindingPlan<Result> plan = new ResultBindingPlan<>(Result.class, PARAMETERS);
+		Result result = plan.read(cs);
+
+		Assert.assertEquals("OK", result.getP_result());
+		Assert.assertEquals(42L, result.getCount());
+		Assert.assertEquals(1_500_000_000_000L, result.getCreated().getTime());
+		Assert.assertNull(result.getComments());
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testUndefinedParameter() {
+		new ResultBindingPlan<>(InvalidResult.class, PARAMETERS);
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testUnboundResult() {
+		new ResultBindingPlan<>(String.class, PARAMETERS);
+	}
+
+	public static class Result {
+
+		private String p_result;
+
+		@OracleField("P_COUNT")
+		private long count;
+
+		@OracleField("P_CREATED")
+		private Date created;
+
+		private String comments;
+
+		public String getP_result() {
+			return p_result;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public String getComments() {
+			return comments;
+		}
+	}
+
+	public static class InvalidResult {
+
+		@OracleField("P_UNDEFINED")
+		private String value;
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+}
@@ -0,0 +1,199 @@
+package org.lab.osm.connector.handler;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmConnectorException;
+
+public class StoredProcedureAsyncExecutorTest {
+
+	@Test
+	public void testSubmit() throws Exception {
+		StoredProcedureAsyncExecutor executor = new StoredProcedureAsyncExecutor(2, 0);
+		try {
+			CompletableFuture<String> future = executor.submit(() -> Thread.currentThread().getName());
+			Assert.assertTrue(future.get(5, TimeUnit.SECONDS).startsWith("osm-async-"));
+		}
+		finally {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	public void testBackPressure() throws Exception {
+		StoredProcedureAsyncExecutor executor = new StoredProcedureAsyncExecutor(1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			executor.submit(() -> await(release));
+			executor.submit(() -> await(release));
+
+			CountDownLatch submitted = new CountDownLatch(1);
+			Thread caller = new Thread(() -> {
+				executor.submit(() -> Boolean.TRUE);
+				submitted.countDown();
+			});
+			caller.start();
+
+			// Pool and queue are full: the third caller waits
+			Assert.assertFalse(submitted.await(200, TimeUnit.MILLISECONDS));
+			release.countDown();
+			Assert.assertTrue(submitted.await(5, TimeUnit.SECONDS));
+		}
+		finally {
+			release.countDown();
+			executor.destroy();
+		}
+	}
+
+	@Test
+	public void testSubmitTimeout() throws Exception {
+		StoredProcedureAsyncExecutor executor = new StoredProcedureAsyncExecutor(1, 0, 100L);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			executor.submit(() -> await(release));
+			long start = System.currentTimeMillis();
+			try {
+				executor.submit(() -> Boolean.TRUE);
+				Assert.fail("Expected submit timeout");
+			}
+			catch (OsmConnectorException ex) {
+				Assert.assertTrue(System.currentTimeMillis() - start >= 100L);
+			}
+		}
+		finally {
+			release.countDown();
+			executor.destroy();
+		}
+	}
+
+	@Test
+	public void testNestedSubmitRunsInPooledThread() throws Exception {
+		StoredProcedureAsyncExecutor executor = new StoredProcedureAsyncExecutor(1, 0, 100L);
+		try {
+			CompletableFuture<String[]> future = executor.submit(() -> new String[] {
+				Thread.currentThread().getName(), executor.submit(() -> Thread.currentThread().getName()).join() });
+			String[] names = future.get(5, TimeUnit.SECONDS);
+			Assert.assertEquals(names[0], names[1]);
+
+			// Pooled threads of other executors are regular callers
+			StoredProcedureAsyncExecutor other = new StoredProcedureAsyncExecutor(1, 0);
+			try {
+				String name = other.submit(() -> executor.submit(() -> Thread.currentThread().getName()).join())
+					.get(5, TimeUnit.SECONDS);
+				Assert.assertNotEquals(name, other.submit(() -> Thread.currentThread().getName()).get(5,
+					TimeUnit.SECONDS));
+			}
+			finally {
+				other.destroy();
+			}
+		}
+		finally {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	public void testResolvePoolSize() {
+		PooledDataSource pool = new PooledDataSource();
+		pool.setMaximumPoolSize(12);
+		Assert.assertEquals(12, StoredProcedureAsyncExecutor.resolvePoolSize(pool));
+
+		DelegatingDataSource delegating = new DelegatingDataSource();
+		delegating.setTargetDataSource(pool);
+		Assert.assertEquals(12, StoredProcedureAsyncExecutor.resolvePoolSize(delegating));
+
+		Assert.assertEquals(Runtime.getRuntime().availableProcessors(),
+			StoredProcedureAsyncExecutor.resolvePoolSize(new DelegatingDataSource()));
+	}
+
+	private static Boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	public static class DelegatingDataSource extends AbstractDataSource {
+
+		private DataSource targetDataSource;
+
+		public DataSource getTargetDataSource() {
+			return targetDataSource;
+		}
+
+		public void setTargetDataSource(DataSource targetDataSource) {
+			this.targetDataSource = targetDataSource;
+		}
+	}
+
+	public static class PooledDataSource extends AbstractDataSource {
+
+		private int maximumPoolSize;
+
+		public int getMaximumPoolSize() {
+			return maximumPoolSize;
+		}
+
+		public void setMaximumPoolSize(int maximumPoolSize) {
+			this.maximumPoolSize = maximumPoolSize;
+		}
+	}
+
+	public abstract static class AbstractDataSource implements DataSource {
+
+		@Override
+		public Connection getConnection() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public PrintWriter getLogWriter() {
+			return null;
+		}
+
+		@Override
+		public void setLogWriter(PrintWriter out) {
+		}
+
+		@Override
+		public void setLoginTimeout(int seconds) {
+		}
+
+		@Override
+		public int getLoginTimeout() {
+			return 0;
+		}
+
+		@Override
+		public Logger getParentLogger() {
+			return null;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> iface) {
+			return null;
+		}
+
+		@Override
+		public boolean isWrapperFor(Class<?> iface) {
+			return false;
+		}
+	}
+
+}
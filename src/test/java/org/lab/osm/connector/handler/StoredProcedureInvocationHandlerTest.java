@@ -0,0 +1,245 @@
+package org.lab.osm.connector.handler;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.annotation.OracleCacheable;
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.cache.OsmResultCacheManager;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+import org.lab.osm.connector.support.Stubs;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class StoredProcedureInvocationHandlerTest {
+
+	@Test
+	public void testMethodNamedExecuteBatch() throws Exception {
+		StubDataSource dataSource = new StubDataSource("OK");
+		LookupExecutor executor = createExecutor(LookupExecutor.class, dataSource);
+
+		Assert.assertEquals("OK", executor.executeBatch("B1").get("P_RESULT"));
+		Assert.assertEquals(Collections.singletonList("B1"), dataSource.boundValues);
+	}
+
+	@Test
+	public void testExecuteBatch() throws Exception {
+		LookupExecutor executor = createExecutor(LookupExecutor.class, new StubDataSource("OK"));
+		try {
+			// Handled by the invocation plan instead of the default method
+			executor.executeBatch(Collections.singletonList(new Object[] { "B1" }));
+			Assert.fail("Expected output parameters error");
+		}
+		catch (OsmConnectorException ex) {
+			Assert.assertTrue(ex.getMessage().contains("SP_LOOKUP"));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testExecuteBatchOfCustomImplementation() {
+		StoredProcedureExecutor executor = args -> Collections.emptyMap();
+		executor.executeBatch(Collections.singletonList(new Object[] { "B1" }));
+	}
+
+	@Test
+	public void testAsyncExecutorIsResolvedOnDemand() throws Exception {
+		StubDataSource dataSource = new StubDataSource("OK");
+		// Unused optional beans are not created
+		createExecutor(LookupExecutor.class, dataSource, Stubs.unsupported(ObjectProvider.class));
+
+		StoredProcedureAsyncExecutor asyncExecutor = new StoredProcedureAsyncExecutor(1, 0);
+		try {
+			AsyncLookupExecutor executor = createExecutor(AsyncLookupExecutor.class, dataSource,
+				Stubs.stub(ObjectProvider.class).on("getIfAvailable", args -> asyncExecutor).build());
+			Assert.assertEquals("OK", executor.lookup("A1").get(5, TimeUnit.SECONDS).get("P_RESULT"));
+		}
+		finally {
+			asyncExecutor.destroy();
+		}
+	}
+
+	@Test
+	public void testLazyParametersOfSharedResults() throws Exception {
+		for (Class<?> interfaceClass : Arrays.asList(CacheableLazyExecutor.class, CoalescedLazyExecutor.class,
+			AsyncLazyExecutor.class)) {
+			try {
+				createExecutor(interfaceClass, new StubDataSource(null));
+				Assert.fail("Expected lazy parameter error in " + interfaceClass.getSimpleName());
+			}
+			catch (OsmConnectorException ex) {
+				Assert.assertTrue(ex.getMessage().contains(interfaceClass.getName()));
+			}
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCachedResultsAreReadOnly() throws Exception {
+		StubDataSource dataSource = new StubDataSource(new ArrayList<>(Arrays.asList("a", "b")));
+		CacheableLookupExecutor executor = createExecutor(CacheableLookupExecutor.class, dataSource,
+			Stubs.stub(ObjectProvider.class).on("getIfAvailable", args -> new OsmResultCacheManager()).build());
+
+		Map<String, Object> result = executor.lookup("A1");
+		Assert.assertSame(result, executor.lookup("A1"));
+		Assert.assertEquals(1, dataSource.boundValues.size());
+		assertUnsupported(() -> result.put("P_OTHER", "x"));
+		assertUnsupported(() -> ((List<Object>) result.get("P_RESULT")).add("c"));
+		Assert.assertEquals(Arrays.asList("a", "b"), result.get("P_RESULT"));
+	}
+
+	@Test(expected = OsmConnectorException.class)
+	public void testStructInputOfCoalescedExecutor() throws Exception {
+		createExecutor(CoalescedStructExecutor.class, new StubDataSource(null));
+	}
+
+	@Test
+	public void testArrayInputOfSharedExecutors() throws Exception {
+		for (Class<?> interfaceClass : Arrays.asList(CoalescedArrayExecutor.class, CacheableArrayExecutor.class)) {
+			try {
+				createExecutor(interfaceClass, new StubDataSource(null),
+					Stubs.stub(ObjectProvider.class).on("getIfAvailable", args -> new OsmResultCacheManager()).build());
+				Assert.fail("Expected ARRAY parameter error in " + interfaceClass.getSimpleName());
+			}
+			catch (OsmConnectorException ex) {
+				Assert.assertTrue(ex.getMessage().contains("P_IDS"));
+			}
+		}
+	}
+
+	private static void assertUnsupported(Runnable modification) {
+		try {
+			modification.run();
+			Assert.fail("Expected read-only result");
+		}
+		catch (UnsupportedOperationException ex) {
+			// Expected
+		}
+	}
+
+	private <T> T createExecutor(Class<T> interfaceClass, StubDataSource dataSource) throws Exception {
+		return createExecutor(interfaceClass, dataSource, null);
+	}
+
+	private <T> T createExecutor(Class<T> interfaceClass, StubDataSource dataSource, ObjectProvider<?> beanProvider)
+		throws Exception {
+		StoredProcedureInvocationHandler<T> handler = new StoredProcedureInvocationHandler<>(interfaceClass);
+		ReflectionTestUtils.setField(handler, "dataSource", dataSource.toDataSource());
+		ReflectionTestUtils.setField(handler, "parameterProcessor",
+			new StoredProcedureHandlerParameterProcessor(Stubs.unsupported(StructMapperService.class)));
+		ReflectionTestUtils.setField(handler, "asyncExecutorProvider", beanProvider);
+		ReflectionTestUtils.setField(handler, "cacheManagerProvider", beanProvider);
+		handler.afterPropertiesSet();
+		return handler.getObject();
+	}
+
+	@OracleStoredProcedure(name = "SP_LOOKUP", parameters = {
+		@OracleParameter(name = "P_ID", type = Types.VARCHAR, mode = ParameterType.IN),
+		@OracleParameter(name = "P_RESULT", type = Types.NVARCHAR, mode = ParameterType.OUT) })
+	interface LookupExecutor extends StoredProcedureExecutor {
+
+		Map<String, Object> executeBatch(String batchId);
+	}
+
+	@OracleStoredProcedure(name = "SP_LOOKUP", parameters = {
+		@OracleParameter(name = "P_ID", type = Types.VARCHAR, mode = ParameterType.IN),
+		@OracleParameter(name = "P_RESULT", type = Types.NVARCHAR, mode = ParameterType.OUT) })
+	interface AsyncLookupExecutor extends StoredProcedureExecutor {
+
+		CompletableFuture<Map<String, Object>> lookup(String id);
+	}
+
+	@OracleCacheable
+	@OracleStoredProcedure(name = "SP_LOOKUP", parameters = {
+		@OracleParameter(name = "P_ID", type = Types.VARCHAR, mode = ParameterType.IN),
+		@OracleParameter(name = "P_RESULT", type = Types.NVARCHAR, mode = ParameterType.OUT) })
+	interface CacheableLookupExecutor extends StoredProcedureExecutor {
+
+		Map<String, Object> lookup(String id);
+	}
+
+	@OracleCacheable
+	@OracleStoredProcedure(name = "SP_LIST", parameters = {
+		@OracleParameter(name = "P_ITEMS", typeName = "OSM_ITEM_LIST", type = Types.ARRAY, mode = ParameterType.OUT,
+			returnStructClass = Customer.class, lazy = true) })
+	interface CacheableLazyExecutor extends StoredProcedureExecutor {
+	}
+
+	@OracleStoredProcedure(name = "SP_LIST", coalesce = true, parameters = {
+		@OracleParameter(name = "P_ITEMS", typeName = "OSM_ITEM_LIST", type = Types.ARRAY, mode = ParameterType.OUT,
+			returnStructClass = Customer.class, lazy = true) })
+	interface CoalescedLazyExecutor extends StoredProcedureExecutor {
+	}
+
+	@OracleStoredProcedure(name = "SP_LIST", parameters = {
+		@OracleParameter(name = "P_ITEMS", typeName = "OSM_ITEM_LIST", type = Types.ARRAY, mode = ParameterType.OUT,
+			returnStructClass = Customer.class, lazy = true) })
+	interface AsyncLazyExecutor extends AsyncStoredProcedureExecutor {
+	}
+
+	@OracleStoredProcedure(name = "SP_SAVE", coalesce = true, parameters = {
+		@OracleParameter(name = "P_CUSTOMER", typeName = "OSM_CUSTOMER", type = Types.STRUCT,
+			mode = ParameterType.IN) })
+	interface CoalescedStructExecutor extends StoredProcedureExecutor {
+	}
+
+	@OracleStoredProcedure(name = "SP_FIND", coalesce = true, parameters = {
+		@OracleParameter(name = "P_IDS", typeName = "OSM_ID_LIST", type = Types.ARRAY, mode = ParameterType.IN) })
+	interface CoalescedArrayExecutor extends StoredProcedureExecutor {
+	}
+
+	@OracleCacheable
+	@OracleStoredProcedure(name = "SP_FIND", parameters = {
+		@OracleParameter(name = "P_IDS", typeName = "OSM_ID_LIST", type = Types.ARRAY, mode = ParameterType.IN_OUT) })
+	interface CacheableArrayExecutor extends StoredProcedureExecutor {
+	}
+
+	/**
+	 * Stand-in data source answering every call with the same output value.
+	 */
+	private static class StubDataSource {
+
+		private final Object outputValue;
+		private final List<Object> boundValues = new ArrayList<>();
+
+		StubDataSource(Object outputValue) {
+			this.outputValue = outputValue;
+		}
+
+		DataSource toDataSource() {
+			return Stubs.lenient(DataSource.class).on("getConnection", args -> Stubs.lenient(Connection.class)
+				.on("prepareCall", x -> prepareCall()).build()).build();
+		}
+
+		private CallableStatement prepareCall() {
+			return Stubs.lenient(CallableStatement.class) //@formatter:off
+				.onPrefix("set", args -> {
+					if (args.length >= 2 && args[0] instanceof Integer) {
+						synchronized (boundValues) {
+							boundValues.add(args[1]);
+						}
+					}
+					return null;
+				})
+				.on("getUpdateCount", args -> -1)
+				.on("getObject", args -> outputValue)
+				.build(); //@formatter:on
+		}
+	}
+
+}
@@ -0,0 +1,162 @@
+package org.lab.osm.connector.handler;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.exception.OsmMissingAnnotationException;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.support.Stubs;
+
+public class StoredProcedureInvocationPlanTest {
+
+	@Test
+	public void testExecute() {
+		StubDataSource dataSource = new StubDataSource();
+		StoredProcedureInvocationPlan plan = new StoredProcedureInvocationPlan(UpdateExecutor.class,
+			dataSource.toDataSource(), createParameterProcessor());
+		Assert.assertEquals("APP.PKG_TEST.SP_UPDATE", plan.getStoredProcedureName());
+
+		// The plan is reused by every invocation
+		for (int i = 0; i < 3; i++) {
+			Map<String, Object> result = plan.execute(new Object[] { BigDecimal.valueOf(i), "name " + i });
+			Assert.assertTrue(result.containsKey("P_RESULT"));
+		}
+		Assert.assertEquals("{call APP.PKG_TEST.SP_UPDATE(?, ?, ?)}", dataSource.callString);
+		Assert.assertEquals(3, dataSource.connectionCount);
+		Assert.assertEquals(3, dataSource.statementCount);
+		Assert.assertEquals(6, dataSource.boundValueCount);
+	}
+
+	@Test(expected = OsmConnectorException.class)
+	public void testExecuteMissingArguments() {
+		StoredProcedureInvocationPlan plan = new StoredProcedureInvocationPlan(UpdateExecutor.class,
+			new StubDataSource().toDataSource(), createParameterProcessor());
+		plan.execute(new Object[] { BigDecimal.ONE });
+	}
+
+	@Test(expected = OsmMissingAnnotationException.class)
+	public void testMissingAnnotation() {
+		new StoredProcedureInvocationPlan(StoredProcedureExecutor.class, new StubDataSource().toDataSource(),
+			createParameterProcessor());
+	}
+
+	@Test
+	public void testExecuteBatch() {
+		StubDataSource dataSource = new StubDataSource();
+		StoredProcedureInvocationPlan plan = new StoredProcedureInvocationPlan(InsertExecutor.class,
+			dataSource.toDataSource(), createParameterProcessor());
+
+		int callCount = StoredProcedureInvocationPlan.BATCH_SIZE * 2 + 10;
+		List<Object[]> batchArgs = new ArrayList<>();
+		for (int i = 0; i < callCount; i++) {
+			batchArgs.add(new Object[] { BigDecimal.valueOf(i), i % 2 == 0 ? "name " + i : null });
+		}
+		int[] result = plan.executeBatch(batchArgs);
+
+		Assert.assertEquals(callCount, result.length);
+		Assert.assertEquals("{call APP.PKG_TEST.SP_INSERT(?, ?)}", dataSource.callString);
+		Assert.assertEquals(1, dataSource.connectionCount);
+		Assert.assertEquals(1, dataSource.statementCount);
+		Assert.assertEquals(Arrays.asList(StoredProcedureInvocationPlan.BATCH_SIZE,
+			StoredProcedureInvocationPlan.BATCH_SIZE, 10), dataSource.batchSizes);
+		Assert.assertEquals(callCount * 2, dataSource.boundValueCount);
+		Assert.assertTrue(Arrays.stream(result).allMatch(x -> x == 1));
+	}
+
+	@Test
+	public void testExecuteEmptyBatch() {
+		StubDataSource dataSource = new StubDataSource();
+		StoredProcedureInvocationPlan plan = new StoredProcedureInvocationPlan(InsertExecutor.class,
+			dataSource.toDataSource(), createParameterProcessor());
+		Assert.assertEquals(0, plan.executeBatch(Collections.emptyList()).length);
+		Assert.assertEquals(0, dataSource.connectionCount);
+	}
+
+	@Test(expected = OsmConnectorException.class)
+	public void testExecuteBatchWithOutputParameters() {
+		StoredProcedureInvocationPlan plan = new StoredProcedureInvocationPlan(UpdateExecutor.class,
+			new StubDataSource().toDataSource(), createParameterProcessor());
+		plan.executeBatch(Collections.singletonList(new Object[] { BigDecimal.ONE, "name" }));
+	}
+
+	@Test(expected = OsmConnectorException.class)
+	public void testExecuteBatchMissingArguments() {
+		StoredProcedureInvocationPlan plan = new StoredProcedureInvocationPlan(InsertExecutor.class,
+			new StubDataSource().toDataSource(), createParameterProcessor());
+		plan.executeBatch(Collections.singletonList(new Object[] { BigDecimal.ONE }));
+	}
+
+	private StoredProcedureHandlerParameterProcessor createParameterProcessor() {
+		return new StoredProcedureHandlerParameterProcessor(Stubs.unsupported(StructMapperService.class));
+	}
+
+	@OracleStoredProcedure(owner = "APP", oraclePackage = "PKG_TEST", name = "SP_INSERT", parameters = {
+		@OracleParameter(name = "P_ID", type = Types.NUMERIC, mode = ParameterType.IN),
+		@OracleParameter(name = "P_NAME", type = Types.VARCHAR, mode = ParameterType.IN) })
+	interface InsertExecutor extends StoredProcedureExecutor {
+	}
+
+	@OracleStoredProcedure(owner = "APP", oraclePackage = "PKG_TEST", name = "SP_UPDATE", parameters = {
+		@OracleParameter(name = "P_ID", type = Types.NUMERIC, mode = ParameterType.IN),
+		@OracleParameter(name = "P_NAME", type = Types.VARCHAR, mode = ParameterType.IN),
+		@OracleParameter(name = "P_RESULT", type = Types.NVARCHAR, mode = ParameterType.OUT) })
+	interface UpdateExecutor extends StoredProcedureExecutor {
+	}
+
+	/**
+	 * Stand-in data source recording the executed and batched calls.
+	 */
+	private static class StubDataSource {
+
+		private int connectionCount;
+		private int statementCount;
+		private int boundValueCount;
+		private int pending;
+		private String callString;
+		private final List<Integer> batchSizes = new ArrayList<>();
+
+		DataSource toDataSource() {
+			return Stubs.lenient(DataSource.class).on("getConnection", args -> {
+				connectionCount++;
+				return Stubs.lenient(Connection.class).on("prepareCall", x -> prepareCall((String) x[0])).build();
+			}).build();
+		}
+
+		private CallableStatement prepareCall(String sql) {
+			statementCount++;
+			callString = sql;
+			return Stubs.lenient(CallableStatement.class) //@formatter:off
+				.onPrefix("set", args -> {
+					boundValueCount += args.length >= 2 && args[0] instanceof Integer ? 1 : 0;
+					return null;
+				})
+				.on("addBatch", args -> pending++)
+				// No more results
+				.on("getUpdateCount", args -> -1)
+				.on("executeBatch", args -> {
+					batchSizes.add(pending);
+					int[] counts = new int[pending];
+					Arrays.fill(counts, 1);
+					pending = 0;
+					return counts;
+				})
+				.build(); //@formatter:on
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+package org.lab.osm.connector.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.lab.osm.connector.annotation.OracleStruct;
+import org.lab.osm.connector.metadata.impl.model.Address;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+
+public class ClassIndexTest {
+
+	private static final String PACKAGE_NAME = "org.lab.osm.connector.metadata.impl.model";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testResolveIndexedSkipsStaleEntries() {
+		Set<String> indexed = new LinkedHashSet<>(Arrays.asList( //@formatter:off
+			Customer.class.getName(),
+			PACKAGE_NAME + ".Removed",
+			ClassIndexTest.class.getName(),
+			"org.lab.other.Type")); //@formatter:on
+		List<Class<?>> result = ClassIndex.resolveIndexed(PACKAGE_NAME, OracleStruct.class, indexed,
+			getClass().getClassLoader());
+		Assert.assertEquals(Arrays.asList(Customer.class), result);
+
+		indexed.add("org.lab.osm.connector.index.Removed");
+		Assert.assertTrue(ClassIndex
+			.resolveIndexed("org.lab.osm.connector.index", OracleStruct.class, indexed, getClass().getClassLoader())
+			.isEmpty());
+	}
+
+	@Test
+	public void testGetAnnotatedTypes() {
+		List<Class<?>> result = ClassIndex.getAnnotatedTypes(PACKAGE_NAME, OracleStruct.class);
+		Assert.assertEquals(new HashSet<>(Arrays.asList(Customer.class, Address.class)), new HashSet<>(result));
+	}
+
+	@Test
+	public void testSplitPackageIsNotIndexed() throws Exception {
+		File indexed = createLocation("indexed", true);
+		File notIndexed = createLocation("not-indexed", false);
+		try (URLClassLoader classLoader = classLoader(indexed)) {
+			Assert.assertTrue(ClassIndex.isIndexed("org.lab.split", OracleStruct.class, classLoader));
+		}
+		try (URLClassLoader classLoader = classLoader(indexed, notIndexed)) {
+			Assert.assertFalse(ClassIndex.isIndexed("org.lab.split", OracleStruct.class, classLoader));
+			Assert.assertTrue(ClassIndex.isIndexed("org.lab.other", OracleStruct.class, classLoader));
+		}
+	}
+
+	private File createLocation(String name, boolean index) throws IOException {
+		File root = folder.newFolder(name);
+		Files.createDirectories(root.toPath().resolve("org/lab/split"));
+		if (index) {
+			Path indexFile = root.toPath().resolve(IndexResources.resourceName(OracleStruct.class));
+			Files.createDirectories(indexFile.getParent());
+			Files.write(indexFile, Arrays.asList("org.lab.split.Indexed"));
+		}
+		return root;
+	}
+
+	private static URLClassLoader classLoader(File... roots) throws IOException {
+		URL[] urls = new URL[roots.length];
+		for (int i = 0; i < roots.length; i++) {
+			urls[i] = roots[i].toURI().toURL();
+		}
+		return new URLClassLoader(urls, null);
+	}
+
+}
@@ -0,0 +1,105 @@
+package org.lab.osm.connector.mapper.converter;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Date;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+
+public class AttributeConverterRegistryTest {
+
+	private final AttributeConverterRegistry registry = new AttributeConverterRegistry();
+
+	private enum Status {
+		ACTIVE, DISABLED
+	}
+
+	@Test
+	public void testNumbers() {
+		FieldMetadata field = field(BigDecimal.class);
+		Assert.assertEquals(42L, registry.resolve(field, long.class).toJava(new BigDecimal("42")));
+		Assert.assertEquals(42, registry.resolve(field, Integer.class).toJava(new BigDecimal("42")));
+		Assert.assertEquals(1.5D, registry.resolve(field, double.class).toJava(new BigDecimal("1.5")));
+		Assert.assertEquals(7, registry.resolve(field, int.class).toJava("7"));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testNumberOverflow() {
+		registry.resolve(field(BigDecimal.class), int.class).toJava(new BigDecimal(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testFractionalNumbers() {
+		FieldMetadata field = field(BigDecimal.class);
+		Assert.assertEquals(1L, registry.resolve(field, long.class).toJava(new BigDecimal("1.9")));
+		Assert.assertEquals(-1, registry.resolve(field, int.class).toJava(new BigDecimal("-1.9")));
+		Assert.assertEquals(Long.MAX_VALUE,
+			registry.resolve(field, long.class).toJava(new BigDecimal(Long.MAX_VALUE).add(new BigDecimal("0.5"))));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testFractionalNumberOverflow() {
+		// Used to wrap to a negative value
+		registry.resolve(field(BigDecimal.class), long.class).toJava(new BigDecimal("9223372036854775808.5"));
+	}
+
+	@Test
+	public void testBooleanAsNumber() {
+		AttributeConverter<Object> converter = registry.resolve(field(BigDecimal.class), boolean.class);
+		Assert.assertEquals(Boolean.TRUE, converter.toJava(BigDecimal.ONE));
+		Assert.assertEquals(Boolean.FALSE, converter.toJava(BigDecimal.ZERO));
+		Assert.assertEquals(BigDecimal.ONE, converter.toOracle(true));
+	}
+
+	@Test
+	public void testEnums() {
+		AttributeConverter<Object> named = registry.resolve(field(String.class), Status.class);
+		Assert.assertEquals(Status.DISABLED, named.toJava("DISABLED"));
+		Assert.assertEquals("ACTIVE", named.toOracle(Status.ACTIVE));
+
+		AttributeConverter<Object> ordinal = registry.resolve(field(BigDecimal.class), Status.class);
+		Assert.assertEquals(Status.DISABLED, ordinal.toJava(BigDecimal.ONE));
+		Assert.assertEquals(BigDecimal.ZERO, ordinal.toOracle(Status.ACTIVE));
+	}
+
+	@Test
+	public void testJavaTime() {
+		FieldMetadata field = field(Timestamp.class);
+		LocalDateTime dateTime = LocalDateTime.of(2018, 7, 1, 10, 30);
+		Timestamp timestamp = Timestamp.valueOf(dateTime);
+		Assert.assertEquals(dateTime, registry.resolve(field, LocalDateTime.class).toJava(timestamp));
+		Assert.assertEquals(dateTime.toLocalDate(), registry.resolve(field, LocalDate.class).toJava(timestamp));
+		Assert.assertEquals(timestamp, registry.resolve(field, LocalDateTime.class).toOracle(dateTime));
+	}
+
+	@Test
+	public void testDefaultConversions() {
+		Date date = new Date();
+		AttributeConverter<Object> converter = registry.resolve(field(Timestamp.class), Date.class);
+		Assert.assertEquals(java.sql.Date.class, converter.toOracle(date).getClass());
+		Assert.assertEquals("42", registry.resolve(field(BigDecimal.class), String.class).toJava(new BigDecimal(42)));
+	}
+
+	@Test
+	public void testCustomConverter() {
+		AttributeConverter<Boolean> yesNo = AttributeConverter.of(Boolean.class, x -> "Y".equals(x),
+			x -> x ? "Y" : "N");
+		AttributeConverterRegistry custom = new AttributeConverterRegistry(Collections.singletonList(yesNo));
+		AttributeConverter<Object> converter = custom.resolve(field(String.class), boolean.class);
+		Assert.assertEquals(Boolean.TRUE, converter.toJava("Y"));
+		Assert.assertEquals("N", converter.toOracle(false));
+	}
+
+	private FieldMetadata field(Class<?> columnClass) {
+		FieldMetadata field = new FieldMetadata();
+		field.setOracleColumnName("VALUE");
+		field.setOracleColumnClassName(columnClass.getName());
+		return field;
+	}
+
+}
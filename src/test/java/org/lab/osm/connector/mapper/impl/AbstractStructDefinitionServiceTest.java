@@ -0,0 +1,136 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.springframework.objenesis.SpringObjenesis;
+
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.StructDescriptor;
+
+public class AbstractStructDefinitionServiceTest {
+
+	private static final int THREADS = 8;
+
+	@Test
+	public void testConcurrentRequestsLoadOnce() throws Exception {
+		BlockingDefinitionService service = new BlockingDefinitionService(false);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<StructDescriptor>> results = submitRequests(service, executor);
+			awaitWaitingRequests(service);
+			service.release.countDown();
+
+			StructDescriptor expected = results.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<StructDescriptor> result : results) {
+				Assert.assertSame(expected, result.get(5, TimeUnit.SECONDS));
+			}
+			Assert.assertEquals(1, service.loadCount.get());
+			Assert.assertEquals(1, service.getMissCount());
+			Assert.assertEquals(THREADS - 1, service.getHitCount());
+
+			// Cached
+			Assert.assertSame(expected, service.structDescriptor("OSM_CUSTOMER", null));
+			Assert.assertEquals(1, service.loadCount.get());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testFailedLoadIsEvicted() throws Exception {
+		BlockingDefinitionService service = new BlockingDefinitionService(true);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<StructDescriptor>> results = submitRequests(service, executor);
+			awaitWaitingRequests(service);
+			service.release.countDown();
+
+			for (Future<StructDescriptor> result : results) {
+				try {
+					result.get(5, TimeUnit.SECONDS);
+					Assert.fail("Expected load error");
+				}
+				catch (ExecutionException ex) {
+					Assert.assertTrue(ex.getCause() instanceof OsmConnectorException);
+				}
+			}
+			Assert.assertEquals(1, service.loadCount.get());
+			Assert.assertEquals(1, service.getLoadErrorCount());
+
+			// The failed load is not cached: the next request loads the type again
+			service.fail = false;
+			Assert.assertNotNull(service.structDescriptor("OSM_CUSTOMER", null));
+			Assert.assertEquals(2, service.loadCount.get());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private List<Future<StructDescriptor>> submitRequests(BlockingDefinitionService service,
+		ExecutorService executor) {
+		List<Future<StructDescriptor>> results = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			results.add(executor.submit(() -> service.structDescriptor("OSM_CUSTOMER", null)));
+		}
+		return results;
+	}
+
+	/**
+	 * Waits until every request is either loading or waiting for the load in progress.
+	 */
+	private void awaitWaitingRequests(BlockingDefinitionService service) throws InterruptedException {
+		Assert.assertTrue(service.started.await(5, TimeUnit.SECONDS));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (service.getHitCount() < THREADS - 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+		Assert.assertEquals(THREADS - 1, service.getHitCount());
+	}
+
+	/**
+	 * Definition service whose loads wait until released.
+	 */
+	private static class BlockingDefinitionService extends AbstractStructDefinitionService {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final AtomicInteger loadCount = new AtomicInteger();
+		private volatile boolean fail;
+
+		BlockingDefinitionService(boolean fail) {
+			this.fail = fail;
+		}
+
+		@Override
+		protected StructDescriptor loadStructDescriptor(String typeName, Connection connection) throws Exception {
+			loadCount.incrementAndGet();
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			if (fail) {
+				throw new SQLException("Expected");
+			}
+			return new SpringObjenesis().newInstance(StructDescriptor.class);
+		}
+
+		@Override
+		protected ArrayDescriptor loadArrayDescriptor(String typeName, Connection connection) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Attribute;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Entry;
+import org.lab.osm.connector.mapper.impl.BinaryDescriptorStore.Kind;
+
+public class BinaryDescriptorStoreTest {
+
+	private static final String DRIVER_VERSION = "11.2.0.4.0";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		File file = new File(folder.getRoot(), "store.bin");
+		BinaryDescriptorStore store = new BinaryDescriptorStore(file, DRIVER_VERSION);
+		store.put(new Entry(Kind.STRUCT, "OSM_CUSTOMER", Arrays.asList( //@formatter:off
+			new Attribute("ID", Types.NUMERIC, "NUMBER", 10, 0),
+			new Attribute("NAME", Types.VARCHAR, "VARCHAR2", 100, 0),
+			new Attribute("ADDRESS", Types.STRUCT, null, 0, 0)), //@formatter:on
+			new byte[] { 1, 2, 3 }));
+		store.put(new Entry(Kind.ARRAY, "OSM_CUSTOMER_LIST",
+			Arrays.asList(new Attribute("COLUMN_VALUE", Types.STRUCT, "OSM_CUSTOMER", 0, 0)), new byte[] { 4, 5 }));
+		store.flush();
+
+		BinaryDescriptorStore readed = new BinaryDescriptorStore(file, DRIVER_VERSION);
+		Assert.assertEquals(2, readed.size());
+		Entry struct = readed.get(Kind.STRUCT, "OSM_CUSTOMER");
+		Assert.assertEquals(3, struct.getAttributes().size());
+		Assert.assertEquals("NAME", struct.getAttributes().get(1).getName());
+		Assert.assertEquals(100, struct.getAttributes().get(1).getPrecision());
+		Assert.assertNull(struct.getAttributes().get(2).getTypeName());
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, struct.getPayload());
+		Assert.assertArrayEquals(new byte[] { 4, 5 }, readed.get(Kind.ARRAY, "OSM_CUSTOMER_LIST").getPayload());
+		Assert.assertNull(readed.get(Kind.ARRAY, "OSM_CUSTOMER"));
+	}
+
+	@Test
+	public void testDriverVersionMismatch() throws Exception {
+		File file = new File(folder.getRoot(), "store.bin");
+		BinaryDescriptorStore store = new BinaryDescriptorStore(file, DRIVER_VERSION);
+		store.put(new Entry(Kind.STRUCT, "OSM_CUSTOMER", Arrays.asList(), new byte[] { 1 }));
+		store.flush();
+		Assert.assertEquals(0, new BinaryDescriptorStore(file, "12.1.0.2").size());
+	}
+
+	@Test
+	public void testCorruptedFile() throws Exception {
+		File file = new File(folder.getRoot(), "store.bin");
+		Files.write(file.toPath(), new byte[] { 0x4F, 0x53, 0x4D });
+		Assert.assertEquals(0, new BinaryDescriptorStore(file, DRIVER_VERSION).size());
+	}
+
+	@Test
+	public void testTruncatedFile() throws Exception {
+		File file = new File(folder.getRoot(), "store.bin");
+		BinaryDescriptorStore store = new BinaryDescriptorStore(file, DRIVER_VERSION);
+		store.put(new Entry(Kind.STRUCT, "OSM_CUSTOMER", Arrays.asList(), new byte[] { 1, 2, 3, 4 }));
+		store.flush();
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 2));
+		Assert.assertEquals(0, new BinaryDescriptorStore(file, DRIVER_VERSION).size());
+	}
+
+}
@@ -0,0 +1,146 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.support.Stubs;
+import org.springframework.objenesis.SpringObjenesis;
+
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+
+public class DefaultPrimitiveArrayMapperTest {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+	private static final String COLLECTION_NAME = "OSM_VALUE_LIST";
+
+	private final ArrayDescriptor descriptor = OBJENESIS.newInstance(ArrayDescriptor.class);
+	private final Connection connection = Stubs.unsupported(Connection.class);
+
+	@Test
+	public void testLongArray() throws Exception {
+		long[] values = { 1L, Long.MAX_VALUE, 0L };
+		DefaultPrimitiveArrayMapper<long[]> mapper = createMapper(long[].class);
+
+		TestArray array = (TestArray) mapper.toArray(values, connection);
+		Assert.assertSame(values, array.elements);
+		Assert.assertSame(descriptor, array.descriptor);
+		Assert.assertArrayEquals(values, mapper.fromArray(array));
+		Assert.assertEquals(long[].class, mapper.getArrayClass());
+	}
+
+	@Test
+	public void testIntArray() throws Exception {
+		int[] values = { 1, Integer.MIN_VALUE, 0 };
+		DefaultPrimitiveArrayMapper<int[]> mapper = createMapper(int[].class);
+
+		TestArray array = (TestArray) mapper.toArray(values, connection);
+		Assert.assertSame(values, array.elements);
+		Assert.assertArrayEquals(values, mapper.fromArray(array));
+	}
+
+	@Test
+	public void testDoubleArray() throws Exception {
+		double[] values = { 1.5d, -0.25d, 0d };
+		DefaultPrimitiveArrayMapper<double[]> mapper = createMapper(double[].class);
+
+		TestArray array = (TestArray) mapper.toArray(values, connection);
+		Assert.assertSame(values, array.elements);
+		Assert.assertArrayEquals(values, mapper.fromArray(array), 0d);
+	}
+
+	@Test
+	public void testStringArray() throws Exception {
+		String[] values = { "a", null, "c" };
+		DefaultPrimitiveArrayMapper<String[]> mapper = createMapper(String[].class);
+
+		TestArray array = (TestArray) mapper.toArray(values, connection);
+		Assert.assertSame(values, array.elements);
+		Assert.assertArrayEquals(values, mapper.fromArray(array));
+	}
+
+	@Test
+	public void testStringArrayOfNumbers() throws Exception {
+		DefaultPrimitiveArrayMapper<String[]> mapper = createMapper(String[].class);
+		Object[] values = { new BigDecimal("12"), null, new BigDecimal("1E+3"), new BigDecimal("0.50") };
+		Assert.assertArrayEquals(new String[] { "12", null, "1000", "0.50" },
+			mapper.fromArray(TestArray.of(values)));
+	}
+
+	@Test
+	public void testNullArrays() throws Exception {
+		Assert.assertNull(createMapper(long[].class).fromArray(null));
+		Assert.assertNull(createMapper(String[].class).fromArray(null));
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testUnsupportedArrayClass() {
+		createMapper(Long[].class);
+	}
+
+	private <A> DefaultPrimitiveArrayMapper<A> createMapper(Class<A> arrayClass) {
+		StructDefinitionService definitionService = Stubs.stub(StructDefinitionService.class)
+			.on("arrayDescriptor", args -> {
+				Assert.assertEquals(COLLECTION_NAME, args[0]);
+				Assert.assertSame(connection, args[1]);
+				return descriptor;
+			}).build();
+		OracleTypeFactory typeFactory = Stubs.stub(OracleTypeFactory.class)
+			.on("createPrimitiveArray", args -> TestArray.of((ArrayDescriptor) args[0], args[2])).build();
+		return new DefaultPrimitiveArrayMapper<>(arrayClass, COLLECTION_NAME, definitionService, typeFactory);
+	}
+
+	/**
+	 * In-memory ARRAY answering the accessors of its element type.
+	 */
+	private static class TestArray extends ARRAY {
+
+		private static final long serialVersionUID = 1L;
+
+		private ArrayDescriptor descriptor;
+		private Object elements;
+
+		private TestArray() throws SQLException {
+			// Never invoked: instances are created by Objenesis
+			super((ArrayDescriptor) null, (Connection) null, (Object) null);
+		}
+
+		static TestArray of(Object elements) {
+			return of(null, elements);
+		}
+
+		static TestArray of(ArrayDescriptor descriptor, Object elements) {
+			TestArray array = OBJENESIS.newInstance(TestArray.class);
+			array.descriptor = descriptor;
+			array.elements = elements;
+			return array;
+		}
+
+		@Override
+		public Object getArray() {
+			return elements;
+		}
+
+		@Override
+		public long[] getLongArray() {
+			return (long[]) elements;
+		}
+
+		@Override
+		public int[] getIntArray() {
+			return (int[]) elements;
+		}
+
+		@Override
+		public double[] getDoubleArray() {
+			return (double[]) elements;
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.springframework.util.FileCopyUtils;
+
+public class EntityAccessorTest {
+
+	@Test
+	public void testAccessors() {
+		EntityAccessor<Item> accessor = EntityAccessor.forClass(Item.class);
+		Assert.assertSame(accessor, EntityAccessor.forClass(Item.class));
+
+		Item item = accessor.newInstance();
+		EntityPropertyAccessor name = accessor.property("name");
+		EntityPropertyAccessor count = accessor.property("count");
+		EntityPropertyAccessor comments = accessor.property("comments");
+		name.set(item, "first");
+		count.set(item, 3);
+		comments.set(item, "field access");
+
+		Assert.assertEquals(String.class, name.getType());
+		Assert.assertEquals(int.class, count.getType());
+		Assert.assertEquals("first", item.getName());
+		Assert.assertEquals("first", name.get(item));
+		Assert.assertEquals(3, count.get(item));
+		Assert.assertEquals("field access", comments.get(item));
+
+		// null values of primitive properties are ignored
+		count.set(item, null);
+		Assert.assertEquals(3, item.getCount());
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testUndefinedProperty() {
+		EntityAccessor.forClass(Item.class).property("undefined");
+	}
+
+	@Test
+	public void testClassNotVisibleFromLibrary() throws Exception {
+		Class<?> isolatedClass = new IsolatedClassLoader(Item.class).loadClass(Item.class.getName());
+		Assert.assertNotSame(Item.class, isolatedClass);
+		Assert.assertFalse(EntityAccessor.isVisible(isolatedClass));
+
+		EntityAccessor<?> accessor = EntityAccessor.forClass(isolatedClass);
+		Object item = accessor.newInstance();
+		accessor.property("name").set(item, "isolated");
+		accessor.property("count").set(item, 7);
+		Assert.assertEquals("isolated", accessor.property("name").get(item));
+		Assert.assertEquals(7, accessor.property("count").get(item));
+	}
+
+	public static class Item {
+
+		private String name;
+		private int count;
+		private String comments;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+
+	/**
+	 * Defines its own copy of a given class, as a web application class loader does.
+	 */
+	private static class IsolatedClassLoader extends ClassLoader {
+
+		private final Class<?> isolatedClass;
+
+		IsolatedClassLoader(Class<?> isolatedClass) {
+			super(isolatedClass.getClassLoader());
+			this.isolatedClass = isolatedClass;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.equals(isolatedClass.getName())) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> result = findLoadedClass(name);
+				if (result == null) {
+					String resource = name.replace('.', '/') + ".class";
+					try (InputStream in = getParent().getResourceAsStream(resource)) {
+						byte[] bytes = FileCopyUtils.copyToByteArray(in);
+						result = defineClass(name, bytes, 0, bytes.length);
+					}
+					catch (IOException ex) {
+						throw new ClassNotFoundException(name, ex);
+					}
+				}
+				return result;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,182 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.support.Stubs;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
+import oracle.sql.STRUCT;
+
+public class LazyStructListTest {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	@Test
+	public void testPageLoading() throws Exception {
+		TestArray array = TestArray.of(5);
+		IndexMapper mapper = new IndexMapper(array);
+		LazyStructList<Integer> list = new LazyStructList<>(array, mapper, 2);
+
+		Assert.assertEquals(5, list.size());
+		Assert.assertTrue(array.reads.isEmpty());
+
+		Assert.assertEquals(Integer.valueOf(0), list.get(0));
+		Assert.assertEquals(Integer.valueOf(1), list.get(1));
+		Assert.assertEquals(Integer.valueOf(0), list.get(0));
+		Assert.assertEquals(Arrays.asList("1:2"), array.reads);
+		Assert.assertEquals(2, mapper.decodeCount);
+
+		// Last (partial) page
+		Assert.assertEquals(Integer.valueOf(4), list.get(4));
+		Assert.assertEquals(Arrays.asList("1:2", "5:1"), array.reads);
+
+		// Released pages are read and decoded again
+		Assert.assertEquals(Integer.valueOf(1), list.get(1));
+		Assert.assertEquals(Arrays.asList("1:2", "5:1", "1:2"), array.reads);
+		Assert.assertEquals(4, mapper.decodeCount);
+
+		Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), new ArrayList<>(list));
+	}
+
+	@Test
+	public void testNullElements() throws Exception {
+		TestArray array = TestArray.of(3);
+		array.elements[1] = null;
+		LazyStructList<Integer> list = new LazyStructList<>(array, new IndexMapper(array), 2);
+		Assert.assertEquals(Arrays.asList(0, null, 2), new ArrayList<>(list));
+	}
+
+	@Test
+	public void testIndexBounds() throws Exception {
+		TestArray array = TestArray.of(3);
+		LazyStructList<Integer> list = new LazyStructList<>(array, new IndexMapper(array), 2);
+		for (int index : new int[] { -1, 3 }) {
+			try {
+				list.get(index);
+				Assert.fail("Expected IndexOutOfBoundsException for index " + index);
+			}
+			catch (IndexOutOfBoundsException ex) {
+				Assert.assertTrue(array.reads.isEmpty());
+			}
+		}
+		Assert.assertTrue(new LazyStructList<>(TestArray.of(0), new IndexMapper(array)).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPageSize() throws Exception {
+		TestArray array = TestArray.of(1);
+		new LazyStructList<>(array, new IndexMapper(array), 0);
+	}
+
+	@Test
+	public void testFromArrayLazyRequiresTransaction() throws Exception {
+		TestArray array = TestArray.of(3);
+		StructMapperService mapperService = Stubs.stub(StructMapperService.class)
+			.on("mapper", args -> new IndexMapper(array)).build();
+		MetadataArrayMapper<Integer> arrayMapper = new MetadataArrayMapper<>(Integer.class, "OSM_ID_LIST",
+			mapperService, new MappingMetadata(), Stubs.unsupported(StructDefinitionService.class));
+		try {
+			arrayMapper.fromArrayLazy(array);
+			Assert.fail("Expected OsmMappingException outside a transaction");
+		}
+		catch (OsmMappingException ex) {
+			Assert.assertTrue(array.reads.isEmpty());
+		}
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			List<Integer> list = arrayMapper.fromArrayLazy(array);
+			Assert.assertTrue(list instanceof LazyStructList);
+			Assert.assertEquals(Integer.valueOf(2), list.get(2));
+		}
+		finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+	}
+
+	/**
+	 * Decodes each STRUCT to its index in the array.
+	 */
+	private static class IndexMapper implements StructMapper<Integer> {
+
+		private final Map<Object, Integer> indexes = new IdentityHashMap<>();
+		private int decodeCount;
+
+		IndexMapper(TestArray array) {
+			for (int i = 0; i < array.elements.length; i++) {
+				indexes.put(array.elements[i], i);
+			}
+		}
+
+		@Override
+		public STRUCT toStruct(Integer source, Connection conn) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Integer fromStruct(STRUCT struct) {
+			decodeCount++;
+			return indexes.get(struct);
+		}
+	}
+
+	/**
+	 * In-memory ARRAY recording the pages read.
+	 */
+	private static class TestArray extends ARRAY {
+
+		private static final long serialVersionUID = 1L;
+
+		private Object[] elements;
+		private List<String> reads;
+
+		private TestArray() throws SQLException {
+			// Never invoked: instances are created by Objenesis
+			super((ArrayDescriptor) null, (Connection) null, (Object) null);
+		}
+
+		static TestArray of(int size) {
+			TestArray array = OBJENESIS.newInstance(TestArray.class);
+			array.elements = new Object[size];
+			array.reads = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				array.elements[i] = OBJENESIS.newInstance(STRUCT.class);
+			}
+			return array;
+		}
+
+		@Override
+		public String getSQLTypeName() {
+			return "OSM_ID_LIST";
+		}
+
+		@Override
+		public Object getArray(long index, int count) {
+			reads.add(index + ":" + count);
+			int from = (int) index - 1;
+			return Arrays.copyOfRange(elements, from, from + count);
+		}
+
+		@Override
+		public int length() {
+			return elements.length;
+		}
+	}
+
+}
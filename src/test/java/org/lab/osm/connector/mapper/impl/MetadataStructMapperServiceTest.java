@@ -0,0 +1,91 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.mapper.ArrayMapper;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.impl.model.Address;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.lab.osm.connector.support.Stubs;
+
+public class MetadataStructMapperServiceTest {
+
+	@Test
+	public void testMappersAreRegisteredAndShared() {
+		MetadataStructMapperService service = createService();
+
+		StructMapper<Customer> customerMapper = service.mapper(Customer.class);
+		Assert.assertTrue(customerMapper instanceof MetadataStructMapper);
+		Assert.assertSame(customerMapper, service.mapper(Customer.class));
+		Assert.assertNotSame(customerMapper, service.mapper(Address.class));
+
+		ArrayMapper<String> phones = service.arrayMapper(String.class, "OSM_PHONE_LIST");
+		Assert.assertSame(phones, service.arrayMapper(String.class, "OSM_PHONE_LIST"));
+		Assert.assertNotSame(phones, service.arrayMapper(String.class, "OSM_OTHER_LIST"));
+		Assert.assertNotSame(phones, service.arrayMapper(Address.class, "OSM_PHONE_LIST"));
+
+		Assert.assertSame(service.primitiveArrayMapper(long[].class, "OSM_ID_LIST"),
+			service.primitiveArrayMapper(long[].class, "OSM_ID_LIST"));
+		Assert.assertNotSame(service.primitiveArrayMapper(long[].class, "OSM_ID_LIST"),
+			service.primitiveArrayMapper(int[].class, "OSM_ID_LIST"));
+	}
+
+	@Test
+	public void testConcurrentMapperCreation() throws Exception {
+		MetadataStructMapperService service = createService();
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<StructMapper<Unregistered>>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				Callable<StructMapper<Unregistered>> task = () -> {
+					start.await();
+					return service.mapper(Unregistered.class);
+				};
+				results.add(executor.submit(task));
+			}
+			start.countDown();
+			StructMapper<Unregistered> expected = results.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<StructMapper<Unregistered>> result : results) {
+				Assert.assertSame(expected, result.get(5, TimeUnit.SECONDS));
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private MetadataStructMapperService createService() {
+		MetadataCollector collector = (metadata, packageName) -> {
+			metadata.registerPackageName(packageName);
+			metadata.register(struct(Customer.class, "OSM_CUSTOMER"));
+			metadata.register(struct(Address.class, "OTHER.OSM_ADDRESS"));
+		};
+		return new MetadataStructMapperService(Stubs.unsupported(StructDefinitionService.class), collector,
+			new String[] { Customer.class.getPackage().getName() });
+	}
+
+	private StructMetadata struct(Class<?> mappedClass, String name) {
+		StructMetadata struct = new StructMetadata();
+		struct.setMappedClass(mappedClass);
+		struct.setStrucyName(name);
+		return struct;
+	}
+
+	public static class Unregistered {
+	}
+
+}
@@ -0,0 +1,87 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.springframework.objenesis.SpringObjenesis;
+
+import oracle.sql.STRUCT;
+
+public class ParallelArrayDecoderTest {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	@Test
+	public void testDecodePreservesOrder() throws Exception {
+		int size = ParallelArrayDecoder.MIN_CHUNK_SIZE * 20 + 7;
+		Object[] values = new Object[size];
+		Map<STRUCT, Integer> indexes = new IdentityHashMap<>();
+		for (int i = 0; i < size; i++) {
+			STRUCT struct = (STRUCT) allocateStruct();
+			values[i] = struct;
+			indexes.put(struct, i);
+		}
+		ParallelArrayDecoder decoder = new ParallelArrayDecoder(size, 4);
+		try {
+			Assert.assertFalse(decoder.accepts(size - 1));
+			Assert.assertTrue(decoder.accepts(size));
+			List<Integer> result = decoder.decode(values, new TestMapper(x -> indexes.get(x)));
+			Assert.assertEquals(size, result.size());
+			for (int i = 0; i < size; i++) {
+				Assert.assertEquals(Integer.valueOf(i), result.get(i));
+			}
+		}
+		finally {
+			decoder.destroy();
+		}
+	}
+
+	@Test(expected = SQLException.class)
+	public void testDecodeException() throws Exception {
+		Object[] values = new Object[ParallelArrayDecoder.MIN_CHUNK_SIZE * 4];
+		ParallelArrayDecoder decoder = new ParallelArrayDecoder(1, 2);
+		try {
+			decoder.decode(values, new TestMapper(x -> {
+				throw new SQLException("Expected");
+			}));
+		}
+		finally {
+			decoder.destroy();
+		}
+	}
+
+	private static Object allocateStruct() {
+		return OBJENESIS.newInstance(STRUCT.class);
+	}
+
+	@FunctionalInterface
+	private interface Decoder {
+		Integer decode(STRUCT struct) throws SQLException;
+	}
+
+	private static class TestMapper implements StructMapper<Integer> {
+
+		private final Decoder decoder;
+
+		TestMapper(Decoder decoder) {
+			this.decoder = decoder;
+		}
+
+		@Override
+		public STRUCT toStruct(Integer source, Connection conn) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Integer fromStruct(STRUCT struct) throws SQLException {
+			return decoder.decode(struct);
+		}
+	}
+
+}
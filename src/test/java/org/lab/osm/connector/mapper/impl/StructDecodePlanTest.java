@@ -0,0 +1,166 @@
+package org.lab.osm.connector.mapper.impl;
+
+import java.math.BigDecimal;
+import java.sql.ResultSetMetaData;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.converter.AttributeConverterRegistry;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.lab.osm.connector.support.Stubs;
+import org.springframework.objenesis.SpringObjenesis;
+
+import oracle.sql.STRUCT;
+
+public class StructDecodePlanTest {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	@Test
+	public void testDecodeByAttributePosition() throws Exception {
+		// Oracle attribute order differs from the metadata order and includes an unmapped attribute
+		StructDecodePlan plan = createPlan(Arrays.asList("NAME", "EXTRA", "ID", "AGE"));
+		Person person = new Person();
+		plan.decode(new Object[] { "John", "ignored", new BigDecimal("7"), new BigDecimal("42") }, person);
+
+		Assert.assertEquals("OSM_PERSON", plan.getTypeName());
+		Assert.assertEquals(Long.valueOf(7), person.getId());
+		Assert.assertEquals("John", person.getName());
+		Assert.assertEquals(42, person.getAge());
+	}
+
+	@Test
+	public void testDecodeNullAndMissingAttributes() throws Exception {
+		StructDecodePlan plan = createPlan(Arrays.asList("ID", "NAME", "AGE"));
+		Person person = new Person();
+		person.setName("previous");
+		person.setAge(3);
+		plan.decode(new Object[] { new BigDecimal("1"), null }, person);
+
+		Assert.assertEquals(Long.valueOf(1), person.getId());
+		Assert.assertNull(person.getName());
+		Assert.assertEquals(3, person.getAge());
+	}
+
+	@Test
+	public void testConversionErrorsAreLogged() throws Exception {
+		StructDecodePlan plan = createPlan(Arrays.asList("ID", "NAME", "AGE"));
+		Person person = new Person();
+		plan.decode(new Object[] { new BigDecimal("1E+30"), "John", BigDecimal.ONE }, person);
+
+		// As in the generated mappers the attribute is left unset and the other attributes are mapped
+		Assert.assertNull(person.getId());
+		Assert.assertEquals("John", person.getName());
+		Assert.assertEquals(1, person.getAge());
+	}
+
+	@Test
+	public void testDecodeStructOfNotAnnotatedProperty() throws Exception {
+		Location location = new Location();
+		STRUCT struct = OBJENESIS.newInstance(STRUCT.class);
+		StructMapperService mapperService = Stubs.stub(StructMapperService.class)
+			.on("mapper", args -> {
+				Assert.assertEquals(Location.class, args[0]);
+				return Stubs.stub(StructMapper.class).on("fromStruct", x -> x[0] == struct ? location : null).build();
+			}).build();
+		StructDecodePlan plan = createPlan(Arrays.asList("ID", "LOCATION"), mapperService);
+		Person person = new Person();
+		plan.decode(new Object[] { BigDecimal.ONE, struct }, person);
+
+		Assert.assertSame(location, person.getLocation());
+	}
+
+	@Test
+	public void testPlanIsReusable() throws Exception {
+		StructDecodePlan plan = createPlan(Arrays.asList("ID", "NAME", "AGE"));
+		Person first = new Person();
+		Person second = new Person();
+		plan.decode(new Object[] { new BigDecimal("1"), "first", BigDecimal.ONE }, first);
+		plan.decode(new Object[] { new BigDecimal("2"), "second", BigDecimal.TEN }, second);
+
+		Assert.assertEquals("first", first.getName());
+		Assert.assertEquals(Long.valueOf(2), second.getId());
+		Assert.assertEquals(10, second.getAge());
+	}
+
+	private StructDecodePlan createPlan(List<String> columns) throws Exception {
+		return createPlan(columns, Stubs.unsupported(StructMapperService.class));
+	}
+
+	private StructDecodePlan createPlan(List<String> columns, StructMapperService mapperService) throws Exception {
+		StructMetadata metadata = new StructMetadata();
+		metadata.setMappedClass(Person.class);
+		metadata.setStrucyName("OSM_PERSON");
+		metadata.registerField(field("ID", "id", BigDecimal.class));
+		metadata.registerField(field("NAME", "name", String.class));
+		metadata.registerField(field("AGE", "age", BigDecimal.class));
+		metadata.registerField(field("LOCATION", "location", STRUCT.class));
+		ResultSetMetaData rsmd = Stubs.stub(ResultSetMetaData.class) //@formatter:off
+			.on("getColumnCount", args -> columns.size())
+			.on("getColumnLabel", args -> columns.get((Integer) args[0] - 1))
+			.build(); //@formatter:on
+		return StructDecodePlan.create("OSM_PERSON", Person.class, metadata, rsmd, mapperService,
+			new AttributeConverterRegistry());
+	}
+
+	private FieldMetadata field(String columnName, String javaName, Class<?> columnClass) {
+		FieldMetadata field = new FieldMetadata();
+		field.setOracleColumnName(columnName);
+		field.setJavaAttributeName(javaName);
+		field.setOracleColumnClassName(columnClass.getName());
+		field.setMapped(true);
+		return field;
+	}
+
+	public static class Person {
+
+		private Long id;
+		private String name;
+		private int age;
+		private Location location;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public Location getLocation() {
+			return location;
+		}
+
+		public void setLocation(Location location) {
+			this.location = location;
+		}
+	}
+
+	/**
+	 * Nested type not annotated with OracleStruct.
+	 */
+	public static class Location {
+	}
+
+}
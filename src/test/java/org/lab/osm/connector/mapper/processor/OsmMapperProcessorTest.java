@@ -0,0 +1,196 @@
+package org.lab.osm.connector.mapper.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.lab.osm.connector.mapper.GeneratedStructMapper;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.StructMapper;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.mapper.converter.AttributeConverter;
+import org.lab.osm.connector.support.Stubs;
+import org.springframework.beans.BeanUtils;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
+
+public class OsmMapperProcessorTest {
+
+	private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+	private static final String CUSTOMER_SOURCE = String.join("\n", //@formatter:off
+		"package demo;",
+		"import org.lab.osm.connector.annotation.*;",
+		"@OracleStruct(\"CUSTOMER\")",
+		"public class Customer {",
+		"  private long id;",
+		"  String name;",
+		"  public long getId() { return id; }",
+		"  public void setId(long id) { this.id = id; }",
+		"}"); //@formatter:on
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testGeneratedMapper() throws IOException {
+		File generated = process(String.join("\n", //@formatter:off
+			"package demo;",
+			"import java.util.List;",
+			"import org.lab.osm.connector.annotation.*;",
+			"@OracleStruct(\"CUSTOMER\")",
+			"public class Customer {",
+			"  private static final int VERSION = 1;",
+			"  private long id;",
+			"  String name;",
+			"  @OracleCollection(\"ADDRESS_LIST\") private List<Address> addresses;",
+			"  public long getId() { return id; }",
+			"  public void setId(long id) { this.id = id; }",
+			"  public List<Address> getAddresses() { return addresses; }",
+			"  public void setAddresses(List<Address> addresses) { this.addresses = addresses; }",
+			"  @OracleStruct(\"ADDRESS\") public static class Address { String street; }",
+			"}")); //@formatter:on
+
+		String source = read(new File(generated, "demo/CustomerOsmMapper.java"));
+		Assert.assertTrue(source.contains("new String[] { \"id\", \"name\", \"addresses\" }"));
+		Assert.assertTrue(source.contains("if (attributes[0] != null) target.setId((java.lang.Long) readValue(0, "
+			+ "attributes[0]));"));
+		Assert.assertTrue(source.contains("readFailed(0, attributes[0], ex);"));
+		Assert.assertTrue(source.contains("target.name = (java.lang.String) readValue(1, attributes[1]);"));
+		Assert.assertTrue(source.contains("readArray(attributes[2], demo.Customer.Address.class, \"ADDRESS_LIST\")"));
+		Assert.assertTrue(new File(generated, "demo/Customer_AddressOsmMapper.java").exists());
+	}
+
+	@Test
+	public void testDisabledByDefault() throws IOException {
+		File generated = process(CUSTOMER_SOURCE, false);
+		Assert.assertFalse(new File(generated, "demo/CustomerOsmMapper.java").exists());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testConversionErrorsAreLogged() throws Exception {
+		File classes = folder.newFolder("classes");
+		compile(CUSTOMER_SOURCE, true, "-d", classes.getAbsolutePath());
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toURI().toURL() },
+			getClass().getClassLoader())) {
+			GeneratedStructMapper<Object> mapper = (GeneratedStructMapper<Object>) BeanUtils
+				.instantiateClass(classLoader.loadClass("demo.CustomerOsmMapper"));
+			AttributeConverter<?>[] converters = { //@formatter:off
+				AttributeConverter.of(Long.class, x -> ((BigDecimal) x).longValueExact(), x -> x),
+				AttributeConverter.of(String.class, x -> (String) x, x -> x) }; //@formatter:on
+			mapper.bind(Stubs.unsupported(StructMapperService.class), Stubs.unsupported(StructDefinitionService.class),
+				Stubs.unsupported(OracleTypeFactory.class), Stubs.unsupported(StructMapper.class), converters);
+
+			// As in the metadata mapper the attribute is left unset and the other attributes are mapped
+			Object customer = mapper.fromStruct(TestStruct.of(new BigDecimal("1E+30"), "John"));
+			Assert.assertEquals(0L, ReflectionTestUtils.getField(customer, "id"));
+			Assert.assertEquals("John", ReflectionTestUtils.getField(customer, "name"));
+		}
+	}
+
+	@Test
+	public void testSkippedWithoutAccessors() throws IOException {
+		File generated = process(String.join("\n", //@formatter:off
+			"package demo;",
+			"import org.lab.osm.connector.annotation.*;",
+			"@OracleStruct(\"CUSTOMER\")",
+			"public class Customer {",
+			"  private String name;",
+			"}")); //@formatter:on
+
+		Assert.assertFalse(new File(generated, "demo/CustomerOsmMapper.java").exists());
+	}
+
+	@Test
+	public void testAccessorNames() {
+		Assert.assertEquals("getName", OsmMapperProcessor.lombokGetterName("name", false));
+		Assert.assertEquals("isActive", OsmMapperProcessor.lombokGetterName("active", true));
+		Assert.assertEquals("isActive", OsmMapperProcessor.lombokGetterName("isActive", true));
+		Assert.assertEquals("setActive", OsmMapperProcessor.lombokSetterName("isActive", true));
+		Assert.assertEquals("setIsActive", OsmMapperProcessor.lombokSetterName("isActive", false));
+	}
+
+	private File process(String source) throws IOException {
+		return process(source, true);
+	}
+
+	private File process(String source, boolean enabled) throws IOException {
+		File generated = folder.newFolder("generated");
+		compile(source, enabled, "-proc:only", "-s", generated.getAbsolutePath());
+		return generated;
+	}
+
+	private void compile(String source, boolean enabled, String... options) throws IOException {
+		File sourceFolder = folder.newFolder("src", "demo");
+		File sourceFile = new File(sourceFolder, "Customer.java");
+		Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+		List<String> arguments = new ArrayList<>(Arrays.asList(options));
+		arguments.addAll(Arrays.asList( //@formatter:off
+			"-processor", OsmMapperProcessor.class.getName(),
+			"-classpath", System.getProperty("java.class.path"))); //@formatter:on
+		if (enabled) {
+			arguments.add("-A" + OsmMapperProcessor.OPTION_ENABLED + "=true");
+		}
+		arguments.add(sourceFile.getAbsolutePath());
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assert.assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+	}
+
+	private String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * In-memory STRUCT holding its attribute values.
+	 */
+	private static class TestStruct extends STRUCT {
+
+		private static final long serialVersionUID = 1L;
+
+		private Object[] attributes;
+
+		private TestStruct() throws SQLException {
+			// Never invoked: instances are created by Objenesis
+			super((StructDescriptor) null, (Connection) null, (Object[]) null);
+		}
+
+		static TestStruct of(Object... attributes) {
+			TestStruct struct = OBJENESIS.newInstance(TestStruct.class);
+			struct.attributes = attributes;
+			return struct;
+		}
+
+		@Override
+		public String getSQLTypeName() {
+			return "CUSTOMER";
+		}
+
+		@Override
+		public Object[] getAttributes() {
+			return attributes;
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+package org.lab.osm.connector.metadata.impl;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.metadata.impl.model.Address;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.support.Stubs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DefaultMetadataCollectorTest {
+
+	private static final String PACKAGE_NAME = "org.lab.osm.connector.metadata.impl.model";
+
+	@Test
+	public void testParallelAndSequentialMetadata() throws Exception {
+		TestCollector sequential = new TestCollector(1, null);
+		MappingMetadata expected = new MappingMetadata();
+		sequential.readMetadata(expected, PACKAGE_NAME);
+		Assert.assertEquals(1, sequential.connectionCount.get());
+
+		TestCollector parallel = new TestCollector(4, null);
+		MappingMetadata metadata = new MappingMetadata();
+		parallel.readMetadata(metadata, PACKAGE_NAME);
+		Assert.assertEquals(2, parallel.connectionCount.get());
+		Assert.assertTrue(parallel.threadNames.stream().allMatch(x -> x.startsWith("osm-metadata-")));
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		Assert.assertEquals(expected.getPackageNames(), metadata.getPackageNames());
+		Assert.assertEquals(2, metadata.getStructs().size());
+		for (Class<?> structClass : Arrays.asList(Customer.class, Address.class)) {
+			Assert.assertEquals(objectMapper.writeValueAsString(expected.getRequiredStruct(structClass)),
+				objectMapper.writeValueAsString(metadata.getRequiredStruct(structClass)));
+		}
+	}
+
+	@Test
+	public void testParallelErrorsArePropagated() {
+		TestCollector collector = new TestCollector(2, "OTHER.OSM_ADDRESS");
+		MappingMetadata metadata = new MappingMetadata();
+		try {
+			collector.readMetadata(metadata, PACKAGE_NAME);
+			Assert.fail("Expected OsmMappingException");
+		}
+		catch (OsmMappingException ex) {
+			Assert.assertTrue(ex.getMessage().contains("OTHER.OSM_ADDRESS"));
+			Assert.assertTrue(metadata.getStructs().isEmpty());
+		}
+	}
+
+	@Test
+	public void testReadEmptyStructMetadata() {
+		DefaultMetadataCollector collector = new DefaultMetadataCollector(Stubs.unsupported(DataSource.class));
+		Assert.assertTrue(collector.readStructMetadata(Collections.emptyList()).isEmpty());
+	}
+
+	/**
+	 * Collector answering the Oracle attributes from memory instead of reading the type descriptors.
+	 */
+	private static class TestCollector extends DefaultMetadataCollector {
+
+		private final String failingStruct;
+		private final AtomicInteger connectionCount;
+		private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		TestCollector(int parallelism, String failingStruct) {
+			this(parallelism, failingStruct, new AtomicInteger());
+		}
+
+		private TestCollector(int parallelism, String failingStruct, AtomicInteger connectionCount) {
+			super(Stubs.stub(DataSource.class).on("getConnection", args -> {
+				connectionCount.incrementAndGet();
+				return Stubs.stub(Connection.class).on("close", x -> null).build();
+			}).build(), parallelism);
+			this.failingStruct = failingStruct;
+			this.connectionCount = connectionCount;
+		}
+
+		@Override
+		protected List<FieldMetadata> readOracleFields(String structName, Connection connection) {
+			threadNames.add(Thread.currentThread().getName());
+			if (structName.equals(failingStruct)) {
+				throw new OsmMappingException("Error reading Oracle metadata for Struct " + structName);
+			}
+			if ("OSM_CUSTOMER".equals(structName)) {
+				return Arrays.asList( //@formatter:off
+					createOracleField("ID", "NUMBER", "java.math.BigDecimal", ""),
+					createOracleField("CUSTOMER_NAME", "VARCHAR2", "java.lang.String", ""),
+					createOracleField("ADDRESS", "OTHER.OSM_ADDRESS", "oracle.jdbc.OracleStruct", ""),
+					createOracleField("PHONES", "APP.OSM_PHONE_LIST", "oracle.jdbc.OracleArray", "")); //@formatter:on
+			}
+			return Arrays.asList( //@formatter:off
+				createOracleField("STREET", "VARCHAR2", "java.lang.String", ""),
+				createOracleField("UPDATED", "TIMESTAMP", "oracle.sql.TIMESTAMP", "")); //@formatter:on
+		}
+	}
+
+}
@@ -0,0 +1,166 @@
+package org.lab.osm.connector.metadata.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.metadata.impl.model.Address;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+import org.lab.osm.connector.metadata.model.FieldMetadata;
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.lab.osm.connector.support.Stubs;
+
+public class DictionaryMetadataCollectorTest {
+
+	private static final String PACKAGE_NAME = "org.lab.osm.connector.metadata.impl.model";
+
+	private static final List<String> ATTR_COLUMNS = Arrays.asList("TYPE_NAME", "ATTR_NAME", "ATTR_TYPE_OWNER",
+		"ATTR_TYPE_NAME");
+
+	@Test
+	public void testReadMetadata() {
+		StubDataSource dataSource = new StubDataSource();
+		dataSource.addTypeAttribute("APP", "OSM_CUSTOMER", "ID", null, "NUMBER");
+		dataSource.addTypeAttribute("APP", "OSM_CUSTOMER", "CUSTOMER_NAME", null, "VARCHAR2");
+		dataSource.addTypeAttribute("APP", "OSM_CUSTOMER", "ADDRESS", "OTHER", "OSM_ADDRESS");
+		dataSource.addTypeAttribute("APP", "OSM_CUSTOMER", "PHONES", "APP", "OSM_PHONE_LIST");
+		dataSource.addTypeAttribute("OTHER", "OSM_ADDRESS", "STREET", null, "VARCHAR2");
+		dataSource.addTypeAttribute("OTHER", "OSM_ADDRESS", "UPDATED", null, "TIMESTAMP(6)");
+		dataSource.addCollectionType("APP", "OSM_PHONE_LIST");
+
+		MappingMetadata metadata = new MappingMetadata();
+		new DictionaryMetadataCollector(dataSource.toDataSource()).readMetadata(metadata, PACKAGE_NAME);
+
+		Assert.assertEquals(Arrays.asList(PACKAGE_NAME), metadata.getPackageNames());
+		Assert.assertEquals(2, metadata.getStructs().size());
+		// current schema, attributes of both owners and collections of both owners
+		Assert.assertEquals(5, dataSource.queries.size());
+
+		StructMetadata customer = metadata.getRequiredStruct(Customer.class);
+		List<String> columns = customer.getFields().stream().map(FieldMetadata::getOracleColumnName)
+			.collect(Collectors.toList());
+		Assert.assertEquals(Arrays.asList("ID", "CUSTOMER_NAME", "ADDRESS", "PHONES"), columns);
+		Assert.assertTrue(customer.getFields().stream().allMatch(FieldMetadata::isMapped));
+		Assert.assertEquals("name", customer.findColumn("CUSTOMER_NAME").getJavaAttributeName());
+		Assert.assertEquals("java.math.BigDecimal", customer.findColumn("ID").getOracleColumnClassName());
+		Assert.assertEquals("OTHER.OSM_ADDRESS", customer.findColumn("ADDRESS").getOracleTypeName());
+		Assert.assertEquals("oracle.jdbc.OracleStruct", customer.findColumn("ADDRESS").getOracleColumnClassName());
+		Assert.assertEquals("APP.OSM_PHONE_LIST", customer.findColumn("PHONES").getOracleTypeName());
+		Assert.assertEquals("oracle.jdbc.OracleArray", customer.findColumn("PHONES").getOracleColumnClassName());
+		Assert.assertEquals(1, customer.getUnmappedFields().size());
+		Assert.assertEquals("comments", customer.getUnmappedFields().get(0).getJavaAttributeName());
+
+		StructMetadata address = metadata.getRequiredStruct(Address.class);
+		Assert.assertEquals("TIMESTAMP", address.findColumn("UPDATED").getOracleTypeName());
+		Assert.assertEquals("oracle.sql.TIMESTAMP", address.findColumn("UPDATED").getOracleColumnClassName());
+		Assert.assertEquals("", address.findColumn("UPDATED").getOracleSchemaName());
+	}
+
+	@Test
+	public void testReadSynonymMetadata() {
+		StubDataSource dataSource = new StubDataSource();
+		dataSource.addSynonym("PUBLIC", "OSM_CUSTOMER", "SHARED", "OSM_CUSTOMER_V2");
+		dataSource.addSynonym("APP", "OSM_CUSTOMER", "SHARED", "OSM_CUSTOMER_V1");
+		dataSource.addTypeAttribute("SHARED", "OSM_CUSTOMER_V1", "ID", null, "NUMBER");
+		dataSource.addTypeAttribute("SHARED", "OSM_CUSTOMER_V1", "CUSTOMER_NAME", null, "VARCHAR2");
+		dataSource.addTypeAttribute("SHARED", "OSM_CUSTOMER_V2", "ID", null, "NUMBER");
+		dataSource.addTypeAttribute("OTHER", "OSM_ADDRESS", "STREET", null, "VARCHAR2");
+
+		MappingMetadata metadata = new MappingMetadata();
+		new DictionaryMetadataCollector(dataSource.toDataSource()).readMetadata(metadata, PACKAGE_NAME);
+
+		// Private synonyms of the current schema take precedence over public synonyms
+		StructMetadata customer = metadata.getRequiredStruct(Customer.class);
+		Assert.assertEquals(2, customer.getFields().size());
+		Assert.assertEquals("name", customer.findColumn("CUSTOMER_NAME").getJavaAttributeName());
+		Assert.assertEquals(1, metadata.getRequiredStruct(Address.class).getFields().size());
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testUndefinedType() {
+		StubDataSource dataSource = new StubDataSource();
+		dataSource.addTypeAttribute("APP", "OSM_CUSTOMER", "ID", null, "NUMBER");
+		new DictionaryMetadataCollector(dataSource.toDataSource()).readMetadata(new MappingMetadata(), PACKAGE_NAME);
+	}
+
+	@Test
+	public void testReadEmptyStructMetadata() {
+		StubDataSource dataSource = new StubDataSource();
+		Assert.assertTrue(new DictionaryMetadataCollector(dataSource.toDataSource())
+			.readStructMetadata(Collections.emptyList()).isEmpty());
+		Assert.assertTrue(dataSource.queries.isEmpty());
+	}
+
+	/**
+	 * Stand-in data source answering the dictionary queries from memory.
+	 */
+	private static class StubDataSource {
+
+		private final List<Object[]> typeAttributes = new ArrayList<>();
+		private final List<Object[]> collectionTypes = new ArrayList<>();
+		private final List<Object[]> synonyms = new ArrayList<>();
+		private final List<String> queries = new ArrayList<>();
+
+		void addTypeAttribute(String owner, String typeName, String name, String typeOwner, String attrTypeName) {
+			typeAttributes.add(new Object[] { owner, typeName, name, typeOwner, attrTypeName });
+		}
+
+		void addCollectionType(String owner, String typeName) {
+			collectionTypes.add(new Object[] { owner, typeName });
+		}
+
+		void addSynonym(String owner, String name, String tableOwner, String tableName) {
+			synonyms.add(new Object[] { owner, name, tableOwner, tableName });
+		}
+
+		DataSource toDataSource() {
+			Connection connection = Stubs.stub(Connection.class) //@formatter:off
+				.on("prepareStatement", args -> statement((String) args[0]))
+				.on("close", args -> null)
+				.build(); //@formatter:on
+			return Stubs.stub(DataSource.class).on("getConnection", args -> connection).build();
+		}
+
+		private PreparedStatement statement(String sql) {
+			queries.add(sql);
+			Map<Integer, String> params = new HashMap<>();
+			return Stubs.stub(PreparedStatement.class) //@formatter:off
+				.on("setString", args -> params.put((Integer) args[0], (String) args[1]))
+				.on("executeQuery", args -> Stubs.resultSet(ATTR_COLUMNS, execute(sql, params)))
+				.on("close", args -> null)
+				.build(); //@formatter:on
+		}
+
+		private List<Object[]> execute(String sql, Map<Integer, String> params) {
+			List<Object[]> rows = new ArrayList<>();
+			if (sql.equals(DictionaryMetadataCollector.SQL_CURRENT_SCHEMA)) {
+				rows.add(new Object[] { "APP" });
+				return rows;
+			}
+			List<Object[]> source = sql.contains("ALL_TYPE_ATTRS") ? typeAttributes
+				: sql.contains("ALL_SYNONYMS") ? synonyms : collectionTypes;
+			String owner = params.get(1);
+			List<String> names = params.entrySet().stream().filter(x -> x.getKey() > 1).map(Map.Entry::getValue)
+				.collect(Collectors.toList());
+			for (Object[] row : source) {
+				if (row[0].equals(owner) && names.contains(row[1])) {
+					rows.add(Arrays.copyOfRange(row, 1, row.length));
+				}
+			}
+			return rows;
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+package org.lab.osm.connector.metadata.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.mapper.OracleTypeFactory;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.impl.MetadataStructMapperService;
+import org.lab.osm.connector.metadata.LazyMetadataCollector;
+import org.lab.osm.connector.metadata.MetadataCollector;
+import org.lab.osm.connector.metadata.impl.model.Address;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+import org.lab.osm.connector.metadata.model.MappingMetadata;
+import org.lab.osm.connector.metadata.model.StructMetadata;
+import org.lab.osm.connector.support.Stubs;
+
+public class LazyStructLoaderTest {
+
+	private final List<List<Class<?>>> requests = new ArrayList<>();
+
+	@Test
+	public void testLoadWithDependencies() {
+		List<StructMetadata> result = new LazyStructLoader(new TestCollector()).load(Customer.class, x -> false);
+		Assert.assertEquals(Arrays.asList(Customer.class, Address.class), mappedClasses(result));
+		Assert.assertEquals(1, requests.size());
+	}
+
+	@Test
+	public void testLoadSkipsLoadedDependencies() {
+		List<StructMetadata> result = new LazyStructLoader(new TestCollector()).load(Customer.class,
+			Address.class::equals);
+		Assert.assertEquals(Arrays.asList(Customer.class), mappedClasses(result));
+	}
+
+	@Test
+	public void testLazyMappingMetadata() {
+		MappingMetadata metadata = new MappingMetadata();
+		metadata.setStructLoader(new LazyStructLoader(new TestCollector()));
+		metadata.freeze();
+
+		Assert.assertTrue(metadata.getStructs().isEmpty());
+		Assert.assertNotNull(metadata.getStruct(Customer.class));
+		Assert.assertTrue(metadata.isDefinedStruct(Address.class));
+		Assert.assertFalse(metadata.isDefinedStruct(String.class));
+		Assert.assertEquals(2, metadata.getStructs().size());
+		Assert.assertEquals(1, requests.size());
+	}
+
+	@Test
+	public void testStructNameLookupsDoNotLoad() {
+		MappingMetadata metadata = new MappingMetadata();
+		metadata.setStructLoader(new LazyStructLoader(new TestCollector()));
+		metadata.freeze();
+
+		String structName = "ADDRESS";
+		Assert.assertNull(metadata.getStruct(structName));
+		Assert.assertFalse(metadata.isDefinedStruct(structName));
+		Assert.assertTrue(requests.isEmpty());
+
+		Assert.assertNotNull(metadata.getStruct(Customer.class));
+		Assert.assertNotNull(metadata.getStruct(structName));
+		Assert.assertTrue(metadata.isDefinedStruct(structName));
+	}
+
+	@Test
+	public void testUnsupportedCollector() {
+		Assert.assertTrue(LazyMetadataCollector.class.isAssignableFrom(DefaultMetadataCollector.class));
+		Assert.assertTrue(LazyMetadataCollector.class.isAssignableFrom(JsonMetadataCollector.class));
+		Assert.assertTrue(LazyMetadataCollector.class.isAssignableFrom(DictionaryMetadataCollector.class));
+		MetadataCollector collector = (metadata, packageName) -> {
+		};
+		try {
+			new MetadataStructMapperService(Stubs.unsupported(StructDefinitionService.class), collector,
+				new String[] { Customer.class.getPackage().getName() }, Stubs.unsupported(OracleTypeFactory.class),
+				null, true);
+			Assert.fail("Expected OsmConnectorException");
+		}
+		catch (OsmConnectorException ex) {
+			Assert.assertTrue(ex.getMessage().contains(collector.getClass().getName()));
+		}
+	}
+
+	private List<Class<?>> mappedClasses(List<StructMetadata> structs) {
+		return structs.stream().map(StructMetadata::getMappedClass).collect(Collectors.toList());
+	}
+
+	private class TestCollector implements LazyMetadataCollector {
+
+		@Override
+		public void readMetadata(MappingMetadata metadata, String packageName) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<StructMetadata> readStructMetadata(List<Class<?>> structClasses) {
+			requests.add(structClasses);
+			return structClasses.stream().map(x -> {
+				StructMetadata struct = new StructMetadata();
+				struct.setMappedClass(x);
+				struct.setStrucyName(x.getSimpleName().toUpperCase());
+				return struct;
+			}).collect(Collectors.toList());
+		}
+	}
+
+}
@@ -0,0 +1,32 @@
+package org.lab.osm.connector.metadata.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.metadata.NamingStrategy;
+
+public class NamingStrategyTest {
+
+	@Test
+	public void testDefaultNamingStrategy() {
+		NamingStrategy strategy = new DefaultNamingStrategy();
+		Assert.assertEquals(strategy.oracleName("CUSTOMER_NAME"), strategy.javaName("customerName"));
+		Assert.assertEquals(strategy.oracleName("CUSTOMERNAME"), strategy.javaName("customerName"));
+	}
+
+	@Test
+	public void testExactNamingStrategy() {
+		NamingStrategy strategy = new ExactNamingStrategy();
+		Assert.assertEquals(strategy.oracleName("CUSTOMER_NAME"), strategy.javaName("CUSTOMER_NAME"));
+		Assert.assertNotEquals(strategy.oracleName("CUSTOMER_NAME"), strategy.javaName("customerName"));
+	}
+
+	@Test
+	public void testSnakeCaseNamingStrategy() {
+		NamingStrategy strategy = new SnakeCaseNamingStrategy();
+		Assert.assertEquals("customerName", strategy.oracleName("CUSTOMER_NAME"));
+		Assert.assertEquals("id", strategy.oracleName("ID"));
+		Assert.assertEquals("lineNumber", strategy.oracleName("_LINE__NUMBER"));
+		Assert.assertNotEquals(strategy.oracleName("CUSTOMERNAME"), strategy.javaName("customerName"));
+	}
+
+}
@@ -0,0 +1,14 @@
+package org.lab.osm.connector.metadata.impl.model;
+
+import java.util.Date;
+
+import org.lab.osm.connector.annotation.OracleStruct;
+
+@OracleStruct("OTHER.OSM_ADDRESS")
+public class Address {
+
+	private String street;
+
+	private Date updated;
+
+}
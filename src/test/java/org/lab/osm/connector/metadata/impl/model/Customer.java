@@ -0,0 +1,25 @@
+package org.lab.osm.connector.metadata.impl.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.lab.osm.connector.annotation.OracleCollection;
+import org.lab.osm.connector.annotation.OracleField;
+import org.lab.osm.connector.annotation.OracleStruct;
+
+@OracleStruct("OSM_CUSTOMER")
+public class Customer {
+
+	private BigDecimal id;
+
+	@OracleField("CUSTOMER_NAME")
+	private String name;
+
+	private Address address;
+
+	@OracleCollection("OSM_PHONE_LIST")
+	private List<String> phones;
+
+	private String comments;
+
+}
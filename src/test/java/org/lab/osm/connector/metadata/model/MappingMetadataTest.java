@@ -0,0 +1,96 @@
+package org.lab.osm.connector.metadata.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.exception.OsmMappingException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class MappingMetadataTest {
+
+	@Test
+	public void testLookupByClass() {
+		MappingMetadata metadata = new MappingMetadata();
+		StructMetadata struct = struct(String.class, "OSM_STRING");
+		metadata.register(struct);
+		Assert.assertSame(struct, metadata.getStruct(String.class));
+		Assert.assertNull(metadata.getStruct(Integer.class));
+	}
+
+	@Test
+	public void testLookupByName() {
+		MappingMetadata metadata = new MappingMetadata();
+		StructMetadata struct = struct(String.class, "OSM_STRING");
+		metadata.register(struct);
+		Assert.assertSame(struct, metadata.getStruct("OSM_STRING"));
+		Assert.assertTrue(metadata.isDefinedStruct("OSM_STRING"));
+		Assert.assertFalse(metadata.isDefinedStruct("OSM_INTEGER"));
+	}
+
+	@Test
+	public void testLookupField() {
+		StructMetadata struct = struct(String.class, "OSM_STRING");
+		FieldMetadata field = new FieldMetadata();
+		field.setOracleColumnName("CUSTOMER_ID");
+		struct.registerField(field);
+		Assert.assertSame(field, struct.findColumn("CUSTOMER_ID"));
+		Assert.assertNull(struct.findColumn("customerId"));
+		Assert.assertSame(field, struct.findNormalizedField("CUSTOMERID"));
+		Assert.assertNull(struct.findNormalizedField("CUSTOMER"));
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testDuplicateClass() {
+		MappingMetadata metadata = new MappingMetadata();
+		metadata.register(struct(String.class, "OSM_STRING_01"));
+		metadata.register(struct(String.class, "OSM_STRING_02"));
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testDuplicateName() {
+		MappingMetadata metadata = new MappingMetadata();
+		metadata.register(struct(String.class, "OSM_STRING"));
+		metadata.register(struct(Integer.class, "OSM_STRING"));
+	}
+
+	@Test(expected = OsmMappingException.class)
+	public void testFrozen() {
+		MappingMetadata metadata = new MappingMetadata();
+		metadata.freeze();
+		metadata.register(struct(String.class, "OSM_STRING"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testReadOnlyStructs() {
+		new MappingMetadata().getStructs().add(struct(String.class, "OSM_STRING"));
+	}
+
+	@Test
+	public void testJsonRoundTrip() throws Exception {
+		MappingMetadata metadata = new MappingMetadata();
+		StructMetadata struct = struct(String.class, "OSM_STRING");
+		FieldMetadata field = new FieldMetadata();
+		field.setOracleColumnName("CUSTOMER_ID");
+		field.setJavaAttributeName("customerId");
+		struct.registerField(field);
+		metadata.register(struct);
+		metadata.registerPackageName("org.lab.osm");
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		MappingMetadata readed = objectMapper.readValue(objectMapper.writeValueAsString(metadata),
+			MappingMetadata.class);
+
+		Assert.assertEquals(1, readed.getPackageNames().size());
+		StructMetadata readedStruct = readed.getStruct(String.class);
+		Assert.assertNotNull(readedStruct);
+		Assert.assertEquals("customerId", readedStruct.findColumn("CUSTOMER_ID").getJavaAttributeName());
+	}
+
+	private StructMetadata struct(Class<?> mappedClass, String name) {
+		StructMetadata struct = new StructMetadata();
+		struct.setMappedClass(mappedClass);
+		struct.setStrucyName(name);
+		return struct;
+	}
+
+}
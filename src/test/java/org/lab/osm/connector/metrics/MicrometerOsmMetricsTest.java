@@ -0,0 +1,68 @@
+package org.lab.osm.connector.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerOsmMetricsTest {
+
+	@Test
+	public void testInvocation() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		OsmMetrics metrics = new MicrometerOsmMetrics(registry);
+		ProcedureMetrics procedure = metrics.procedureMetrics("OSM", "PKG_CUSTOMER", "UPDATE_CUSTOMER");
+
+		Assert.assertTrue(procedure.isEnabled());
+		Assert.assertSame(procedure, metrics.procedureMetrics("OSM", "PKG_CUSTOMER", "UPDATE_CUSTOMER"));
+
+		procedure.start();
+		procedure.recordBinding(TimeUnit.MILLISECONDS.toNanos(2));
+		procedure.recordDecoding(TimeUnit.MILLISECONDS.toNanos(3));
+		procedure.recordCollectionSize("OSM_ORDER_LINES", 10);
+		procedure.recordCollectionSize("OSM_ORDER_LINES", 20);
+		procedure.stop(true);
+		procedure.start();
+		procedure.stop(false);
+
+		Timer success = registry.find(MicrometerOsmMetrics.PROCEDURE_INVOCATION) //@formatter:off
+			.tag("owner", "OSM")
+			.tag("package", "PKG_CUSTOMER")
+			.tag("procedure", "UPDATE_CUSTOMER")
+			.tag("outcome", "success")
+			.timer(); //@formatter:on
+		Timer error = registry.find(MicrometerOsmMetrics.PROCEDURE_INVOCATION).tag("outcome", "error").timer();
+		Timer binding = registry.find(MicrometerOsmMetrics.PROCEDURE_BINDING).timer();
+		Timer execution = registry.find(MicrometerOsmMetrics.PROCEDURE_EXECUTION).timer();
+		DistributionSummary sizes = registry.find(MicrometerOsmMetrics.COLLECTION_SIZE)
+			.tag("type", "OSM_ORDER_LINES").summary();
+
+		Assert.assertEquals(1L, success.count());
+		Assert.assertEquals(1L, error.count());
+		Assert.assertEquals(2.0, binding.totalTime(TimeUnit.MILLISECONDS), 0.001);
+		Assert.assertEquals(2L, execution.count());
+		Assert.assertEquals(2L, sizes.count());
+		Assert.assertEquals(30.0, sizes.totalAmount(), 0.001);
+	}
+
+	@Test
+	public void testBlankPackage() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ProcedureMetrics procedure = new MicrometerOsmMetrics(registry).procedureMetrics("", "", "UPDATE_CUSTOMER");
+		procedure.start();
+		procedure.stop(true);
+		Assert.assertNotNull(registry.find(MicrometerOsmMetrics.PROCEDURE_INVOCATION).tag("package", "none").timer());
+	}
+
+	@Test
+	public void testNoOp() {
+		ProcedureMetrics procedure = NoOpOsmMetrics.INSTANCE.procedureMetrics("OSM", "PKG", "NAME");
+		Assert.assertFalse(procedure.isEnabled());
+		Assert.assertSame(NoOpOsmMetrics.PROCEDURE, procedure);
+	}
+
+}
@@ -0,0 +1,156 @@
+package org.lab.osm.connector.support;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dynamic proxy stand-ins of JDBC and service interfaces used by the unit tests.
+ *
+ * A stub answers the methods registered with {@link Builder#on(String, Answer)} or
+ * {@link Builder#onPrefix(String, Answer)}. Any other method throws
+ * <code>UnsupportedOperationException</code> or, for lenient stubs, returns the default value of its return type.
+ *
+ * @author lab.cabrera@gmail.com
+ * @since 1.1.0
+ */
+public final class Stubs {
+
+	private Stubs() {
+	}
+
+	/**
+	 * Answer of a stubbed method.
+	 */
+	@FunctionalInterface
+	public interface Answer {
+		Object answer(Object[] args) throws Exception;
+	}
+
+	/**
+	 * Creates a strict stub of a given interface.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public static <T> Builder<T> stub(Class<T> type) {
+		return new Builder<>(type, false);
+	}
+
+	/**
+	 * Creates a stub of a given interface returning default values for the methods without answer.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public static <T> Builder<T> lenient(Class<T> type) {
+		return new Builder<>(type, true);
+	}
+
+	/**
+	 * Stub of an interface rejecting every method.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public static <T> T unsupported(Class<T> type) {
+		return stub(type).build();
+	}
+
+	/**
+	 * Forward-only <code>ResultSet</code> over the given rows. Columns can be read by position or by label.
+	 *
+	 * @param columns Column labels.
+	 * @param rows
+	 * @return
+	 */
+	public static ResultSet resultSet(List<String> columns, List<Object[]> rows) {
+		int[] index = { -1 };
+		Answer getter = args -> {
+			Object[] row = rows.get(index[0]);
+			return args[0] instanceof Integer ? row[(Integer) args[0] - 1] : row[columns.indexOf(args[0])];
+		};
+		return stub(ResultSet.class) //@formatter:off
+			.on("next", args -> ++index[0] < rows.size())
+			.on("getString", getter)
+			.on("getObject", getter)
+			.on("close", args -> null)
+			.build(); //@formatter:on
+	}
+
+	/**
+	 * Default value of a given return type.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public static Object defaultValue(Class<?> type) {
+		if (type == boolean.class) {
+			return false;
+		}
+		else if (type == int.class) {
+			return 0;
+		}
+		else if (type == long.class) {
+			return 0L;
+		}
+		return null;
+	}
+
+	/**
+	 * Stub builder.
+	 */
+	public static class Builder<T> {
+
+		private final Class<T> type;
+		private final boolean lenient;
+		private final Map<String, Answer> answers = new HashMap<>();
+		private final Map<String, Answer> prefixAnswers = new HashMap<>();
+
+		private Builder(Class<T> type, boolean lenient) {
+			this.type = type;
+			this.lenient = lenient;
+		}
+
+		public Builder<T> on(String methodName, Answer answer) {
+			answers.put(methodName, answer);
+			return this;
+		}
+
+		/**
+		 * Answers every method whose name starts with the given prefix (and has no specific answer).
+		 */
+		public Builder<T> onPrefix(String prefix, Answer answer) {
+			prefixAnswers.put(prefix, answer);
+			return this;
+		}
+
+		public T build() {
+			Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(instance, method, args) -> {
+					Answer answer = answers.get(method.getName());
+					if (answer == null) {
+						answer = prefixAnswers.entrySet().stream() //@formatter:off
+							.filter(x -> method.getName().startsWith(x.getKey()))
+							.map(Map.Entry::getValue)
+							.findFirst()
+							.orElse(null); //@formatter:on
+					}
+					if (answer != null) {
+						return answer.answer(args != null ? args : new Object[0]);
+					}
+					else if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+						return "Stub of " + type.getName();
+					}
+					else if (lenient) {
+						return defaultValue(method.getReturnType());
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+			return type.cast(proxy);
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package org.lab.osm.connector.warmup;
+
+import java.sql.Connection;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lab.osm.connector.annotation.OracleParameter;
+import org.lab.osm.connector.annotation.OracleParameter.ParameterType;
+import org.lab.osm.connector.annotation.OracleStoredProcedure;
+import org.lab.osm.connector.exception.OsmConnectorException;
+import org.lab.osm.connector.exception.OsmMappingException;
+import org.lab.osm.connector.mapper.StructDefinitionService;
+import org.lab.osm.connector.mapper.StructMapperService;
+import org.lab.osm.connector.metadata.impl.model.Customer;
+import org.lab.osm.connector.support.Stubs;
+import org.lab.osm.connector.warmup.OsmWarmup.WarmupReport;
+import org.springframework.context.support.GenericApplicationContext;
+
+public class OsmWarmupTest {
+
+	private static final String[] EXECUTOR_PACKAGES = { OsmWarmupTest.class.getPackage().getName() };
+
+	private final List<String> loadedTypes = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void testDescriptorErrorsDoNotStopWarmup() {
+		WarmupReport report = createWarmup(2).warmup();
+
+		Assert.assertEquals(1, report.getStructDescriptors());
+		Assert.assertEquals(2, report.getArrayDescriptors());
+		Assert.assertEquals(2, report.getMappers());
+		Assert.assertEquals(1, report.getErrors());
+		Assert.assertEquals(3, loadedTypes.size());
+	}
+
+	@Test
+	public void testChildContextRefreshRunsOnce() {
+		try (GenericApplicationContext parent = new GenericApplicationContext()) {
+			OsmWarmup warmup = createWarmup(1);
+			parent.registerBean(OsmWarmup.class, () -> warmup);
+			// The failing descriptor does not prevent the context refresh
+			parent.refresh();
+			Assert.assertEquals(3, loadedTypes.size());
+
+			try (GenericApplicationContext child = new GenericApplicationContext(parent)) {
+				child.refresh();
+			}
+			Assert.assertEquals(3, loadedTypes.size());
+		}
+	}
+
+	@Test(expected = OsmConnectorException.class)
+	public void testInvalidParallelism() {
+		createWarmup(0);
+	}
+
+	private OsmWarmup createWarmup(int parallelism) {
+		DataSource dataSource = Stubs.stub(DataSource.class)
+			.on("getConnection", args -> Stubs.stub(Connection.class).on("close", x -> null).build()).build();
+		StructDefinitionService definitionService = Stubs.stub(StructDefinitionService.class) //@formatter:off
+			.on("structDescriptor", args -> load((String) args[0]))
+			.on("arrayDescriptor", args -> load((String) args[0]))
+			.build(); //@formatter:on
+		StructMapperService mapperService = Stubs.lenient(StructMapperService.class).build();
+		return new OsmWarmup(dataSource, definitionService, mapperService, EXECUTOR_PACKAGES, parallelism);
+	}
+
+	private Object load(String typeName) {
+		loadedTypes.add(typeName);
+		if ("OSM_MISSING_LIST".equals(typeName)) {
+			throw new OsmMappingException("Undefined type " + typeName);
+		}
+		return null;
+	}
+
+	@OracleStoredProcedure(name = "SP_SAVE", parameters = {
+		@OracleParameter(name = "P_CUSTOMER", typeName = "OSM_CUSTOMER", type = Types.STRUCT, mode = ParameterType.IN,
+			returnStructClass = Customer.class),
+		@OracleParameter(name = "P_PHONES", typeName = "OSM_PHONE_LIST", type = Types.ARRAY, mode = ParameterType.IN,
+			returnStructClass = Customer.class),
+		@OracleParameter(name = "P_MISSING", typeName = "OSM_MISSING_LIST", type = Types.ARRAY,
+			mode = ParameterType.OUT) })
+	interface SaveExecutor {
+	}
+
+}